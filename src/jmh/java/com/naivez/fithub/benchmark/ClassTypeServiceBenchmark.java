@@ -0,0 +1,55 @@
+package com.naivez.fithub.benchmark;
+
+import com.naivez.fithub.dto.ClassTypeDTO;
+import com.naivez.fithub.entity.TrainingClass;
+import com.naivez.fithub.mapper.ClassTypeMapper;
+import com.naivez.fithub.repository.TrainingClassRepository;
+import com.naivez.fithub.service.ClassTypeService;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassTypeServiceBenchmark {
+
+    @Param({"100", "10000"})
+    private int classCount;
+
+    private ClassTypeService classTypeService;
+
+    @Setup
+    public void setUp() {
+        List<TrainingClass> classes = new ArrayList<>();
+        for (int i = 0; i < classCount; i++) {
+            classes.add(TrainingClass.builder()
+                    .id((long) i)
+                    .name("class" + (i % 25))
+                    .description("description" + (i % 25))
+                    .startTime(LocalDateTime.now().plusHours(i))
+                    .endTime(LocalDateTime.now().plusHours(i + 1))
+                    .capacity(20)
+                    .build());
+        }
+        TrainingClassRepository trainingClassRepository = mock(TrainingClassRepository.class);
+        when(trainingClassRepository.findAll()).thenReturn(classes);
+
+        classTypeService = new ClassTypeService(trainingClassRepository, Mappers.getMapper(ClassTypeMapper.class));
+    }
+
+    @Benchmark
+    public List<ClassTypeDTO> getAllClassTypes() {
+        return classTypeService.getAllClassTypes();
+    }
+}
@@ -0,0 +1,94 @@
+package com.naivez.fithub.benchmark;
+
+import com.naivez.fithub.entity.Role;
+import com.naivez.fithub.entity.User;
+import com.naivez.fithub.repository.UserRepository;
+import com.naivez.fithub.security.JwtAuthenticationFilter;
+import com.naivez.fithub.security.JwtUtil;
+import com.naivez.fithub.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private static final String EMAIL = "client@fithub.com";
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private UserDetails userDetails;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970");
+        ReflectionTestUtils.setField(jwtUtil, "jwtExpiration", 86400000L);
+
+        User user = User.builder()
+                .id(1L)
+                .email(EMAIL)
+                .password("{bcrypt}$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z2PfFv1P0bVYhZj0P0kXvV3K")
+                .roles(new HashSet<>(Set.of(Role.builder().id(1L).name("ROLE_CLIENT").build())))
+                .build();
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+        CustomUserDetailsService userDetailsService = new CustomUserDetailsService(userRepository);
+
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, new SimpleMeterRegistry());
+        userDetails = userDetailsService.loadUserByUsername(EMAIL);
+        token = jwtUtil.generateToken(userDetails);
+
+        try {
+            if (filterAuthenticatedRequest() == null) {
+                throw new IllegalStateException("Filter benchmark did not authenticate the request");
+            }
+        } catch (Exception e) {
+            throw new IllegalStateException("Filter benchmark setup failed", e);
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userDetails);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, userDetails);
+    }
+
+    @Benchmark
+    public Object filterAuthenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/client/reservations");
+        request.addHeader("Authorization", "Bearer " + token);
+        FilterChain chain = new MockFilterChain();
+        try {
+            jwtAuthenticationFilter.doFilterInternal(request, new MockHttpServletResponse(), chain);
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
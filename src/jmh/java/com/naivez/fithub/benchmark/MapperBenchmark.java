@@ -0,0 +1,90 @@
+package com.naivez.fithub.benchmark;
+
+import com.naivez.fithub.dto.ReservationDTO;
+import com.naivez.fithub.dto.TrainingClassDTO;
+import com.naivez.fithub.entity.*;
+import com.naivez.fithub.mapper.ReservationMapper;
+import com.naivez.fithub.mapper.TrainingClassMapper;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "1000"})
+    private int reservationCount;
+
+    private TrainingClassMapper trainingClassMapper;
+    private ReservationMapper reservationMapper;
+    private TrainingClass trainingClass;
+    private List<Reservation> reservations;
+
+    @Setup
+    public void setUp() {
+        trainingClassMapper = Mappers.getMapper(TrainingClassMapper.class);
+        reservationMapper = Mappers.getMapper(ReservationMapper.class);
+
+        User trainer = User.builder()
+                .id(1L)
+                .email("trainer@fithub.com")
+                .firstName("trainer")
+                .lastName("trainer")
+                .build();
+        Room room = Room.builder()
+                .id(1L)
+                .name("room1")
+                .capacity(reservationCount)
+                .build();
+
+        Set<Reservation> classReservations = new HashSet<>();
+        trainingClass = TrainingClass.builder()
+                .id(1L)
+                .name("Yoga")
+                .trainer(trainer)
+                .room(room)
+                .startTime(LocalDateTime.now().plusDays(1))
+                .endTime(LocalDateTime.now().plusDays(1).plusHours(1))
+                .capacity(reservationCount)
+                .reservations(classReservations)
+                .build();
+
+        reservations = new ArrayList<>();
+        for (int i = 0; i < reservationCount; i++) {
+            Reservation reservation = Reservation.builder()
+                    .id((long) i)
+                    .user(User.builder().id((long) i + 2).email("client" + i + "@fithub.com").build())
+                    .trainingClass(trainingClass)
+                    .reservationDate(LocalDateTime.now())
+                    .status(i % 5 == 0 ? "CANCELLED" : "CONFIRMED")
+                    .build();
+            classReservations.add(reservation);
+            reservations.add(reservation);
+        }
+    }
+
+    @Benchmark
+    public TrainingClassDTO trainingClassToDto() {
+        return trainingClassMapper.toDto(trainingClass);
+    }
+
+    @Benchmark
+    public List<ReservationDTO> reservationsToDto() {
+        List<ReservationDTO> result = new ArrayList<>(reservations.size());
+        for (Reservation reservation : reservations) {
+            result.add(reservationMapper.toDto(reservation));
+        }
+        return result;
+    }
+}
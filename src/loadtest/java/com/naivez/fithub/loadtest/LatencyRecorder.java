@@ -0,0 +1,76 @@
+package com.naivez.fithub.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LatencyRecorder {
+
+    private final Map<String, EndpointSamples> samples = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    public void start() {
+        samples.clear();
+        recording = true;
+    }
+
+    public void stop() {
+        recording = false;
+    }
+
+    public void record(String endpoint, long latencyNanos, boolean success) {
+        if (recording) {
+            samples.computeIfAbsent(endpoint, key -> new EndpointSamples()).add(latencyNanos, success);
+        }
+    }
+
+    public List<LoadTestReport.EndpointResult> results(Duration elapsed) {
+        double seconds = elapsed.toMillis() / 1000.0;
+        return samples.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> entry.getValue().toResult(entry.getKey(), seconds))
+                .toList();
+    }
+
+    private static class EndpointSamples {
+
+        private final LongAdder errors = new LongAdder();
+        private long[] latencies = new long[1024];
+        private int size;
+
+        synchronized void add(long latencyNanos, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (!success) {
+                errors.increment();
+            }
+        }
+
+        synchronized LoadTestReport.EndpointResult toResult(String endpoint, double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new LoadTestReport.EndpointResult(
+                    endpoint,
+                    size,
+                    errors.sum(),
+                    seconds > 0 ? size / seconds : 0,
+                    percentile(sorted, 50),
+                    percentile(sorted, 90),
+                    percentile(sorted, 99),
+                    sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1_000_000.0);
+        }
+
+        private static double percentile(long[] sorted, double percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.naivez.fithub.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+
+import static com.naivez.fithub.loadtest.LoadTestSettings.ID_OFFSET;
+
+@Slf4j
+@RequiredArgsConstructor
+public class LoadTestDataGenerator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LoadTestSettings settings;
+
+    public void seed() {
+        Integer seededUsers = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users WHERE id >= ? AND id < ?", Integer.class,
+                ID_OFFSET, ID_OFFSET + settings.users());
+        if (seededUsers != null && seededUsers == settings.users()) {
+            log.info("Load test dataset already present - users: {}", seededUsers);
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        String passwordHash = PasswordEncoderFactories.createDelegatingPasswordEncoder().encode(LoadTestSettings.PASSWORD);
+        int users = settings.users();
+        int classes = settings.classes();
+        int trainers = Math.max(1, users / 500);
+        int rooms = Math.max(1, classes / 1_000);
+
+        execute("users",
+                "INSERT INTO users (id, email, password, first_name, last_name) " +
+                        "SELECT ? + g, 'loadtest' || g || '@fithub.test', ?, 'first' || g, 'last' || g " +
+                        "FROM generate_series(0, ? - 1) g",
+                ID_OFFSET, passwordHash, users);
+        execute("user roles",
+                "INSERT INTO user_roles (user_id, role_id) " +
+                        "SELECT ? + g, r.id FROM generate_series(0, ? - 1) g " +
+                        "JOIN roles r ON r.name = CASE WHEN g < ? THEN 'ROLE_TRAINER' ELSE 'ROLE_CLIENT' END",
+                ID_OFFSET, users, trainers);
+        execute("memberships",
+                "INSERT INTO memberships (id, user_id, type, start_date, end_date, price, active) " +
+                        "SELECT ? + g, ? + g, CASE WHEN g % 4 = 0 THEN 'YEARLY' ELSE 'MONTHLY' END, " +
+                        "CURRENT_DATE - (g % 300), DATE '2099-12-31', 49.99, true FROM generate_series(0, ? - 1) g",
+                ID_OFFSET, ID_OFFSET, users);
+        execute("rooms",
+                "INSERT INTO rooms (id, name, capacity) SELECT ? + g, 'loadtest-room' || g, 200 FROM generate_series(0, ? - 1) g",
+                ID_OFFSET, rooms);
+        execute("training classes",
+                "INSERT INTO training_classes (id, name, description, trainer_id, room_id, start_time, end_time, capacity, status) " +
+                        "SELECT ? + g, 'class' || (g % 40), 'load test class', ? + g % ?, ? + g % ?, " +
+                        "date_trunc('day', now()) + (g - ? / 2) * INTERVAL '30 minutes', " +
+                        "date_trunc('day', now()) + (g - ? / 2) * INTERVAL '30 minutes' + INTERVAL '1 hour', 200, 'SCHEDULED' " +
+                        "FROM generate_series(0, ? - 1) g",
+                ID_OFFSET, ID_OFFSET, trainers, ID_OFFSET, rooms, classes, classes, classes);
+        execute("reservations",
+                "INSERT INTO reservations (id, user_id, training_class_id, reservation_date, status, class_start_time) " +
+                        "SELECT r.id, r.user_id, r.training_class_id, r.reservation_date, r.status, tc.start_time FROM (" +
+                        "SELECT ? + g AS id, ? + g % ? AS user_id, ? + (g % ? + (g / ?) * 1000) % ? AS training_class_id, " +
+                        "now() - (g % 1000) * INTERVAL '1 hour' AS reservation_date, " +
+                        "CASE WHEN g % 10 = 0 THEN 'CANCELLED' ELSE 'CONFIRMED' END AS status FROM generate_series(0, ? - 1) g" +
+                        ") r JOIN training_classes tc ON tc.id = r.training_class_id",
+                ID_OFFSET, ID_OFFSET, users, ID_OFFSET, users, users, classes, settings.reservations());
+        execute("notifications",
+                "INSERT INTO notifications (id, recipient_id, message, sent_at, read) " +
+                        "SELECT ? + g, ? + g % ?, 'Load test notification ' || g, now() - (g % 100000) * INTERVAL '1 minute', g % 4 <> 0 " +
+                        "FROM generate_series(0, ? - 1) g",
+                ID_OFFSET, ID_OFFSET, users, settings.notifications());
+        jdbcTemplate.execute("ANALYZE");
+
+        log.info("Load test dataset seeded in {} ms - users: {}, classes: {}, reservations: {}, notifications: {}",
+                System.currentTimeMillis() - started, users, classes, settings.reservations(), settings.notifications());
+    }
+
+    private void execute(String table, String sql, Object... args) {
+        long started = System.currentTimeMillis();
+        int rows = jdbcTemplate.update(sql, args);
+        log.info("Seeded {} {} in {} ms", rows, table, System.currentTimeMillis() - started);
+    }
+}
@@ -0,0 +1,24 @@
+package com.naivez.fithub.loadtest;
+
+import java.util.List;
+
+public record LoadTestReport(String startedAt,
+                             int clients,
+                             boolean virtualThreadRequests,
+                             double durationSeconds,
+                             long totalRequests,
+                             double throughputPerSecond,
+                             long peakHeapUsedBytes,
+                             int peakPlatformThreads,
+                             List<EndpointResult> endpoints) {
+
+    public record EndpointResult(String endpoint,
+                                 long requests,
+                                 long errors,
+                                 double throughputPerSecond,
+                                 double p50Ms,
+                                 double p90Ms,
+                                 double p99Ms,
+                                 double maxMs) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.naivez.fithub.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.naivez.fithub.FithubApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        SpringApplication application = new SpringApplication(FithubApplication.class);
+        application.setDefaultProperties(Map.of(
+                "server.port", "0",
+                "spring.jpa.show-sql", "false"));
+
+        try (ConfigurableApplicationContext context = application.run(args)) {
+            LoadTestSettings settings = LoadTestSettings.from(context.getEnvironment());
+            new LoadTestDataGenerator(context.getBean(JdbcTemplate.class), settings).seed();
+
+            URI baseUri = settings.baseUrl() != null
+                    ? URI.create(settings.baseUrl())
+                    : URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort());
+            boolean virtualThreads = context.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+            LoadTestReport report = run(baseUri, settings, virtualThreads);
+
+            ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+            Files.createDirectories(settings.report().toAbsolutePath().getParent());
+            objectMapper.writeValue(settings.report().toFile(), report);
+            report.endpoints().forEach(endpoint -> log.info(
+                    "{} - requests: {}, errors: {}, throughput: {}/s, p50: {} ms, p99: {} ms",
+                    endpoint.endpoint(), endpoint.requests(), endpoint.errors(),
+                    String.format("%.1f", endpoint.throughputPerSecond()), endpoint.p50Ms(), endpoint.p99Ms()));
+            log.info("Load test finished - virtual threads: {}, throughput: {}/s, peak heap: {} MB, peak platform threads: {}",
+                    report.virtualThreadRequests(), String.format("%.1f", report.throughputPerSecond()),
+                    report.peakHeapUsedBytes() / (1024 * 1024), report.peakPlatformThreads());
+            log.info("Load test report written to {}", settings.report().toAbsolutePath());
+        }
+    }
+
+    private static LoadTestReport run(URI baseUri, LoadTestSettings settings, boolean virtualThreads)
+            throws InterruptedException {
+        LatencyRecorder recorder = new LatencyRecorder();
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        Instant startedAt = Instant.now();
+        long deadline = System.nanoTime() + settings.warmup().plus(settings.duration()).toNanos();
+        Random seeds = new Random(settings.seed());
+        int trainers = Math.max(1, settings.users() / 500);
+
+        ExecutorService executor = newClientExecutor();
+        for (int i = 0; i < settings.clients(); i++) {
+            int userIndex = trainers + seeds.nextInt(settings.users() - trainers);
+            executor.execute(new SimulatedClient(httpClient, objectMapper, baseUri, settings, recorder,
+                    settings.email(userIndex), new Random(seeds.nextLong()), deadline));
+        }
+
+        log.info("Load test warming up - clients: {}, warmup: {}", settings.clients(), settings.warmup());
+        Thread.sleep(settings.warmup().toMillis());
+        recorder.start();
+        long measuredFrom = System.nanoTime();
+        log.info("Load test measuring - duration: {}", settings.duration());
+
+        try (ResourceSampler sampler = new ResourceSampler()) {
+            sampler.start();
+            executor.shutdown();
+            executor.awaitTermination(settings.duration().plusMinutes(1).toMillis(), TimeUnit.MILLISECONDS);
+            recorder.stop();
+            executor.shutdownNow();
+
+            return report(startedAt, settings, virtualThreads, measuredFrom, recorder, sampler);
+        }
+    }
+
+    private static LoadTestReport report(Instant startedAt, LoadTestSettings settings, boolean virtualThreads,
+                                         long measuredFrom, LatencyRecorder recorder, ResourceSampler sampler) {
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - measuredFrom);
+        List<LoadTestReport.EndpointResult> endpoints = recorder.results(elapsed);
+        long totalRequests = endpoints.stream().mapToLong(LoadTestReport.EndpointResult::requests).sum();
+        return new LoadTestReport(
+                startedAt.toString(),
+                settings.clients(),
+                virtualThreads,
+                elapsed.toMillis() / 1000.0,
+                totalRequests,
+                totalRequests / Math.max(0.001, elapsed.toMillis() / 1000.0),
+                sampler.peakHeapUsedBytes(),
+                sampler.peakPlatformThreads(),
+                endpoints);
+    }
+
+    private static ExecutorService newClientExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.info("Virtual threads unavailable on this runtime, using platform threads for clients");
+            return Executors.newCachedThreadPool();
+        }
+    }
+}
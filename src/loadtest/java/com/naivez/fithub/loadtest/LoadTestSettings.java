@@ -0,0 +1,47 @@
+package com.naivez.fithub.loadtest;
+
+import org.springframework.core.env.Environment;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+public record LoadTestSettings(int users,
+                               int classes,
+                               long reservations,
+                               long notifications,
+                               int clients,
+                               Duration warmup,
+                               Duration duration,
+                               long seed,
+                               String baseUrl,
+                               Path report) {
+
+    public static final long ID_OFFSET = 10_000_000L;
+    public static final String PASSWORD = "loadtest";
+
+    public static LoadTestSettings from(Environment environment) {
+        return new LoadTestSettings(
+                environment.getProperty("loadtest.users", Integer.class, 100_000),
+                environment.getProperty("loadtest.classes", Integer.class, 50_000),
+                environment.getProperty("loadtest.reservations", Long.class, 5_000_000L),
+                environment.getProperty("loadtest.notifications", Long.class, 10_000_000L),
+                environment.getProperty("loadtest.clients", Integer.class, 200),
+                environment.getProperty("loadtest.warmup", Duration.class, Duration.ofSeconds(15)),
+                environment.getProperty("loadtest.duration", Duration.class, Duration.ofSeconds(60)),
+                environment.getProperty("loadtest.seed", Long.class, 42L),
+                environment.getProperty("loadtest.base-url"),
+                Path.of(environment.getProperty("loadtest.report", "target/loadtest-report.json")));
+    }
+
+    public String email(int userIndex) {
+        return "loadtest" + userIndex + "@fithub.test";
+    }
+
+    public long firstFutureClassId() {
+        return ID_OFFSET + classes / 2;
+    }
+
+    public long lastClassId() {
+        return ID_OFFSET + classes - 1;
+    }
+}
@@ -0,0 +1,46 @@
+package com.naivez.fithub.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ResourceSampler implements AutoCloseable {
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private final AtomicLong peakHeapUsed = new AtomicLong();
+    private final AtomicInteger peakThreadCount = new AtomicInteger();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "loadtest-resource-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public void start() {
+        threads.resetPeakThreadCount();
+        scheduler.scheduleAtFixedRate(this::sample, 0, 250, TimeUnit.MILLISECONDS);
+    }
+
+    private void sample() {
+        peakHeapUsed.accumulateAndGet(memory.getHeapMemoryUsage().getUsed(), Math::max);
+        peakThreadCount.accumulateAndGet(threads.getThreadCount(), Math::max);
+    }
+
+    public long peakHeapUsedBytes() {
+        return peakHeapUsed.get();
+    }
+
+    public int peakPlatformThreads() {
+        return Math.max(peakThreadCount.get(), threads.getPeakThreadCount());
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,130 @@
+package com.naivez.fithub.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Random;
+
+@RequiredArgsConstructor
+public class SimulatedClient implements Runnable {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final URI baseUri;
+    private final LoadTestSettings settings;
+    private final LatencyRecorder recorder;
+    private final String email;
+    private final Random random;
+    private final long deadlineNanos;
+
+    private final Deque<Long> bookedReservationIds = new ArrayDeque<>();
+    private String token;
+
+    @Override
+    public void run() {
+        try {
+            login();
+            while (System.nanoTime() < deadlineNanos && !Thread.currentThread().isInterrupted()) {
+                int roll = random.nextInt(100);
+                if (roll < 2) {
+                    login();
+                } else if (roll < 35) {
+                    browseTimetable();
+                } else if (roll < 65) {
+                    pollNotifications();
+                } else if (roll < 80) {
+                    book();
+                } else if (roll < 90) {
+                    cancel();
+                } else {
+                    send("my-reservations", get("/api/client/reservations/upcoming"));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void login() throws InterruptedException {
+        String body = "{\"email\":\"" + email + "\",\"password\":\"" + LoadTestSettings.PASSWORD + "\"}";
+        JsonNode response = send("login", HttpRequest.newBuilder(baseUri.resolve("/api/auth/login"))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build());
+        if (response == null) {
+            throw new IllegalStateException("Login failed for " + email);
+        }
+        token = response.path("token").asText();
+    }
+
+    private void browseTimetable() throws InterruptedException {
+        LocalDateTime start = LocalDate.now().plusDays(random.nextInt(14)).atStartOfDay();
+        send("timetable", get("/api/classes/between?start=" + start + "&end=" + start.plusDays(1)));
+    }
+
+    private void pollNotifications() throws InterruptedException {
+        if (random.nextBoolean()) {
+            send("notifications-unread", get("/api/notifications/unread"));
+        } else {
+            send("notifications-count", get("/api/notifications/count/unread"));
+        }
+    }
+
+    private void book() throws InterruptedException {
+        long span = settings.lastClassId() - settings.firstFutureClassId() + 1;
+        long classId = settings.firstFutureClassId() + random.nextInt((int) Math.min(span, 1_000));
+        JsonNode reservation = send("book", authorized("/api/client/reservations")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"trainingClassId\":" + classId + "}"))
+                .build());
+        if (reservation != null && reservation.hasNonNull("id")) {
+            bookedReservationIds.push(reservation.get("id").asLong());
+        }
+    }
+
+    private void cancel() throws InterruptedException {
+        Long reservationId = bookedReservationIds.poll();
+        if (reservationId == null) {
+            book();
+            return;
+        }
+        send("cancel", authorized("/api/client/reservations/" + reservationId).DELETE().build());
+    }
+
+    private HttpRequest get(String path) {
+        return authorized(path).GET().build();
+    }
+
+    private HttpRequest.Builder authorized(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + token);
+    }
+
+    private JsonNode send(String endpoint, HttpRequest request) throws InterruptedException {
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() < 400;
+            recorder.record(endpoint, System.nanoTime() - started, success);
+            return success && !response.body().isEmpty() ? objectMapper.readTree(response.body()) : null;
+        } catch (IOException e) {
+            recorder.record(endpoint, System.nanoTime() - started, false);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.naivez.fithub.admission;
+
+import com.naivez.fithub.dto.BookingAdmissionStatsDTO;
+import com.naivez.fithub.exception.BookingAdmissionRejectedException;
+import com.naivez.fithub.exception.ClassFullyBookedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class BookingAdmissionGate {
+
+    private final Map<Long, ClassAdmission> admissions = new ConcurrentHashMap<>();
+    private final int concurrencyLimit;
+    private final int maxQueueLength;
+    private final long queueTimeoutMillis;
+    private final long soldOutTtlMillis;
+    private final Counter admittedCounter;
+    private final Counter rejectedSoldOutCounter;
+    private final Counter rejectedBusyCounter;
+
+    public BookingAdmissionGate(@Value("${reservation.admission.concurrency-limit:8}") int concurrencyLimit,
+                                @Value("${reservation.admission.max-queue-length:200}") int maxQueueLength,
+                                @Value("${reservation.admission.queue-timeout-ms:2000}") long queueTimeoutMillis,
+                                @Value("${reservation.admission.sold-out-ttl-ms:30000}") long soldOutTtlMillis,
+                                MeterRegistry meterRegistry) {
+        this.concurrencyLimit = concurrencyLimit;
+        this.maxQueueLength = maxQueueLength;
+        this.queueTimeoutMillis = queueTimeoutMillis;
+        this.soldOutTtlMillis = soldOutTtlMillis;
+        this.admittedCounter = admissionCounter(meterRegistry, "admitted");
+        this.rejectedSoldOutCounter = admissionCounter(meterRegistry, "rejected_sold_out");
+        this.rejectedBusyCounter = admissionCounter(meterRegistry, "rejected_busy");
+    }
+
+    public <T> T admit(Long classId, Supplier<T> booking) {
+        ClassAdmission admission = admissions.compute(classId, (id, existing) -> {
+            ClassAdmission current = existing != null ? existing : new ClassAdmission(concurrencyLimit);
+            current.users.incrementAndGet();
+            return current;
+        });
+        try {
+            return admit(admission, classId, booking);
+        } finally {
+            admission.users.decrementAndGet();
+        }
+    }
+
+    private <T> T admit(ClassAdmission admission, Long classId, Supplier<T> booking) {
+        if (admission.isSoldOut(System.currentTimeMillis())) {
+            rejectSoldOut(admission);
+            throw new ClassFullyBookedException("Class is fully booked");
+        }
+
+        if (admission.permits.getQueueLength() >= maxQueueLength) {
+            rejectBusy(admission);
+            log.warn("Booking rejected - admission queue full for class: {}", classId);
+            throw new BookingAdmissionRejectedException("Too many booking requests for this class, try again shortly");
+        }
+
+        acquire(admission, classId);
+        try {
+            if (admission.isSoldOut(System.currentTimeMillis())) {
+                rejectSoldOut(admission);
+                throw new ClassFullyBookedException("Class is fully booked");
+            }
+
+            admission.admitted.increment();
+            admittedCounter.increment();
+            return booking.get();
+        } catch (ClassFullyBookedException e) {
+            admission.soldOutUntil = System.currentTimeMillis() + soldOutTtlMillis;
+            throw e;
+        } finally {
+            admission.permits.release();
+        }
+    }
+
+    @TransactionalEventListener
+    public void spotReleased(ClassSpotReleasedEvent event) {
+        ClassAdmission admission = admissions.get(event.trainingClassId());
+        if (admission != null && admission.soldOutUntil != 0) {
+            admission.soldOutUntil = 0;
+            log.debug("Booking admission reopened for class: {}", event.trainingClassId());
+        }
+    }
+
+    public List<BookingAdmissionStatsDTO> getStats() {
+        long now = System.currentTimeMillis();
+        return admissions.entrySet().stream()
+                .map(entry -> BookingAdmissionStatsDTO.builder()
+                        .trainingClassId(entry.getKey())
+                        .inFlight(entry.getValue().limit - entry.getValue().permits.availablePermits())
+                        .queued(entry.getValue().permits.getQueueLength())
+                        .soldOut(entry.getValue().isSoldOut(now))
+                        .admitted(entry.getValue().admitted.sum())
+                        .rejectedSoldOut(entry.getValue().rejectedSoldOut.sum())
+                        .rejectedBusy(entry.getValue().rejectedBusy.sum())
+                        .build())
+                .sorted(Comparator.comparing(BookingAdmissionStatsDTO::getTrainingClassId))
+                .toList();
+    }
+
+    @Scheduled(fixedDelayString = "${reservation.admission.eviction-interval-ms:300000}")
+    public void evictIdle() {
+        long now = System.currentTimeMillis();
+        for (Long classId : admissions.keySet()) {
+            admissions.computeIfPresent(classId, (id, admission) -> admission.isIdle(now) ? null : admission);
+        }
+    }
+
+    private void acquire(ClassAdmission admission, Long classId) {
+        try {
+            if (!admission.permits.tryAcquire(queueTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                rejectBusy(admission);
+                log.warn("Booking rejected - admission wait timed out for class: {}", classId);
+                throw new BookingAdmissionRejectedException("Too many booking requests for this class, try again shortly");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            rejectBusy(admission);
+            throw new BookingAdmissionRejectedException("Booking request was interrupted");
+        }
+    }
+
+    private void rejectSoldOut(ClassAdmission admission) {
+        admission.rejectedSoldOut.increment();
+        rejectedSoldOutCounter.increment();
+    }
+
+    private void rejectBusy(ClassAdmission admission) {
+        admission.rejectedBusy.increment();
+        rejectedBusyCounter.increment();
+    }
+
+    private Counter admissionCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("fithub.booking.admission")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
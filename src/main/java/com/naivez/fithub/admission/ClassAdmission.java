@@ -0,0 +1,29 @@
+package com.naivez.fithub.admission;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+class ClassAdmission {
+
+    final Semaphore permits;
+    final int limit;
+    final LongAdder admitted = new LongAdder();
+    final LongAdder rejectedSoldOut = new LongAdder();
+    final LongAdder rejectedBusy = new LongAdder();
+    final AtomicInteger users = new AtomicInteger();
+    volatile long soldOutUntil;
+
+    ClassAdmission(int limit) {
+        this.limit = limit;
+        this.permits = new Semaphore(limit, true);
+    }
+
+    boolean isSoldOut(long now) {
+        return soldOutUntil > now;
+    }
+
+    boolean isIdle(long now) {
+        return users.get() == 0 && !isSoldOut(now);
+    }
+}
@@ -0,0 +1,4 @@
+package com.naivez.fithub.admission;
+
+public record ClassSpotReleasedEvent(Long trainingClassId) {
+}
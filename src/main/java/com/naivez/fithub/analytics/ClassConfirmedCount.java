@@ -0,0 +1,4 @@
+package com.naivez.fithub.analytics;
+
+public record ClassConfirmedCount(Long trainingClassId, Long confirmedCount) {
+}
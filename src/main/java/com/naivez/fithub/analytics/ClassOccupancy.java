@@ -0,0 +1,7 @@
+package com.naivez.fithub.analytics;
+
+import java.time.LocalDateTime;
+
+public record ClassOccupancy(LocalDateTime startTime, Long roomId, Long trainerId, String className,
+                             Integer capacity, Long confirmedCount) {
+}
@@ -0,0 +1,6 @@
+package com.naivez.fithub.analytics;
+
+import java.math.BigDecimal;
+
+public record MembershipActiveTotals(String type, Long activeMembers, BigDecimal totalPrice) {
+}
@@ -0,0 +1,7 @@
+package com.naivez.fithub.analytics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record MembershipPurchaseTotals(LocalDate startDate, String type, Long purchaseCount, BigDecimal revenue) {
+}
@@ -0,0 +1,6 @@
+package com.naivez.fithub.analytics;
+
+import java.time.LocalDateTime;
+
+public record OccupancyBucketTotals(LocalDateTime bucketStart, Long classCount, Long capacity, Long confirmedCount) {
+}
@@ -0,0 +1,4 @@
+package com.naivez.fithub.analytics;
+
+public record OccupancyDeltaEvent(OccupancyKey key, int classDelta, int capacityDelta, int confirmedDelta) {
+}
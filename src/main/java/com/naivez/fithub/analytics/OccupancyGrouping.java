@@ -0,0 +1,18 @@
+package com.naivez.fithub.analytics;
+
+import com.naivez.fithub.exception.InvalidRequestDataException;
+
+public enum OccupancyGrouping {
+    ROOM,
+    TRAINER,
+    CLASS_NAME;
+
+    public static OccupancyGrouping fromParameter(String groupBy) {
+        for (OccupancyGrouping value : values()) {
+            if (value.name().equalsIgnoreCase(groupBy)) {
+                return value;
+            }
+        }
+        throw new InvalidRequestDataException("Invalid groupBy. Valid values: ROOM, TRAINER, CLASS_NAME");
+    }
+}
@@ -0,0 +1,29 @@
+package com.naivez.fithub.analytics;
+
+import com.naivez.fithub.entity.TrainingClass;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public record OccupancyKey(LocalDateTime bucketStart, Long roomId, Long trainerId, String className) {
+
+    public static final long NONE = 0L;
+
+    public static OccupancyKey of(TrainingClass trainingClass) {
+        return of(
+                trainingClass.getStartTime(),
+                trainingClass.getRoom() != null ? trainingClass.getRoom().getId() : null,
+                trainingClass.getTrainer() != null ? trainingClass.getTrainer().getId() : null,
+                trainingClass.getName()
+        );
+    }
+
+    public static OccupancyKey of(LocalDateTime startTime, Long roomId, Long trainerId, String className) {
+        return new OccupancyKey(
+                startTime.truncatedTo(ChronoUnit.HOURS),
+                roomId != null ? roomId : NONE,
+                trainerId != null ? trainerId : NONE,
+                className
+        );
+    }
+}
@@ -0,0 +1,4 @@
+package com.naivez.fithub.analytics;
+
+public record OccupancyTotals(String key, Long classCount, Long capacity, Long confirmedCount) {
+}
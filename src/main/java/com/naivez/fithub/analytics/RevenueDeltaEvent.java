@@ -0,0 +1,10 @@
+package com.naivez.fithub.analytics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record RevenueDeltaEvent(LocalDate factDate, String membershipType,
+                                int purchaseDelta, BigDecimal purchaseRevenueDelta,
+                                int renewalDelta, BigDecimal renewalRevenueDelta,
+                                int activeMembersDelta, BigDecimal mrrDelta) {
+}
@@ -1,9 +1,13 @@
 package com.naivez.fithub.controller;
 
+import com.naivez.fithub.admission.BookingAdmissionGate;
+import com.naivez.fithub.dbtiming.TransactionProfileRegistry;
+import com.naivez.fithub.dto.BookingAdmissionStatsDTO;
 import com.naivez.fithub.dto.CreateEmployeeRequest;
 import com.naivez.fithub.dto.EmployeeDTO;
 import com.naivez.fithub.dto.ReviewScheduleChangeRequest;
 import com.naivez.fithub.dto.ScheduleChangeRequestDTO;
+import com.naivez.fithub.dto.TransactionProfileDTO;
 import com.naivez.fithub.service.EmployeeService;
 import com.naivez.fithub.service.ScheduleChangeRequestService;
 import jakarta.validation.Valid;
@@ -25,6 +29,8 @@ public class AdminController {
 
     private final EmployeeService employeeService;
     private final ScheduleChangeRequestService scheduleChangeRequestService;
+    private final BookingAdmissionGate bookingAdmissionGate;
+    private final TransactionProfileRegistry transactionProfileRegistry;
 
     @GetMapping("/employees")
     public ResponseEntity<List<EmployeeDTO>> getAllEmployees() {
@@ -76,4 +82,20 @@ public class AdminController {
         ScheduleChangeRequestDTO request = scheduleChangeRequestService.reviewScheduleChangeRequest(id, user.getUsername(), reviewRequest);
         return ResponseEntity.ok(request);
     }
-}
\ No newline at end of file
+
+    @GetMapping("/booking-admission")
+    public ResponseEntity<List<BookingAdmissionStatsDTO>> getBookingAdmissionStats() {
+        return ResponseEntity.ok(bookingAdmissionGate.getStats());
+    }
+
+    @GetMapping("/transaction-profile")
+    public ResponseEntity<List<TransactionProfileDTO>> getTransactionProfile() {
+        return ResponseEntity.ok(transactionProfileRegistry.getReport());
+    }
+
+    @DeleteMapping("/transaction-profile")
+    public ResponseEntity<Void> resetTransactionProfile() {
+        transactionProfileRegistry.reset();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.naivez.fithub.controller;
+
+import com.naivez.fithub.analytics.OccupancyGrouping;
+import com.naivez.fithub.dto.*;
+import com.naivez.fithub.service.OccupancyAnalyticsService;
+import com.naivez.fithub.service.RevenueAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AnalyticsController {
+
+    private final OccupancyAnalyticsService occupancyAnalyticsService;
+    private final RevenueAnalyticsService revenueAnalyticsService;
+
+    @GetMapping("/occupancy")
+    public ResponseEntity<List<OccupancySummaryDTO>> getOccupancySummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "ROOM") String groupBy) {
+        List<OccupancySummaryDTO> summary = occupancyAnalyticsService.getOccupancySummary(
+                from, to, OccupancyGrouping.fromParameter(groupBy));
+        return ResponseEntity.ok(summary);
+    }
+
+    @GetMapping("/occupancy/daily")
+    public ResponseEntity<List<OccupancyDailyDTO>> getDailyOccupancy(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long roomId) {
+        List<OccupancyDailyDTO> daily = occupancyAnalyticsService.getDailyOccupancy(from, to, roomId);
+        return ResponseEntity.ok(daily);
+    }
+
+    @GetMapping("/occupancy/heatmap")
+    public ResponseEntity<List<OccupancyHeatmapCellDTO>> getHeatmap(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long roomId) {
+        List<OccupancyHeatmapCellDTO> heatmap = occupancyAnalyticsService.getHeatmap(from, to, roomId);
+        return ResponseEntity.ok(heatmap);
+    }
+
+    @PostMapping("/occupancy/rebuild")
+    public ResponseEntity<OccupancyRebuildDTO> rebuild(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        OccupancyRebuildDTO result = occupancyAnalyticsService.rebuild(from, to);
+        return ResponseEntity.ok(result);
+    }
+
+    @GetMapping("/revenue")
+    public ResponseEntity<RevenueSummaryDTO> getRevenueSummary(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        RevenueSummaryDTO summary = revenueAnalyticsService.getRevenueSummary(from, to);
+        return ResponseEntity.ok(summary);
+    }
+
+    @GetMapping("/revenue/daily")
+    public ResponseEntity<List<RevenueDailyDTO>> getDailyRevenue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        List<RevenueDailyDTO> daily = revenueAnalyticsService.getDailyRevenue(from, to);
+        return ResponseEntity.ok(daily);
+    }
+
+    @PostMapping("/revenue/rebuild")
+    public ResponseEntity<RevenueRebuildDTO> rebuildRevenue(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        RevenueRebuildDTO result = revenueAnalyticsService.rebuild(from, to);
+        return ResponseEntity.ok(result);
+    }
+}
@@ -1,9 +1,11 @@
 package com.naivez.fithub.controller;
 
+import com.naivez.fithub.admission.BookingAdmissionGate;
 import com.naivez.fithub.dto.*;
 import com.naivez.fithub.service.ClientService;
 import com.naivez.fithub.service.MembershipService;
 import com.naivez.fithub.service.ReservationService;
+import com.naivez.fithub.service.WaitlistService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -24,6 +26,8 @@ public class ClientController {
     private final ReservationService reservationService;
     private final MembershipService membershipService;
     private final ClientService clientService;
+    private final WaitlistService waitlistService;
+    private final BookingAdmissionGate bookingAdmissionGate;
 
     @GetMapping("/classes/available")
     public ResponseEntity<List<TrainingClassDTO>> getAvailableClasses() {
@@ -35,10 +39,19 @@ public class ClientController {
     public ResponseEntity<ReservationDTO> createReservation(
             @AuthenticationPrincipal UserDetails user,
             @Valid @RequestBody ReservationRequest request) {
-        ReservationDTO reservation = reservationService.createReservation(user.getUsername(), request);
+        ReservationDTO reservation = bookingAdmissionGate.admit(request.getTrainingClassId(),
+                () -> reservationService.createReservation(user.getUsername(), request));
         return ResponseEntity.status(HttpStatus.CREATED).body(reservation);
     }
 
+    @PostMapping("/reservations/batch")
+    public ResponseEntity<BatchReservationResultDTO> createReservations(
+            @AuthenticationPrincipal UserDetails user,
+            @Valid @RequestBody BatchReservationRequest request) {
+        BatchReservationResultDTO result = reservationService.createReservations(user.getUsername(), request);
+        return ResponseEntity.ok(result);
+    }
+
     @DeleteMapping("/reservations/{reservationId}")
     public ResponseEntity<Void> cancelReservation(
             @AuthenticationPrincipal UserDetails user,
@@ -47,6 +60,30 @@ public class ClientController {
         return ResponseEntity.noContent().build();
     }
 
+    @PostMapping("/classes/{classId}/waitlist")
+    public ResponseEntity<WaitlistEntryDTO> joinWaitlist(
+            @AuthenticationPrincipal UserDetails user,
+            @PathVariable Long classId) {
+        WaitlistEntryDTO entry = waitlistService.joinWaitlist(user.getUsername(), classId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(entry);
+    }
+
+    @GetMapping("/classes/{classId}/waitlist")
+    public ResponseEntity<WaitlistEntryDTO> getWaitlistPosition(
+            @AuthenticationPrincipal UserDetails user,
+            @PathVariable Long classId) {
+        WaitlistEntryDTO entry = waitlistService.getWaitlistPosition(user.getUsername(), classId);
+        return ResponseEntity.ok(entry);
+    }
+
+    @DeleteMapping("/classes/{classId}/waitlist")
+    public ResponseEntity<Void> leaveWaitlist(
+            @AuthenticationPrincipal UserDetails user,
+            @PathVariable Long classId) {
+        waitlistService.leaveWaitlist(user.getUsername(), classId);
+        return ResponseEntity.noContent().build();
+    }
+
     @PutMapping("/reservations/{reservationId}/rate")
     public ResponseEntity<Void> rateClass(
             @AuthenticationPrincipal UserDetails user,
@@ -64,16 +101,20 @@ public class ClientController {
     }
 
     @GetMapping("/reservations/upcoming")
-    public ResponseEntity<List<ReservationDTO>> getUpcomingReservations(
-            @AuthenticationPrincipal UserDetails user) {
-        List<ReservationDTO> reservations = reservationService.getUpcomingReservations(user.getUsername());
+    public ResponseEntity<ReservationPageDTO> getUpcomingReservations(
+            @AuthenticationPrincipal UserDetails user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        ReservationPageDTO reservations = reservationService.getUpcomingReservations(user.getUsername(), cursor, size);
         return ResponseEntity.ok(reservations);
     }
 
     @GetMapping("/reservations/past")
-    public ResponseEntity<List<ReservationDTO>> getPastReservations(
-            @AuthenticationPrincipal UserDetails user) {
-        List<ReservationDTO> reservations = reservationService.getPastReservations(user.getUsername());
+    public ResponseEntity<ReservationPageDTO> getPastReservations(
+            @AuthenticationPrincipal UserDetails user,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        ReservationPageDTO reservations = reservationService.getPastReservations(user.getUsername(), cursor, size);
         return ResponseEntity.ok(reservations);
     }
 
@@ -0,0 +1,37 @@
+package com.naivez.fithub.controller;
+
+import com.naivez.fithub.dto.ImportReportDTO;
+import com.naivez.fithub.importing.ImportFormat;
+import com.naivez.fithub.service.ImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/admin/import")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class ImportController {
+
+    private final ImportService importService;
+
+    @PostMapping(value = "/members", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportReportDTO> importMembers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        ImportReportDTO report = importService.importMembers(body, ImportFormat.fromContentType(contentType));
+        return ResponseEntity.ok(report);
+    }
+
+    @PostMapping(value = "/classes", consumes = {"text/csv", "application/x-ndjson"})
+    public ResponseEntity<ImportReportDTO> importClasses(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) {
+        ImportReportDTO report = importService.importClasses(body, ImportFormat.fromContentType(contentType));
+        return ResponseEntity.ok(report);
+    }
+}
@@ -3,6 +3,7 @@ package com.naivez.fithub.controller;
 import com.naivez.fithub.dto.*;
 import com.naivez.fithub.service.NotificationService;
 import com.naivez.fithub.service.PersonalTrainingSessionService;
+import com.naivez.fithub.service.TrainerDashboardService;
 import com.naivez.fithub.service.TrainerService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -26,6 +27,16 @@ public class TrainerController {
     private final TrainerService trainerService;
     private final PersonalTrainingSessionService personalTrainingSessionService;
     private final NotificationService notificationService;
+    private final TrainerDashboardService trainerDashboardService;
+
+    @GetMapping("/dashboard")
+    public ResponseEntity<TrainerDashboardDTO> getDashboard(
+            @AuthenticationPrincipal UserDetails user,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        LocalDate dashboardDate = date != null ? date : LocalDate.now();
+        TrainerDashboardDTO dashboard = trainerDashboardService.getDashboard(user.getUsername(), dashboardDate);
+        return ResponseEntity.ok(dashboard);
+    }
 
     @GetMapping("/schedule/daily")
     public ResponseEntity<List<TrainingClassDTO>> getDailySchedule(
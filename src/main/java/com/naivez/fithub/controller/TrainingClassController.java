@@ -62,7 +62,7 @@ public class TrainingClassController {
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> deleteTrainingClass(@PathVariable Long id) {
-        trainingClassService.deleteTrainingClass(id);
+        trainingClassService.cancelTrainingClass(id);
         return ResponseEntity.noContent().build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.naivez.fithub.dashboard;
+
+import java.time.LocalDateTime;
+
+public record DashboardChangeRequestRow(Long id, Long trainingClassId, String requestType, String reason,
+                                        String className, String classDescription,
+                                        LocalDateTime requestedStartTime, LocalDateTime requestedEndTime,
+                                        Integer requestedCapacity, Long requestedRoomId, String requestedRoomName,
+                                        String status, LocalDateTime createdAt) {
+}
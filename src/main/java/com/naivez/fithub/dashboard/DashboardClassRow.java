@@ -0,0 +1,9 @@
+package com.naivez.fithub.dashboard;
+
+import java.time.LocalDateTime;
+
+public record DashboardClassRow(Long id, String name, String description, String trainerFirstName,
+                                String trainerLastName, String roomName, LocalDateTime startTime,
+                                LocalDateTime endTime, Integer capacity, Long confirmedCount,
+                                Double averageRating, String status) {
+}
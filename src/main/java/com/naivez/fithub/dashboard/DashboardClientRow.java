@@ -0,0 +1,4 @@
+package com.naivez.fithub.dashboard;
+
+public record DashboardClientRow(Long id, String email, String firstName, String lastName, String phone) {
+}
@@ -0,0 +1,7 @@
+package com.naivez.fithub.dashboard;
+
+import java.time.LocalDateTime;
+
+public record DashboardNotificationRow(Long id, String message, LocalDateTime sentAt, Boolean read,
+                                       String recipientEmail) {
+}
@@ -0,0 +1,9 @@
+package com.naivez.fithub.dashboard;
+
+import java.time.LocalDateTime;
+
+public record DashboardSessionRow(Long id, Long clientId, String clientFirstName, String clientLastName,
+                                  LocalDateTime startTime, LocalDateTime endTime, String sessionGoal,
+                                  String sessionNotes, String status, LocalDateTime createdAt,
+                                  LocalDateTime updatedAt) {
+}
@@ -0,0 +1,70 @@
+package com.naivez.fithub.dashboard;
+
+import com.naivez.fithub.dbtiming.DbTimingContext;
+import com.naivez.fithub.dbtiming.RequestDbTiming;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+@Component
+public class DashboardWorkerPool {
+
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService securityContextExecutor;
+
+    public DashboardWorkerPool(@Value("${trainer-dashboard.worker-threads:6}") int workerThreads,
+                               @Value("${trainer-dashboard.worker-queue-capacity:120}") int queueCapacity) {
+        AtomicInteger threadCounter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                workerThreads,
+                workerThreads,
+                60L,
+                TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "dashboard-worker-" + threadCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.securityContextExecutor = new DelegatingSecurityContextExecutorService(executor);
+    }
+
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        RequestDbTiming timing = DbTimingContext.current();
+        Future<?> worker;
+        try {
+            worker = securityContextExecutor.submit(() -> {
+                DbTimingContext.bind(timing);
+                try {
+                    result.complete(task.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    DbTimingContext.end();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((value, error) -> {
+            if (error != null && !worker.isDone()) {
+                worker.cancel(true);
+                executor.purge();
+            }
+        });
+        return result;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
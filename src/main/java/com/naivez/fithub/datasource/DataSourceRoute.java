@@ -0,0 +1,6 @@
+package com.naivez.fithub.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,58 @@
+package com.naivez.fithub.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replicaDataSource;
+    private final String lagQuery;
+    private final long maxLagMillis;
+
+    private volatile boolean replicaHealthy;
+    private volatile long lagMillis = -1;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, long maxLagMillis) {
+        this.replicaDataSource = replicaDataSource;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    public boolean isReplicaHealthy() {
+        return replicaHealthy;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void checkLag() {
+        boolean healthy;
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            lagMillis = resultSet.next() ? Math.round(resultSet.getDouble(1) * 1000) : -1;
+            healthy = lagMillis >= 0 && lagMillis <= maxLagMillis;
+        } catch (SQLException e) {
+            lagMillis = -1;
+            healthy = false;
+            if (replicaHealthy) {
+                log.warn("Replica lag check failed, routing reads to primary: {}", e.getMessage());
+            }
+        }
+
+        if (healthy != replicaHealthy) {
+            log.info("Replica {} - lag: {} ms, max allowed: {} ms",
+                    healthy ? "available" : "unavailable", lagMillis, maxLagMillis);
+        }
+        replicaHealthy = healthy;
+    }
+}
@@ -0,0 +1,29 @@
+package com.naivez.fithub.dbtiming;
+
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.lifecycle.JdbcLifecycleEventListenerAdapter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+
+@Component
+@ConditionalOnProperty(name = "db-timing.transaction-profiling.enabled", havingValue = "true")
+public class ConnectionHoldListener extends JdbcLifecycleEventListenerAdapter {
+
+    @Override
+    public void afterGetConnection(MethodExecutionContext executionContext) {
+        TransactionScope scope = DbTimingContext.currentTransactionScope();
+        if (scope != null && executionContext.getThrown() == null) {
+            scope.connectionAcquired(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterClose(MethodExecutionContext executionContext) {
+        TransactionScope scope = DbTimingContext.currentTransactionScope();
+        if (scope != null && executionContext.getTarget() instanceof Connection) {
+            scope.connectionReleased(System.nanoTime());
+        }
+    }
+}
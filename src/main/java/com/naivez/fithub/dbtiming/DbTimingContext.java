@@ -0,0 +1,67 @@
+package com.naivez.fithub.dbtiming;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+public final class DbTimingContext {
+
+    private static final ThreadLocal<RequestDbTiming> CURRENT_REQUEST = new ThreadLocal<>();
+    private static final ThreadLocal<Deque<String>> SERVICE_METHODS = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<TransactionScope> CURRENT_TRANSACTION_SCOPE = new ThreadLocal<>();
+
+    private DbTimingContext() {
+    }
+
+    public static RequestDbTiming begin() {
+        RequestDbTiming timing = new RequestDbTiming();
+        CURRENT_REQUEST.set(timing);
+        return timing;
+    }
+
+    public static void bind(RequestDbTiming timing) {
+        CURRENT_REQUEST.set(timing);
+    }
+
+    public static RequestDbTiming current() {
+        return CURRENT_REQUEST.get();
+    }
+
+    public static void end() {
+        CURRENT_REQUEST.remove();
+    }
+
+    public static void enterServiceMethod(String method) {
+        SERVICE_METHODS.get().push(method);
+    }
+
+    public static void exitServiceMethod() {
+        Deque<String> methods = SERVICE_METHODS.get();
+        methods.poll();
+        if (methods.isEmpty()) {
+            SERVICE_METHODS.remove();
+        }
+    }
+
+    public static String currentServiceMethod() {
+        Deque<String> methods = SERVICE_METHODS.get();
+        String method = methods.peek();
+        if (methods.isEmpty()) {
+            SERVICE_METHODS.remove();
+        }
+        return method;
+    }
+
+    public static TransactionScope beginTransactionScope() {
+        TransactionScope scope = new TransactionScope(System.nanoTime());
+        CURRENT_TRANSACTION_SCOPE.set(scope);
+        return scope;
+    }
+
+    public static TransactionScope currentTransactionScope() {
+        return CURRENT_TRANSACTION_SCOPE.get();
+    }
+
+    public static void endTransactionScope() {
+        CURRENT_TRANSACTION_SCOPE.remove();
+    }
+}
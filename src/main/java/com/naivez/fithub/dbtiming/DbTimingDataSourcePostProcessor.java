@@ -0,0 +1,39 @@
+package com.naivez.fithub.dbtiming;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+@Component
+@ConditionalOnProperty(name = "db-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class DbTimingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<DbTimingQueryListener> queryListener;
+    private final ObjectProvider<ConnectionHoldListener> connectionHoldListener;
+
+    public DbTimingDataSourcePostProcessor(ObjectProvider<DbTimingQueryListener> queryListener,
+                                           ObjectProvider<ConnectionHoldListener> connectionHoldListener) {
+        this.queryListener = queryListener;
+        this.connectionHoldListener = connectionHoldListener;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                && !(bean instanceof DelegatingDataSource) && !(bean instanceof AbstractRoutingDataSource)) {
+            ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                    .name(beanName)
+                    .listener(queryListener.getObject());
+            connectionHoldListener.ifAvailable(builder::listener);
+            return builder.build();
+        }
+        return bean;
+    }
+}
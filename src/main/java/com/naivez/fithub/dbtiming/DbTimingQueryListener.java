@@ -0,0 +1,75 @@
+package com.naivez.fithub.dbtiming;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class DbTimingQueryListener implements QueryExecutionListener {
+
+    private static final String STARTED_AT = "fithub.startedAt";
+    private static final int MAX_PARAMETER_LENGTH = 100;
+
+    private final long slowQueryThresholdNanos;
+
+    public DbTimingQueryListener(@Value("${db-timing.slow-query-threshold-ms:200}") long slowQueryThresholdMs) {
+        this.slowQueryThresholdNanos = slowQueryThresholdMs * 1_000_000;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        executionInfo.addCustomValue(STARTED_AT, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+        Long startedAt = executionInfo.getCustomValue(STARTED_AT, Long.class);
+        if (startedAt == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        String sql = queryInfoList.get(0).getQuery();
+
+        RequestDbTiming timing = DbTimingContext.current();
+        if (timing != null) {
+            timing.record(sql, elapsedNanos);
+        }
+        TransactionScope scope = DbTimingContext.currentTransactionScope();
+        if (scope != null) {
+            scope.recordStatement(elapsedNanos);
+        }
+
+        if (elapsedNanos >= slowQueryThresholdNanos) {
+            log.warn("Slow query - {} ms, service: {}, batch: {}, sql: {}, parameters: {}",
+                    elapsedNanos / 1_000_000, DbTimingContext.currentServiceMethod(), executionInfo.getBatchSize(),
+                    sql, describeParameters(queryInfoList.get(0)));
+        }
+    }
+
+    private String describeParameters(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        if (parametersList.isEmpty()) {
+            return "[]";
+        }
+        String first = parametersList.get(0).stream()
+                .map(operation -> describeValue(operation.getArgs()))
+                .collect(Collectors.joining(", ", "[", "]"));
+        return parametersList.size() == 1 ? first : first + " (+" + (parametersList.size() - 1) + " more)";
+    }
+
+    private String describeValue(Object[] args) {
+        if (args == null || args.length < 2) {
+            return "null";
+        }
+        String value = String.valueOf(args[1]);
+        return value.length() > MAX_PARAMETER_LENGTH ? value.substring(0, MAX_PARAMETER_LENGTH) + "..." : value;
+    }
+}
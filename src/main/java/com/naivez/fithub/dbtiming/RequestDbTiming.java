@@ -0,0 +1,41 @@
+package com.naivez.fithub.dbtiming;
+
+import java.util.Locale;
+
+public class RequestDbTiming {
+
+    private int statementCount;
+    private long totalNanos;
+    private long slowestNanos;
+    private String slowestSql;
+
+    public synchronized void record(String sql, long elapsedNanos) {
+        statementCount++;
+        totalNanos += elapsedNanos;
+        if (elapsedNanos > slowestNanos) {
+            slowestNanos = elapsedNanos;
+            slowestSql = sql;
+        }
+    }
+
+    public synchronized int getStatementCount() {
+        return statementCount;
+    }
+
+    public synchronized long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public synchronized long getSlowestNanos() {
+        return slowestNanos;
+    }
+
+    public synchronized String getSlowestSql() {
+        return slowestSql;
+    }
+
+    public synchronized String toServerTiming() {
+        return String.format(Locale.ROOT, "db;dur=%.2f;desc=\"%d statements\", db-slowest;dur=%.2f",
+                totalNanos / 1_000_000.0, statementCount, slowestNanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,24 @@
+package com.naivez.fithub.dbtiming;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@ConditionalOnProperty(name = "db-timing.enabled", havingValue = "true", matchIfMissing = true)
+public class ServiceMethodTracker {
+
+    @Around("execution(public * com.naivez.fithub.service..*(..))")
+    public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+        DbTimingContext.enterServiceMethod(
+                joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            DbTimingContext.exitServiceMethod();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.naivez.fithub.dbtiming;
+
+import com.naivez.fithub.dto.TransactionProfileDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+@Component
+public class TransactionProfileRegistry {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private final Map<String, MethodProfile> profiles = new ConcurrentHashMap<>();
+    private final double idleRatioThreshold;
+
+    public TransactionProfileRegistry(
+            @Value("${db-timing.transaction-profiling.idle-ratio-threshold:0.5}") double idleRatioThreshold) {
+        this.idleRatioThreshold = idleRatioThreshold;
+    }
+
+    public void record(String method, TransactionScope scope, long elapsedNanos) {
+        MethodProfile profile = profiles.computeIfAbsent(method, key -> new MethodProfile());
+        profile.invocations.increment();
+        profile.elapsedNanos.add(elapsedNanos);
+        profile.holdNanos.add(scope.getConnectionHoldNanos());
+        profile.maxHoldNanos.accumulate(scope.getConnectionHoldNanos());
+        profile.sqlNanos.add(scope.getSqlNanos());
+        profile.statements.add(scope.getStatementCount());
+    }
+
+    public List<TransactionProfileDTO> getReport() {
+        return profiles.entrySet().stream()
+                .map(entry -> toDto(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble(TransactionProfileDTO::getTotalHoldMs).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        profiles.clear();
+    }
+
+    private TransactionProfileDTO toDto(String method, MethodProfile profile) {
+        long invocations = profile.invocations.sum();
+        long holdNanos = profile.holdNanos.sum();
+        long sqlNanos = Math.min(profile.sqlNanos.sum(), holdNanos);
+        double idleRatio = holdNanos == 0 ? 0 : (double) (holdNanos - sqlNanos) / holdNanos;
+
+        return TransactionProfileDTO.builder()
+                .method(method)
+                .invocations(invocations)
+                .statements(profile.statements.sum())
+                .totalHoldMs(holdNanos / NANOS_PER_MILLI)
+                .avgHoldMs(holdNanos / NANOS_PER_MILLI / invocations)
+                .maxHoldMs(profile.maxHoldNanos.get() / NANOS_PER_MILLI)
+                .avgSqlMs(sqlNanos / NANOS_PER_MILLI / invocations)
+                .avgIdleInTransactionMs((holdNanos - sqlNanos) / NANOS_PER_MILLI / invocations)
+                .avgElapsedMs(profile.elapsedNanos.sum() / NANOS_PER_MILLI / invocations)
+                .idleRatio(idleRatio)
+                .idleDominated(idleRatio >= idleRatioThreshold)
+                .build();
+    }
+
+    private static class MethodProfile {
+        final LongAdder invocations = new LongAdder();
+        final LongAdder elapsedNanos = new LongAdder();
+        final LongAdder holdNanos = new LongAdder();
+        final LongAccumulator maxHoldNanos = new LongAccumulator(Math::max, 0);
+        final LongAdder sqlNanos = new LongAdder();
+        final LongAdder statements = new LongAdder();
+    }
+}
@@ -0,0 +1,46 @@
+package com.naivez.fithub.dbtiming;
+
+import lombok.Getter;
+
+@Getter
+public class TransactionScope {
+
+    private final long startedNanos;
+    private int openConnections;
+    private long holdStartedNanos;
+    private long connectionHoldNanos;
+    private long sqlNanos;
+    private int statementCount;
+
+    TransactionScope(long startedNanos) {
+        this.startedNanos = startedNanos;
+    }
+
+    public void connectionAcquired(long nanos) {
+        if (openConnections++ == 0) {
+            holdStartedNanos = nanos;
+        }
+    }
+
+    public void connectionReleased(long nanos) {
+        if (openConnections > 0 && --openConnections == 0) {
+            connectionHoldNanos += nanos - holdStartedNanos;
+        }
+    }
+
+    public void recordStatement(long elapsedNanos) {
+        statementCount++;
+        sqlNanos += elapsedNanos;
+    }
+
+    public void finish(long nanos) {
+        if (openConnections > 0) {
+            connectionHoldNanos += nanos - holdStartedNanos;
+            openConnections = 0;
+        }
+    }
+
+    public long getIdleInTransactionNanos() {
+        return Math.max(0, connectionHoldNanos - sqlNanos);
+    }
+}
@@ -0,0 +1,40 @@
+package com.naivez.fithub.dbtiming;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "db-timing.transaction-profiling.enabled", havingValue = "true")
+public class TransactionScopeProfiler {
+
+    private final TransactionProfileRegistry registry;
+
+    @Around("(@annotation(org.springframework.transaction.annotation.Transactional)"
+            + " || @within(org.springframework.transaction.annotation.Transactional))"
+            + " && within(com.naivez.fithub..*)")
+    public Object profile(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (DbTimingContext.currentTransactionScope() != null) {
+            return joinPoint.proceed();
+        }
+
+        TransactionScope scope = DbTimingContext.beginTransactionScope();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            long finishedNanos = System.nanoTime();
+            scope.finish(finishedNanos);
+            DbTimingContext.endTransactionScope();
+            registry.record(joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+                    + joinPoint.getSignature().getName(), scope, finishedNanos - scope.getStartedNanos());
+        }
+    }
+}
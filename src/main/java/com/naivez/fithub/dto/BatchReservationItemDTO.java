@@ -0,0 +1,18 @@
+package com.naivez.fithub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchReservationItemDTO {
+
+    private Long trainingClassId;
+    private String status;
+    private ReservationDTO reservation;
+    private String message;
+}
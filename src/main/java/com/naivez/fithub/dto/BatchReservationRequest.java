@@ -0,0 +1,24 @@
+package com.naivez.fithub.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchReservationRequest {
+
+    @NotEmpty(message = "At least one training class is required")
+    @Size(max = 20, message = "At most 20 classes can be booked at once")
+    private List<@NotNull Long> trainingClassIds;
+
+    private boolean allOrNothing;
+}
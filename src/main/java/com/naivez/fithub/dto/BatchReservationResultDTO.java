@@ -0,0 +1,20 @@
+package com.naivez.fithub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchReservationResultDTO {
+
+    private boolean allOrNothing;
+    private int confirmed;
+    private int failed;
+    private List<BatchReservationItemDTO> items;
+}
@@ -0,0 +1,21 @@
+package com.naivez.fithub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BookingAdmissionStatsDTO {
+
+    private Long trainingClassId;
+    private int inFlight;
+    private int queued;
+    private boolean soldOut;
+    private long admitted;
+    private long rejectedSoldOut;
+    private long rejectedBusy;
+}
@@ -0,0 +1,21 @@
+package com.naivez.fithub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReportDTO {
+
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    private List<ImportRowErrorDTO> errors;
+    private boolean errorsTruncated;
+}
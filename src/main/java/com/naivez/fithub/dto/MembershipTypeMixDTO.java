@@ -0,0 +1,21 @@
+package com.naivez.fithub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MembershipTypeMixDTO {
+
+    private String type;
+    private long purchaseCount;
+    private long renewalCount;
+    private BigDecimal revenue;
+    private double revenueShare;
+}
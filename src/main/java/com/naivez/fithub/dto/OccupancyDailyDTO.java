@@ -0,0 +1,21 @@
+package com.naivez.fithub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccupancyDailyDTO {
+
+    private LocalDate date;
+    private long classCount;
+    private long capacity;
+    private long confirmedCount;
+    private double fillRate;
+}
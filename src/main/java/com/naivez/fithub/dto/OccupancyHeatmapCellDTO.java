@@ -0,0 +1,22 @@
+package com.naivez.fithub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccupancyHeatmapCellDTO {
+
+    private DayOfWeek dayOfWeek;
+    private int hour;
+    private long classCount;
+    private long capacity;
+    private long confirmedCount;
+    private double fillRate;
+}
@@ -0,0 +1,20 @@
+package com.naivez.fithub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccupancyRebuildDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private int classesScanned;
+    private int factsWritten;
+}
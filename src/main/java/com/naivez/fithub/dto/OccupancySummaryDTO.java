@@ -0,0 +1,20 @@
+package com.naivez.fithub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccupancySummaryDTO {
+
+    private String key;
+    private String label;
+    private long classCount;
+    private long capacity;
+    private long confirmedCount;
+    private double fillRate;
+}
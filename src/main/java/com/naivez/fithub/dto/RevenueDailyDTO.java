@@ -0,0 +1,23 @@
+package com.naivez.fithub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueDailyDTO {
+
+    private LocalDate date;
+    private long purchaseCount;
+    private long renewalCount;
+    private BigDecimal revenue;
+    private long activeMembers;
+    private BigDecimal mrr;
+}
@@ -0,0 +1,20 @@
+package com.naivez.fithub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueRebuildDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private int factsWritten;
+    private int snapshotDays;
+}
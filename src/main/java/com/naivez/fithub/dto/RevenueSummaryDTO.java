@@ -0,0 +1,28 @@
+package com.naivez.fithub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueSummaryDTO {
+
+    private LocalDate from;
+    private LocalDate to;
+    private BigDecimal totalRevenue;
+    private long purchaseCount;
+    private long renewalCount;
+    private double renewalRate;
+    private LocalDate snapshotDate;
+    private long activeMembers;
+    private BigDecimal mrr;
+    private List<MembershipTypeMixDTO> typeMix;
+}
@@ -0,0 +1,25 @@
+package com.naivez.fithub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrainerDashboardDTO {
+
+    private LocalDate date;
+    private List<TrainingClassDTO> dailySchedule;
+    private List<TrainingClassDTO> weeklySchedule;
+    private List<PersonalTrainingSessionDTO> personalSessions;
+    private List<ScheduleChangeRequestDTO> pendingChangeRequests;
+    private List<ClientProfileDTO> clients;
+    private List<NotificationDTO> unreadNotifications;
+    private List<String> unavailableSections;
+}
@@ -23,4 +23,5 @@ public class TrainingClassDTO {
     private int capacity;
     private int availableSpots;
     private Double averageRating;
+    private String status;
 }
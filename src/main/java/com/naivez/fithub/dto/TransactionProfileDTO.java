@@ -0,0 +1,25 @@
+package com.naivez.fithub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionProfileDTO {
+
+    private String method;
+    private long invocations;
+    private long statements;
+    private double totalHoldMs;
+    private double avgHoldMs;
+    private double maxHoldMs;
+    private double avgSqlMs;
+    private double avgIdleInTransactionMs;
+    private double avgElapsedMs;
+    private double idleRatio;
+    private boolean idleDominated;
+}
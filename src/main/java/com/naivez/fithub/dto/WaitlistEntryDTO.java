@@ -0,0 +1,22 @@
+package com.naivez.fithub.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistEntryDTO {
+
+    private Long trainingClassId;
+    private String className;
+    private LocalDateTime classStartTime;
+    private long position;
+    private long waitlistSize;
+    private LocalDateTime joinedAt;
+}
@@ -2,8 +2,12 @@ package com.naivez.fithub.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "fithub.equipment")
 @Table(name = "equipment")
 @Getter
 @Setter
@@ -12,7 +16,8 @@ import lombok.*;
 @AllArgsConstructor
 public class Equipment {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "equipment_seq")
+    @SequenceGenerator(name = "equipment_seq", sequenceName = "equipment_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,51 @@
+package com.naivez.fithub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "membership_daily_facts",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_membership_daily_facts_key",
+                columnNames = {"fact_date", "membership_type"}))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MembershipDailyFact {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "membership_daily_facts_seq")
+    @SequenceGenerator(name = "membership_daily_facts_seq", sequenceName = "membership_daily_facts_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "fact_date", nullable = false)
+    private LocalDate factDate;
+
+    @Column(name = "membership_type", nullable = false, length = 50)
+    private String membershipType;
+
+    @Column(name = "purchase_count", nullable = false)
+    private int purchaseCount;
+
+    @Column(name = "purchase_revenue", nullable = false, precision = 12, scale = 2)
+    private BigDecimal purchaseRevenue;
+
+    @Column(name = "renewal_count", nullable = false)
+    private int renewalCount;
+
+    @Column(name = "renewal_revenue", nullable = false, precision = 12, scale = 2)
+    private BigDecimal renewalRevenue;
+
+    @Column(name = "active_members", nullable = false)
+    private int activeMembers;
+
+    @Column(nullable = false, precision = 12, scale = 2)
+    private BigDecimal mrr;
+
+    @Column(nullable = false)
+    private boolean snapshot;
+}
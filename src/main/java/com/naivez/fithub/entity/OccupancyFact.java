@@ -0,0 +1,44 @@
+package com.naivez.fithub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "occupancy_hourly_facts",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_occupancy_hourly_facts_key",
+                columnNames = {"bucket_start", "room_id", "trainer_id", "class_name"}))
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OccupancyFact {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "occupancy_hourly_facts_seq")
+    @SequenceGenerator(name = "occupancy_hourly_facts_seq", sequenceName = "occupancy_hourly_facts_id_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "room_id", nullable = false)
+    private Long roomId;
+
+    @Column(name = "trainer_id", nullable = false)
+    private Long trainerId;
+
+    @Column(name = "class_name", nullable = false)
+    private String className;
+
+    @Column(name = "class_count", nullable = false)
+    private int classCount;
+
+    @Column(nullable = false)
+    private int capacity;
+
+    @Column(name = "confirmed_count", nullable = false)
+    private int confirmedCount;
+}
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class PersonalTrainingSession {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "personal_training_sessions_seq")
+    @SequenceGenerator(name = "personal_training_sessions_seq", sequenceName = "personal_training_sessions_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
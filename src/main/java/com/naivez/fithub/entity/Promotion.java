@@ -2,11 +2,15 @@ package com.naivez.fithub.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "fithub.promotion")
 @Table(name = "promotions")
 @Getter
 @Setter
@@ -15,7 +19,8 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class Promotion {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "promotions_seq")
+    @SequenceGenerator(name = "promotions_seq", sequenceName = "promotions_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
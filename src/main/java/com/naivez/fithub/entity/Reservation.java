@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 public class Reservation {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservations_seq")
+    @SequenceGenerator(name = "reservations_seq", sequenceName = "reservations_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -25,6 +26,9 @@ public class Reservation {
     @JoinColumn(name = "training_class_id", nullable = false)
     private TrainingClass trainingClass;
 
+    @Column(name = "class_start_time", nullable = false)
+    private LocalDateTime classStartTime;
+
     @Column(name = "reservation_date", nullable = false)
     private LocalDateTime reservationDate;
 
@@ -35,4 +39,11 @@ public class Reservation {
 
     @Column(length = 1000)
     private String comment;
+
+    @PrePersist
+    void copyClassStartTime() {
+        if (classStartTime == null && trainingClass != null) {
+            classStartTime = trainingClass.getStartTime();
+        }
+    }
 }
\ No newline at end of file
@@ -16,7 +16,8 @@ import java.util.Set;
 @AllArgsConstructor
 public class TrainingClass {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "training_classes_seq")
+    @SequenceGenerator(name = "training_classes_seq", sequenceName = "training_classes_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -45,4 +46,11 @@ public class TrainingClass {
 
     @Column(name = "average_rating")
     private Double averageRating;
+
+    @Builder.Default
+    @Column(nullable = false, length = 20)
+    private String status = "SCHEDULED";
+
+    @Column(name = "cancelled_at")
+    private LocalDateTime cancelledAt;
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.naivez.fithub.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "class_waitlist_entries",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_class_waitlist_entries_class_user",
+                        columnNames = {"training_class_id", "user_id"}),
+                @UniqueConstraint(name = "uk_class_waitlist_entries_class_position",
+                        columnNames = {"training_class_id", "position"})
+        })
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WaitlistEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "class_waitlist_entries_seq")
+    @SequenceGenerator(name = "class_waitlist_entries_seq", sequenceName = "class_waitlist_entries_id_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "training_class_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private TrainingClass trainingClass;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private User user;
+
+    @Column(nullable = false)
+    private long position;
+
+    @Column(name = "joined_at", nullable = false)
+    private LocalDateTime joinedAt;
+}
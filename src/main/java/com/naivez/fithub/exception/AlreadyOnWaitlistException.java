@@ -0,0 +1,8 @@
+package com.naivez.fithub.exception;
+
+public class AlreadyOnWaitlistException extends RuntimeException {
+
+    public AlreadyOnWaitlistException(String message) {
+        super(message);
+    }
+}
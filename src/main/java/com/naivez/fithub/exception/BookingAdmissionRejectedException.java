@@ -0,0 +1,8 @@
+package com.naivez.fithub.exception;
+
+public class BookingAdmissionRejectedException extends RuntimeException {
+
+    public BookingAdmissionRejectedException(String message) {
+        super(message);
+    }
+}
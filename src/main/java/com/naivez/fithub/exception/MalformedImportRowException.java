@@ -0,0 +1,8 @@
+package com.naivez.fithub.exception;
+
+public class MalformedImportRowException extends RuntimeException {
+
+    public MalformedImportRowException(String message) {
+        super(message);
+    }
+}
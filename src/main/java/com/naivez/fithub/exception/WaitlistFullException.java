@@ -0,0 +1,8 @@
+package com.naivez.fithub.exception;
+
+public class WaitlistFullException extends RuntimeException {
+
+    public WaitlistFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.naivez.fithub.exporting;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.util.List;
+
+public interface ExportRowWriter extends Flushable {
+
+    void writeHeader(List<String> columns) throws IOException;
+
+    void writeRow(List<Object> values) throws IOException;
+}
@@ -0,0 +1,57 @@
+package com.naivez.fithub.exporting;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+public class NdjsonRowWriter implements ExportRowWriter {
+
+    private final Writer writer;
+    private final JsonGenerator generator;
+    private List<String> columns;
+
+    public NdjsonRowWriter(Writer writer, ObjectMapper objectMapper) throws IOException {
+        this.writer = writer;
+        this.generator = objectMapper.getFactory().createGenerator(writer);
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        this.generator.setRootValueSeparator(null);
+    }
+
+    @Override
+    public void writeHeader(List<String> columns) {
+        this.columns = List.copyOf(columns);
+    }
+
+    @Override
+    public void writeRow(List<Object> values) throws IOException {
+        generator.writeStartObject();
+        for (int i = 0; i < columns.size(); i++) {
+            String column = columns.get(i);
+            Object value = values.get(i);
+            if (value == null) {
+                generator.writeNullField(column);
+            } else if (value instanceof Long longValue) {
+                generator.writeNumberField(column, longValue);
+            } else if (value instanceof Integer intValue) {
+                generator.writeNumberField(column, intValue);
+            } else if (value instanceof Double doubleValue) {
+                generator.writeNumberField(column, doubleValue);
+            } else {
+                generator.writeStringField(column, value.toString());
+            }
+        }
+        generator.writeEndObject();
+        generator.flush();
+        writer.write('\n');
+    }
+
+    @Override
+    public void flush() throws IOException {
+        generator.flush();
+        writer.flush();
+    }
+}
@@ -0,0 +1,97 @@
+package com.naivez.fithub.importing;
+
+import com.naivez.fithub.exception.InvalidRequestDataException;
+import com.naivez.fithub.exception.MalformedImportRowException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class CsvRowReader implements ImportRowReader {
+
+    private final BufferedReader reader;
+    private final List<String> header;
+
+    public CsvRowReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        List<String> headerValues = readRecord();
+        if (headerValues == null || headerValues.isEmpty()) {
+            throw new InvalidRequestDataException("CSV header row is missing");
+        }
+        this.header = headerValues.stream()
+                .map(String::trim)
+                .toList();
+    }
+
+    @Override
+    public Map<String, String> nextRow() throws IOException {
+        List<String> values = readRecord();
+        while (values != null && values.size() == 1 && values.get(0).isBlank()) {
+            values = readRecord();
+        }
+        if (values == null) {
+            return null;
+        }
+
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            row.put(header.get(i), values.get(i));
+        }
+        return row;
+    }
+
+    private List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else if (c == '"') {
+                        quoted = false;
+                    } else {
+                        current.append(c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    values.add(current.toString());
+                    current.setLength(0);
+                } else {
+                    current.append(c);
+                }
+            }
+
+            if (!quoted) {
+                break;
+            }
+
+            line = reader.readLine();
+            if (line == null) {
+                throw new MalformedImportRowException("CSV ends inside a quoted value");
+            }
+            current.append('\n');
+        }
+
+        values.add(current.toString());
+        return values;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
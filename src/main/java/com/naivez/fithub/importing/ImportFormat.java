@@ -0,0 +1,21 @@
+package com.naivez.fithub.importing;
+
+import com.naivez.fithub.exception.InvalidRequestDataException;
+
+public enum ImportFormat {
+    CSV,
+    NDJSON;
+
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            String mediaType = contentType.toLowerCase();
+            if (mediaType.startsWith("text/csv")) {
+                return CSV;
+            }
+            if (mediaType.startsWith("application/x-ndjson")) {
+                return NDJSON;
+            }
+        }
+        throw new InvalidRequestDataException("Unsupported import format. Use text/csv or application/x-ndjson");
+    }
+}
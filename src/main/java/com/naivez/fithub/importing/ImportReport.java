@@ -0,0 +1,48 @@
+package com.naivez.fithub.importing;
+
+import com.naivez.fithub.dto.ImportReportDTO;
+import com.naivez.fithub.dto.ImportRowErrorDTO;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ImportReport {
+
+    private final int maxReportedErrors;
+    private final List<ImportRowErrorDTO> errors = new ArrayList<>();
+    private long importedRows;
+    private long failedRows;
+
+    public ImportReport(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public void imported(long rows) {
+        importedRows += rows;
+    }
+
+    public void rejected(long rowNumber, String message) {
+        failedRows++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new ImportRowErrorDTO(rowNumber, message));
+        }
+    }
+
+    public long getImportedRows() {
+        return importedRows;
+    }
+
+    public long getFailedRows() {
+        return failedRows;
+    }
+
+    public ImportReportDTO toDto() {
+        return ImportReportDTO.builder()
+                .totalRows(importedRows + failedRows)
+                .importedRows(importedRows)
+                .failedRows(failedRows)
+                .errors(List.copyOf(errors))
+                .errorsTruncated(failedRows > errors.size())
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package com.naivez.fithub.importing;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+public interface ImportRowReader extends Closeable {
+
+    Map<String, String> nextRow() throws IOException;
+}
@@ -0,0 +1,57 @@
+package com.naivez.fithub.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naivez.fithub.exception.MalformedImportRowException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+public class NdjsonRowReader implements ImportRowReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+
+    public NdjsonRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Map<String, String> nextRow() throws IOException {
+        String line = reader.readLine();
+        while (line != null && line.isBlank()) {
+            line = reader.readLine();
+        }
+        if (line == null) {
+            return null;
+        }
+
+        Map<String, String> row = new HashMap<>();
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            throw new MalformedImportRowException("Invalid JSON: " + e.getOriginalMessage());
+        }
+
+        if (!node.isObject()) {
+            throw new MalformedImportRowException("Each line must be a JSON object");
+        }
+
+        node.fields().forEachRemaining(field -> {
+            if (!field.getValue().isNull()) {
+                row.put(field.getKey(), field.getValue().asText());
+            }
+        });
+        return row;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
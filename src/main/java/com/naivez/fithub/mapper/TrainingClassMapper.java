@@ -19,12 +19,16 @@ public interface TrainingClassMapper {
     @Mapping(target = "trainer", ignore = true)
     @Mapping(target = "room", ignore = true)
     @Mapping(target = "reservations", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "cancelledAt", ignore = true)
     TrainingClass toEntity(TrainingClassRequest request);
 
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     @Mapping(target = "trainer", ignore = true)
     @Mapping(target = "room", ignore = true)
     @Mapping(target = "reservations", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    @Mapping(target = "cancelledAt", ignore = true)
     void updateFromRequest(TrainingClassRequest request, @MappingTarget TrainingClass trainingClass);
 
     @Named("getTrainerName")
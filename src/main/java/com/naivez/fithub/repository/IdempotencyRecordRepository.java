@@ -0,0 +1,41 @@
+package com.naivez.fithub.repository;
+
+import com.naivez.fithub.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    @Query("SELECT r FROM IdempotencyRecord r WHERE r.idempotencyKey = :key AND r.expiresAt > :now " +
+            "AND (r.responseStatus IS NOT NULL OR r.lockedUntil > :now)")
+    Optional<IdempotencyRecord> findActive(@Param("key") String key, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE IdempotencyRecord r SET r.responseStatus = :status, r.contentType = :contentType, " +
+            "r.responseBody = :body, r.expiresAt = :expiresAt, r.lockedUntil = NULL " +
+            "WHERE r.id = :id AND r.responseStatus IS NULL")
+    int complete(@Param("id") Long id,
+                 @Param("status") int status,
+                 @Param("contentType") String contentType,
+                 @Param("body") String body,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.id = :id AND r.responseStatus IS NULL")
+    int deletePending(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.idempotencyKey = :key " +
+            "AND (r.expiresAt <= :now OR (r.responseStatus IS NULL AND r.lockedUntil <= :now))")
+    int deleteExpiredByKey(@Param("key") String key, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r " +
+            "WHERE r.expiresAt <= :now OR (r.responseStatus IS NULL AND r.lockedUntil <= :now)")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,38 @@
+package com.naivez.fithub.repository;
+
+import com.naivez.fithub.entity.MembershipDailyFact;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface MembershipDailyFactRepository extends JpaRepository<MembershipDailyFact, Long> {
+
+    List<MembershipDailyFact> findByFactDateBetweenOrderByFactDateAsc(LocalDate from, LocalDate to);
+
+    @Query("SELECT MAX(f.factDate) FROM MembershipDailyFact f WHERE f.factDate <= :date AND f.snapshot = true")
+    Optional<LocalDate> findLatestSnapshotDate(@Param("date") LocalDate date);
+
+    List<MembershipDailyFact> findByFactDate(LocalDate factDate);
+
+    @Modifying
+    @Query("INSERT INTO MembershipDailyFact (factDate, membershipType, purchaseCount, purchaseRevenue, " +
+            "renewalCount, renewalRevenue, activeMembers, mrr, snapshot) " +
+            "VALUES (:factDate, :membershipType, :purchaseDelta, :purchaseRevenueDelta, " +
+            ":renewalDelta, :renewalRevenueDelta, :activeMembersDelta, :mrrDelta, false) " +
+            "ON CONFLICT (factDate, membershipType) DO UPDATE SET " +
+            "purchaseCount = purchaseCount + :purchaseDelta, " +
+            "purchaseRevenue = purchaseRevenue + :purchaseRevenueDelta, " +
+            "renewalCount = renewalCount + :renewalDelta, " +
+            "renewalRevenue = renewalRevenue + :renewalRevenueDelta, " +
+            "activeMembers = activeMembers + :activeMembersDelta, mrr = mrr + :mrrDelta")
+    int upsertDelta(@Param("factDate") LocalDate factDate, @Param("membershipType") String membershipType,
+                    @Param("purchaseDelta") int purchaseDelta, @Param("purchaseRevenueDelta") BigDecimal purchaseRevenueDelta,
+                    @Param("renewalDelta") int renewalDelta, @Param("renewalRevenueDelta") BigDecimal renewalRevenueDelta,
+                    @Param("activeMembersDelta") int activeMembersDelta, @Param("mrrDelta") BigDecimal mrrDelta);
+}
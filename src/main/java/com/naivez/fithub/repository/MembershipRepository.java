@@ -1,5 +1,7 @@
 package com.naivez.fithub.repository;
 
+import com.naivez.fithub.analytics.MembershipActiveTotals;
+import com.naivez.fithub.analytics.MembershipPurchaseTotals;
 import com.naivez.fithub.entity.Membership;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -17,4 +19,12 @@ public interface MembershipRepository extends JpaRepository<Membership, Long> {
 
     @Query("SELECT m FROM Membership m WHERE m.user.id = :userId AND m.endDate >= :today ORDER BY m.endDate DESC")
     List<Membership> findValidByUserId(@Param("userId") Long userId, @Param("today") LocalDate today);
+
+    @Query("SELECT new com.naivez.fithub.analytics.MembershipPurchaseTotals(m.startDate, m.type, COUNT(m), SUM(m.price)) " +
+            "FROM Membership m WHERE m.startDate BETWEEN :from AND :to GROUP BY m.startDate, m.type")
+    List<MembershipPurchaseTotals> sumPurchasesByDateAndType(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT new com.naivez.fithub.analytics.MembershipActiveTotals(m.type, COUNT(m), SUM(m.price)) " +
+            "FROM Membership m WHERE m.active = true AND m.startDate <= :date AND m.endDate >= :date GROUP BY m.type")
+    List<MembershipActiveTotals> sumActiveByType(@Param("date") LocalDate date);
 }
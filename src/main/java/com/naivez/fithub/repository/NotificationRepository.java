@@ -1,5 +1,6 @@
 package com.naivez.fithub.repository;
 
+import com.naivez.fithub.dashboard.DashboardNotificationRow;
 import com.naivez.fithub.entity.Notification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -14,4 +15,9 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
 
     @Query("SELECT n FROM Notification n WHERE n.recipient.id = :userId AND n.read = false ORDER BY n.sentAt DESC")
     List<Notification> findUnreadByRecipientId(@Param("userId") Long userId);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.naivez.fithub.dashboard.DashboardNotificationRow(n.id, n.message, n.sentAt, n.read, u.email) " +
+            "FROM Notification n JOIN n.recipient u " +
+            "WHERE u.id = :userId AND n.read = false ORDER BY n.sentAt DESC")
+    List<DashboardNotificationRow> findUnreadDashboardRowsByRecipientId(@Param("userId") Long userId);
+}
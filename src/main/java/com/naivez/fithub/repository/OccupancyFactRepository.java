@@ -0,0 +1,53 @@
+package com.naivez.fithub.repository;
+
+import com.naivez.fithub.analytics.OccupancyBucketTotals;
+import com.naivez.fithub.analytics.OccupancyTotals;
+import com.naivez.fithub.entity.OccupancyFact;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OccupancyFactRepository extends JpaRepository<OccupancyFact, Long> {
+
+    @Modifying
+    @Query("INSERT INTO OccupancyFact (bucketStart, roomId, trainerId, className, classCount, capacity, confirmedCount) " +
+            "VALUES (:bucketStart, :roomId, :trainerId, :className, " +
+            "GREATEST(:classDelta, 0), GREATEST(:capacityDelta, 0), GREATEST(:confirmedDelta, 0)) " +
+            "ON CONFLICT (bucketStart, roomId, trainerId, className) DO UPDATE SET " +
+            "classCount = classCount + :classDelta, capacity = capacity + :capacityDelta, " +
+            "confirmedCount = confirmedCount + :confirmedDelta")
+    int upsertDelta(@Param("bucketStart") LocalDateTime bucketStart, @Param("roomId") Long roomId,
+                    @Param("trainerId") Long trainerId, @Param("className") String className,
+                    @Param("classDelta") int classDelta, @Param("capacityDelta") int capacityDelta,
+                    @Param("confirmedDelta") int confirmedDelta);
+
+    @Modifying
+    @Query("DELETE FROM OccupancyFact f WHERE f.bucketStart >= :from AND f.bucketStart < :to")
+    int deleteByBucketRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.naivez.fithub.analytics.OccupancyTotals(CAST(f.roomId AS String), " +
+            "SUM(f.classCount), SUM(f.capacity), SUM(f.confirmedCount)) FROM OccupancyFact f " +
+            "WHERE f.bucketStart >= :from AND f.bucketStart < :to GROUP BY f.roomId ORDER BY f.roomId")
+    List<OccupancyTotals> sumByRoom(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.naivez.fithub.analytics.OccupancyTotals(CAST(f.trainerId AS String), " +
+            "SUM(f.classCount), SUM(f.capacity), SUM(f.confirmedCount)) FROM OccupancyFact f " +
+            "WHERE f.bucketStart >= :from AND f.bucketStart < :to GROUP BY f.trainerId ORDER BY f.trainerId")
+    List<OccupancyTotals> sumByTrainer(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.naivez.fithub.analytics.OccupancyTotals(f.className, " +
+            "SUM(f.classCount), SUM(f.capacity), SUM(f.confirmedCount)) FROM OccupancyFact f " +
+            "WHERE f.bucketStart >= :from AND f.bucketStart < :to GROUP BY f.className ORDER BY f.className")
+    List<OccupancyTotals> sumByClassName(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT new com.naivez.fithub.analytics.OccupancyBucketTotals(f.bucketStart, " +
+            "SUM(f.classCount), SUM(f.capacity), SUM(f.confirmedCount)) FROM OccupancyFact f " +
+            "WHERE f.bucketStart >= :from AND f.bucketStart < :to AND (:roomId IS NULL OR f.roomId = :roomId) " +
+            "GROUP BY f.bucketStart ORDER BY f.bucketStart")
+    List<OccupancyBucketTotals> sumByBucket(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+                                            @Param("roomId") Long roomId);
+}
@@ -1,5 +1,6 @@
 package com.naivez.fithub.repository;
 
+import com.naivez.fithub.dashboard.DashboardSessionRow;
 import com.naivez.fithub.entity.PersonalTrainingSession;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -20,4 +21,12 @@ public interface PersonalTrainingSessionRepository extends JpaRepository<Persona
 
     @Query("SELECT pts FROM PersonalTrainingSession pts WHERE pts.trainer.id = :trainerId AND pts.client.id = :clientId ORDER BY pts.startTime DESC")
     List<PersonalTrainingSession> findByTrainerIdAndClientId(@Param("trainerId") Long trainerId, @Param("clientId") Long clientId);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.naivez.fithub.dashboard.DashboardSessionRow(pts.id, c.id, c.firstName, c.lastName, " +
+            "pts.startTime, pts.endTime, pts.sessionGoal, pts.sessionNotes, pts.status, pts.createdAt, pts.updatedAt) " +
+            "FROM PersonalTrainingSession pts LEFT JOIN pts.client c " +
+            "WHERE pts.trainer.id = :trainerId AND pts.startTime BETWEEN :start AND :end ORDER BY pts.startTime ASC")
+    List<DashboardSessionRow> findDashboardRowsByTrainerIdAndDateRange(@Param("trainerId") Long trainerId,
+                                                                       @Param("start") LocalDateTime start,
+                                                                       @Param("end") LocalDateTime end);
+}
@@ -1,8 +1,11 @@
 package com.naivez.fithub.repository;
 
 import com.naivez.fithub.entity.Promotion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -10,5 +13,9 @@ import java.util.List;
 public interface PromotionRepository extends JpaRepository<Promotion, Long> {
 
     @Query("SELECT p FROM Promotion p WHERE p.startDate <= :date AND p.endDate >= :date")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "fithub.query.active-promotions")
+    })
     List<Promotion> findActivePromotions(LocalDate date);
-}
\ No newline at end of file
+}
@@ -1,12 +1,19 @@
 package com.naivez.fithub.repository;
 
+import com.naivez.fithub.analytics.ClassConfirmedCount;
+import com.naivez.fithub.dashboard.DashboardClientRow;
+import com.naivez.fithub.dto.UserProfileDTO;
 import com.naivez.fithub.entity.Reservation;
 import com.naivez.fithub.entity.TrainingClass;
 import com.naivez.fithub.entity.User;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,13 +21,66 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
 
     List<Reservation> findByUserIdOrderByReservationDateDesc(Long userId);
 
-    @Query("SELECT r FROM Reservation r JOIN FETCH r.trainingClass tc WHERE r.user.id = :userId ORDER BY tc.startTime DESC")
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.trainingClass tc LEFT JOIN FETCH tc.trainer WHERE r.user.id = :userId ORDER BY tc.startTime DESC")
     List<Reservation> findByUserWithTrainingClass(@Param("userId") Long userId);
 
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.trainingClass tc LEFT JOIN FETCH tc.trainer " +
+            "WHERE r.user.id = :userId AND r.status = 'CONFIRMED' AND r.classStartTime > :now " +
+            "AND (r.classStartTime > :afterStart OR (r.classStartTime = :afterStart AND r.id > :afterId)) " +
+            "ORDER BY r.classStartTime ASC, r.id ASC")
+    List<Reservation> findUpcomingByUserId(@Param("userId") Long userId,
+                                           @Param("now") LocalDateTime now,
+                                           @Param("afterStart") LocalDateTime afterStart,
+                                           @Param("afterId") Long afterId,
+                                           Limit limit);
+
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.trainingClass tc LEFT JOIN FETCH tc.trainer " +
+            "WHERE r.user.id = :userId AND r.classStartTime < :now AND tc.endTime < :now " +
+            "AND (r.classStartTime < :beforeStart OR (r.classStartTime = :beforeStart AND r.id < :beforeId)) " +
+            "ORDER BY r.classStartTime DESC, r.id DESC")
+    List<Reservation> findPastByUserId(@Param("userId") Long userId,
+                                       @Param("now") LocalDateTime now,
+                                       @Param("beforeStart") LocalDateTime beforeStart,
+                                       @Param("beforeId") Long beforeId,
+                                       Limit limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Reservation r SET r.classStartTime = :startTime WHERE r.trainingClass.id = :classId")
+    int updateClassStartTime(@Param("classId") Long classId, @Param("startTime") LocalDateTime startTime);
+
     Optional<Reservation> findByUserAndTrainingClass(User user, TrainingClass trainingClass);
 
     @Query("SELECT COUNT(r) FROM Reservation r WHERE r.trainingClass.id = :classId AND r.status = 'CONFIRMED'")
     long countConfirmedReservationsByClassId(@Param("classId") Long classId);
 
     boolean existsByUserAndTrainingClassAndStatus(User user, TrainingClass trainingClass, String status);
+
+    @Query("SELECT r.user.id FROM Reservation r WHERE r.trainingClass.id = :classId AND r.status = 'CONFIRMED'")
+    List<Long> findConfirmedUserIdsByClassId(@Param("classId") Long classId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Reservation r SET r.status = 'CANCELLED' WHERE r.trainingClass.id = :classId AND r.status = 'CONFIRMED'")
+    int cancelConfirmedByClassId(@Param("classId") Long classId);
+
+    @Query("SELECT new com.naivez.fithub.analytics.ClassConfirmedCount(r.trainingClass.id, COUNT(r)) FROM Reservation r " +
+            "WHERE r.trainingClass.id IN :classIds AND r.status = 'CONFIRMED' GROUP BY r.trainingClass.id")
+    List<ClassConfirmedCount> countConfirmedByClassIds(@Param("classIds") Collection<Long> classIds);
+
+    @Query("SELECT r.trainingClass.id FROM Reservation r WHERE r.user.id = :userId " +
+            "AND r.trainingClass.id IN :classIds AND r.status = 'CONFIRMED'")
+    List<Long> findConfirmedClassIdsByUserId(@Param("userId") Long userId, @Param("classIds") Collection<Long> classIds);
+
+    @Query("SELECT DISTINCT new com.naivez.fithub.dashboard.DashboardClientRow(u.id, u.email, u.firstName, u.lastName, u.phone) " +
+            "FROM Reservation r JOIN r.user u JOIN r.trainingClass tc " +
+            "WHERE tc.trainer.id = :trainerId AND tc.startTime BETWEEN :start AND :end")
+    List<DashboardClientRow> findDashboardClientRowsByTrainerId(@Param("trainerId") Long trainerId,
+                                                                @Param("start") LocalDateTime start,
+                                                                @Param("end") LocalDateTime end);
+
+    @Query("SELECT new com.naivez.fithub.dto.UserProfileDTO(u.id, u.email, u.firstName, u.lastName, u.phone) " +
+            "FROM Reservation r JOIN r.user u " +
+            "WHERE r.trainingClass.id = :classId AND r.trainingClass.trainer.id = :trainerId AND r.status = 'CONFIRMED' " +
+            "ORDER BY r.reservationDate ASC, r.id ASC")
+    List<UserProfileDTO> findConfirmedRosterByClassIdAndTrainerId(@Param("classId") Long classId,
+                                                                  @Param("trainerId") Long trainerId);
 }
@@ -1,5 +1,6 @@
 package com.naivez.fithub.repository;
 
+import com.naivez.fithub.dashboard.DashboardChangeRequestRow;
 import com.naivez.fithub.entity.ScheduleChangeRequest;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -17,4 +18,12 @@ public interface ScheduleChangeRequestRepository extends JpaRepository<ScheduleC
 
     @Query("SELECT scr FROM ScheduleChangeRequest scr WHERE scr.status = :status ORDER BY scr.createdAt DESC")
     List<ScheduleChangeRequest> findByStatus(@Param("status") String status);
-}
\ No newline at end of file
+
+    @Query("SELECT new com.naivez.fithub.dashboard.DashboardChangeRequestRow(scr.id, tc.id, scr.requestType, " +
+            "scr.reason, scr.className, scr.classDescription, scr.requestedStartTime, scr.requestedEndTime, " +
+            "scr.requestedCapacity, rm.id, rm.name, scr.status, scr.createdAt) " +
+            "FROM ScheduleChangeRequest scr LEFT JOIN scr.trainingClass tc LEFT JOIN scr.requestedRoom rm " +
+            "WHERE scr.trainer.id = :trainerId AND scr.status = :status ORDER BY scr.createdAt DESC")
+    List<DashboardChangeRequestRow> findDashboardRowsByTrainerIdAndStatus(@Param("trainerId") Long trainerId,
+                                                                          @Param("status") String status);
+}
@@ -1,16 +1,22 @@
 package com.naivez.fithub.repository;
 
+import com.naivez.fithub.analytics.ClassOccupancy;
+import com.naivez.fithub.dashboard.DashboardClassRow;
 import com.naivez.fithub.entity.TrainingClass;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface TrainingClassRepository extends JpaRepository<TrainingClass, Long> {
 
-    @Query("SELECT tc FROM TrainingClass tc WHERE tc.startTime > :now ORDER BY tc.startTime ASC")
+    @Query("SELECT tc FROM TrainingClass tc WHERE tc.startTime > :now AND tc.status = 'SCHEDULED' ORDER BY tc.startTime ASC")
     List<TrainingClass> findUpcomingClasses(@Param("now") LocalDateTime now);
 
     @Query("SELECT tc FROM TrainingClass tc WHERE tc.startTime BETWEEN :start AND :end ORDER BY tc.startTime ASC")
@@ -18,4 +24,30 @@ public interface TrainingClassRepository extends JpaRepository<TrainingClass, Lo
 
     @Query("SELECT tc FROM TrainingClass tc WHERE tc.trainer.id = :trainerId AND tc.startTime BETWEEN :start AND :end ORDER BY tc.startTime ASC")
     List<TrainingClass> findByTrainerIdAndDateRange(@Param("trainerId") Long trainerId, @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    @Query("SELECT new com.naivez.fithub.analytics.ClassOccupancy(tc.startTime, tc.room.id, tc.trainer.id, tc.name, " +
+            "tc.capacity, COUNT(r)) FROM TrainingClass tc LEFT JOIN tc.reservations r ON r.status = 'CONFIRMED' " +
+            "WHERE tc.startTime >= :from AND tc.startTime < :to AND tc.status = 'SCHEDULED' " +
+            "GROUP BY tc.id, tc.startTime, tc.room.id, tc.trainer.id, tc.name, tc.capacity")
+    List<ClassOccupancy> findClassOccupancyBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT tc FROM TrainingClass tc WHERE tc.id = :id")
+    Optional<TrainingClass> findByIdForUpdate(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT tc FROM TrainingClass tc LEFT JOIN FETCH tc.trainer WHERE tc.id IN :ids ORDER BY tc.id ASC")
+    List<TrainingClass> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.naivez.fithub.dashboard.DashboardClassRow(tc.id, tc.name, tc.description, " +
+            "t.firstName, t.lastName, rm.name, tc.startTime, tc.endTime, tc.capacity, " +
+            "(SELECT COUNT(r) FROM Reservation r WHERE r.trainingClass = tc AND r.status = 'CONFIRMED'), " +
+            "tc.averageRating, tc.status) " +
+            "FROM TrainingClass tc JOIN tc.trainer t LEFT JOIN tc.room rm " +
+            "WHERE t.id = :trainerId AND tc.startTime BETWEEN :start AND :end ORDER BY tc.startTime ASC")
+    List<DashboardClassRow> findDashboardRowsByTrainerIdAndDateRange(@Param("trainerId") Long trainerId,
+                                                                     @Param("start") LocalDateTime start,
+                                                                     @Param("end") LocalDateTime end);
+
+    boolean existsByIdAndTrainerId(Long id, Long trainerId);
 }
@@ -0,0 +1,35 @@
+package com.naivez.fithub.repository;
+
+import com.naivez.fithub.entity.WaitlistEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    Optional<WaitlistEntry> findByTrainingClassIdAndUserId(Long trainingClassId, Long userId);
+
+    boolean existsByTrainingClassIdAndUserId(Long trainingClassId, Long userId);
+
+    long countByTrainingClassId(Long trainingClassId);
+
+    @Query("SELECT COUNT(w) FROM WaitlistEntry w WHERE w.trainingClass.id = :classId AND w.position < :position")
+    long countAhead(@Param("classId") Long classId, @Param("position") long position);
+
+    @Query("SELECT COALESCE(MAX(w.position), 0) FROM WaitlistEntry w WHERE w.trainingClass.id = :classId")
+    long findMaxPosition(@Param("classId") Long classId);
+
+    @Query("SELECT w.user.id FROM WaitlistEntry w WHERE w.trainingClass.id = :classId")
+    List<Long> findUserIdsByClassId(@Param("classId") Long classId);
+
+    @Modifying
+    @Query("DELETE FROM WaitlistEntry w WHERE w.trainingClass.id = :classId")
+    int deleteByClassId(@Param("classId") Long classId);
+
+    @Query("SELECT w FROM WaitlistEntry w JOIN FETCH w.user WHERE w.trainingClass.id = :classId ORDER BY w.position ASC")
+    List<WaitlistEntry> findQueue(@Param("classId") Long classId);
+}
@@ -0,0 +1,94 @@
+package com.naivez.fithub.security;
+
+import com.naivez.fithub.entity.User;
+import com.naivez.fithub.exception.UserNotFoundException;
+import com.naivez.fithub.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+public class CurrentUserResolver {
+
+    private static final String USER_IDS_ATTRIBUTE = CurrentUserResolver.class.getName() + ".userIds";
+
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    public User resolve(String email) {
+        Long userId = knownUserId(email);
+        if (userId != null) {
+            return userRepository.findById(userId)
+                    .orElseThrow(() -> notFound(email));
+        }
+
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> notFound(email));
+        remember(email, user.getId());
+        return user;
+    }
+
+    public Long resolveId(String email) {
+        Long userId = knownUserId(email);
+        if (userId != null) {
+            return userId;
+        }
+
+        userId = userRepository.findIdByEmail(email)
+                .orElseThrow(() -> notFound(email));
+        remember(email, userId);
+        return userId;
+    }
+
+    private Long knownUserId(String email) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof AuthenticatedUser principal
+                && principal.getEmail().equals(email)) {
+            count("principal");
+            return principal.getId();
+        }
+
+        Map<String, Long> userIds = requestUserIds();
+        Long userId = userIds != null ? userIds.get(email) : null;
+        count(userId != null ? "request" : "database");
+        return userId;
+    }
+
+    private void remember(String email, Long userId) {
+        Map<String, Long> userIds = requestUserIds();
+        if (userIds != null) {
+            userIds.put(email, userId);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> requestUserIds() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Map<String, Long> userIds = (Map<String, Long>) attributes.getAttribute(USER_IDS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (userIds == null) {
+            userIds = new HashMap<>();
+            attributes.setAttribute(USER_IDS_ATTRIBUTE, userIds, RequestAttributes.SCOPE_REQUEST);
+        }
+        return userIds;
+    }
+
+    private void count(String source) {
+        meterRegistry.counter("fithub.user.lookups", "source", source).increment();
+    }
+
+    private UserNotFoundException notFound(String email) {
+        return new UserNotFoundException("User not found with email: " + email);
+    }
+}
@@ -1,6 +1,8 @@
 package com.naivez.fithub.security;
 
 import com.naivez.fithub.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,6 +25,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     public void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -32,20 +35,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             final String jwt = authHeader.substring(7);
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "error";
             try {
                 String userEmail = jwtUtil.extractUsername(jwt);
-                authenticateUser(userEmail, jwt, request);
+                Long userId = jwtUtil.extractUserId(jwt).orElse(null);
+                outcome = authenticateUser(userEmail, userId, jwt, request);
             } catch (Exception e) {
                 log.error("JWT authentication failed: {}", e.getMessage());
+            } finally {
+                sample.stop(meterRegistry.timer("fithub.jwt.validation", "outcome", outcome));
             }
         }
 
         filterChain.doFilter(request, response);
     }
 
-    private void authenticateUser(String userEmail, String jwt, HttpServletRequest request) {
+    private String authenticateUser(String userEmail, Long userId, String jwt, HttpServletRequest request) {
         if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+            UserDetails userDetails = userId != null
+                    ? userDetailsService.loadUserById(userId)
+                    : userDetailsService.loadUserByUsername(userEmail);
 
             if (jwtUtil.validateToken(jwt, userDetails)) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
@@ -55,7 +65,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 );
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                return "authenticated";
             }
+            return "rejected";
         }
+        return "skipped";
     }
 }
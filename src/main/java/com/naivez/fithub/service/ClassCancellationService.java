@@ -0,0 +1,61 @@
+package com.naivez.fithub.service;
+
+import com.naivez.fithub.entity.TrainingClass;
+import com.naivez.fithub.exception.InvalidStatusException;
+import com.naivez.fithub.repository.ReservationRepository;
+import com.naivez.fithub.repository.TrainingClassRepository;
+import com.naivez.fithub.repository.WaitlistEntryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ClassCancellationService {
+
+    private final TrainingClassRepository trainingClassRepository;
+    private final ReservationRepository reservationRepository;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final NotificationService notificationService;
+    private final OccupancyRollupService occupancyRollupService;
+
+    @Transactional
+    public int cancelClass(TrainingClass trainingClass) {
+        Long classId = trainingClass.getId();
+        log.info("Cancelling training class - id: {}, name: {}", classId, trainingClass.getName());
+
+        if ("CANCELLED".equals(trainingClass.getStatus())) {
+            log.warn("Class cancellation failed - already cancelled: {}", classId);
+            throw new InvalidStatusException("Training class is already cancelled");
+        }
+
+        occupancyRollupService.classRemoved(trainingClass);
+
+        Set<Long> affectedUserIds = new LinkedHashSet<>(reservationRepository.findConfirmedUserIdsByClassId(classId));
+        affectedUserIds.addAll(waitlistEntryRepository.findUserIdsByClassId(classId));
+
+        trainingClass.setStatus("CANCELLED");
+        trainingClass.setCancelledAt(LocalDateTime.now());
+        trainingClassRepository.save(trainingClass);
+
+        int cancelledReservations = reservationRepository.cancelConfirmedByClassId(classId);
+        waitlistEntryRepository.deleteByClassId(classId);
+
+        String message = "Your class " + trainingClass.getName() + " on " + trainingClass.getStartTime() + " has been cancelled";
+        notificationService.createNotifications(affectedUserIds, message);
+        if (trainingClass.getTrainer() != null) {
+            notificationService.createNotification(trainingClass.getTrainer(), message);
+        }
+
+        log.info("Training class cancelled - id: {}, reservations cancelled: {}, members notified: {}",
+                classId, cancelledReservations, affectedUserIds.size());
+        return cancelledReservations;
+    }
+}
@@ -0,0 +1,126 @@
+package com.naivez.fithub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naivez.fithub.exception.InvalidTimeRangeException;
+import com.naivez.fithub.exporting.CsvRowWriter;
+import com.naivez.fithub.exporting.ExportFormat;
+import com.naivez.fithub.exporting.ExportRowWriter;
+import com.naivez.fithub.exporting.NdjsonRowWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final List<String> RESERVATION_COLUMNS = List.of(
+            "reservationId", "reservationDate", "status", "rating", "comment",
+            "userId", "userEmail", "userFirstName", "userLastName",
+            "classId", "className", "classStartTime", "classEndTime",
+            "trainerId", "trainerEmail", "trainerFirstName", "trainerLastName",
+            "roomId", "roomName"
+    );
+
+    private static final String RESERVATION_EXPORT_SQL = """
+            SELECT r.id, r.reservation_date, r.status, r.rating, r.comment,
+                   u.id, u.email, u.first_name, u.last_name,
+                   c.id, c.name, c.start_time, c.end_time,
+                   t.id, t.email, t.first_name, t.last_name,
+                   rm.id, rm.name
+            FROM reservations r
+            JOIN users u ON u.id = r.user_id
+            JOIN training_classes c ON c.id = r.training_class_id
+            LEFT JOIN users t ON t.id = c.trainer_id
+            LEFT JOIN rooms rm ON rm.id = c.room_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${export.fetch-size:1000}")
+    private int fetchSize;
+
+    public StreamingResponseBody exportReservations(ExportFormat format, LocalDateTime from, LocalDateTime to,
+                                                    String status) {
+        if (from != null && to != null && to.isBefore(from)) {
+            throw new InvalidTimeRangeException("End date must be after start date");
+        }
+
+        return output -> writeReservations(output, format, from, to, status);
+    }
+
+    private void writeReservations(OutputStream output, ExportFormat format,
+                                   LocalDateTime from, LocalDateTime to, String status) throws IOException {
+        log.info("Starting reservation export - format: {}, from: {}, to: {}, status: {}", format, from, to, status);
+
+        StringBuilder sql = new StringBuilder(RESERVATION_EXPORT_SQL).append("WHERE 1 = 1");
+        List<Object> parameters = new ArrayList<>();
+        if (from != null) {
+            sql.append(" AND r.reservation_date >= ?");
+            parameters.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND r.reservation_date < ?");
+            parameters.add(Timestamp.valueOf(to));
+        }
+        if (status != null && !status.isBlank()) {
+            sql.append(" AND r.status = ?");
+            parameters.add(status.toUpperCase());
+        }
+        sql.append(" ORDER BY r.id");
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        ExportRowWriter rowWriter = format == ExportFormat.CSV
+                ? new CsvRowWriter(writer)
+                : new NdjsonRowWriter(writer, objectMapper);
+        rowWriter.writeHeader(RESERVATION_COLUMNS);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        long[] exportedRows = {0};
+        transactionTemplate.executeWithoutResult(transactionStatus -> jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(
+                            sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                    statement.setFetchSize(fetchSize);
+                    for (int i = 0; i < parameters.size(); i++) {
+                        statement.setObject(i + 1, parameters.get(i));
+                    }
+                    return statement;
+                },
+                resultSet -> {
+                    List<Object> values = new ArrayList<>(RESERVATION_COLUMNS.size());
+                    for (int i = 1; i <= RESERVATION_COLUMNS.size(); i++) {
+                        Object value = resultSet.getObject(i);
+                        values.add(value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : value);
+                    }
+                    try {
+                        rowWriter.writeRow(values);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    exportedRows[0]++;
+                }));
+
+        rowWriter.flush();
+        log.info("Reservation export finished - rows: {}", exportedRows[0]);
+    }
+}
@@ -0,0 +1,69 @@
+package com.naivez.fithub.service;
+
+import com.naivez.fithub.entity.IdempotencyRecord;
+import com.naivez.fithub.repository.IdempotencyRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class IdempotencyService {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Value("${idempotency.ttl:24h}")
+    private Duration ttl;
+
+    @Value("${idempotency.lease:60s}")
+    private Duration lease;
+
+    public Optional<IdempotencyRecord> findActive(String key) {
+        return idempotencyRecordRepository.findActive(key, LocalDateTime.now());
+    }
+
+    @Transactional
+    public IdempotencyRecord reserve(String key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyRecordRepository.deleteExpiredByKey(key, now);
+        return idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder()
+                .idempotencyKey(key)
+                .requestHash(requestHash)
+                .createdAt(now)
+                .expiresAt(now.plus(lease))
+                .lockedUntil(now.plus(lease))
+                .build());
+    }
+
+    @Transactional
+    public void complete(IdempotencyRecord reservation, int status, String contentType, String body) {
+        int updated = idempotencyRecordRepository.complete(reservation.getId(), status, contentType, body,
+                LocalDateTime.now().plus(ttl));
+        if (updated == 0) {
+            log.warn("Idempotency lease lapsed before completion - key: {}", reservation.getIdempotencyKey());
+        }
+    }
+
+    @Transactional
+    public void release(IdempotencyRecord reservation) {
+        idempotencyRecordRepository.deletePending(reservation.getId());
+    }
+
+    @Transactional
+    @Scheduled(cron = "${idempotency.purge-cron:0 0 * * * *}")
+    public void purgeExpired() {
+        int purged = idempotencyRecordRepository.deleteExpired(LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged expired idempotency keys - count: {}", purged);
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.naivez.fithub.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naivez.fithub.dto.ImportReportDTO;
+import com.naivez.fithub.entity.*;
+import com.naivez.fithub.exception.InvalidRequestDataException;
+import com.naivez.fithub.exception.MalformedImportRowException;
+import com.naivez.fithub.importing.*;
+import com.naivez.fithub.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportService {
+
+    private static final Pattern EMAIL_PATTERN = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final RoomRepository roomRepository;
+    private final MembershipRepository membershipRepository;
+    private final TrainingClassRepository trainingClassRepository;
+    private final MembershipService membershipService;
+    private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+    private final ImportWorkerPool importWorkerPool;
+    private final ObjectMapper objectMapper;
+
+    @Value("${import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    public ImportReportDTO importMembers(InputStream input, ImportFormat format) {
+        log.info("Starting member import - format: {}", format);
+
+        Map<String, Long> roleIds = roleRepository.findAll().stream()
+                .collect(Collectors.toMap(Role::getName, Role::getId));
+        ImportReport report = new ImportReport(maxReportedErrors);
+
+        readInChunks(input, format, report, chunk -> {
+            List<ParsedRow<MemberRow>> rows = parseInParallel(chunk, row -> parseMemberRow(row, roleIds), report);
+            writeChunk(rows, report, validRows -> saveMembers(validRows, roleIds));
+        });
+
+        log.info("Member import finished - imported: {}, failed: {}", report.getImportedRows(), report.getFailedRows());
+        return report.toDto();
+    }
+
+    public ImportReportDTO importClasses(InputStream input, ImportFormat format) {
+        log.info("Starting class import - format: {}", format);
+
+        ImportReport report = new ImportReport(maxReportedErrors);
+
+        readInChunks(input, format, report, chunk -> {
+            List<ParsedRow<ClassRow>> rows = parseInParallel(chunk, this::parseClassRow, report);
+            writeChunk(rows, report, this::saveClasses);
+        });
+
+        log.info("Class import finished - imported: {}, failed: {}", report.getImportedRows(), report.getFailedRows());
+        return report.toDto();
+    }
+
+    private void readInChunks(InputStream input, ImportFormat format, ImportReport report,
+                              Consumer<List<RawRow>> chunkHandler) {
+        BufferedReader bufferedReader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        try (ImportRowReader reader = format == ImportFormat.CSV
+                ? new CsvRowReader(bufferedReader)
+                : new NdjsonRowReader(bufferedReader, objectMapper)) {
+            List<RawRow> chunk = new ArrayList<>(chunkSize);
+            long rowNumber = 0;
+
+            while (true) {
+                rowNumber++;
+                Map<String, String> values;
+                try {
+                    values = reader.nextRow();
+                } catch (MalformedImportRowException e) {
+                    report.rejected(rowNumber, e.getMessage());
+                    continue;
+                }
+
+                if (values == null) {
+                    break;
+                }
+
+                chunk.add(new RawRow(rowNumber, values));
+                if (chunk.size() >= chunkSize) {
+                    chunkHandler.accept(chunk);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+
+            if (!chunk.isEmpty()) {
+                chunkHandler.accept(chunk);
+            }
+        } catch (IOException e) {
+            log.error("Import aborted - failed to read input: {}", e.getMessage());
+            throw new InvalidRequestDataException("Failed to read import data: " + e.getMessage());
+        }
+    }
+
+    private <T> List<ParsedRow<T>> parseInParallel(List<RawRow> chunk, Function<RawRow, T> parser, ImportReport report) {
+        List<CompletableFuture<ParsedRow<T>>> futures = chunk.stream()
+                .map(row -> importWorkerPool.submit(() -> {
+                    try {
+                        return new ParsedRow<>(row.rowNumber(), parser.apply(row), null);
+                    } catch (InvalidRequestDataException e) {
+                        return new ParsedRow<T>(row.rowNumber(), null, e.getMessage());
+                    }
+                }))
+                .toList();
+
+        List<ParsedRow<T>> validRows = new ArrayList<>();
+        for (CompletableFuture<ParsedRow<T>> future : futures) {
+            ParsedRow<T> parsed = future.join();
+            if (parsed.error() != null) {
+                report.rejected(parsed.rowNumber(), parsed.error());
+            } else {
+                validRows.add(parsed);
+            }
+        }
+        return validRows;
+    }
+
+    private <T> void writeChunk(List<ParsedRow<T>> rows, ImportReport report,
+                                Function<List<ParsedRow<T>>, ChunkResult> writer) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        try {
+            ChunkResult result = transactionTemplate.execute(status -> writer.apply(rows));
+            report.imported(result.importedRows());
+            result.rejections().forEach(rejection -> report.rejected(rejection.rowNumber(), rejection.error()));
+        } catch (RuntimeException e) {
+            log.error("Import chunk failed - rows: {}, error: {}", rows.size(), e.getMessage());
+            rows.forEach(row -> report.rejected(row.rowNumber(), "Chunk write failed: " + e.getMessage()));
+        }
+    }
+
+    private MemberRow parseMemberRow(RawRow row, Map<String, Long> roleIds) {
+        String email = required(row, "email");
+        if (!EMAIL_PATTERN.matcher(email).matches()) {
+            throw new InvalidRequestDataException("Email must be valid");
+        }
+
+        String password = required(row, "password");
+        if (password.length() < 6) {
+            throw new InvalidRequestDataException("Password must be at least 6 characters");
+        }
+
+        String role = optional(row, "role");
+        String roleName = role == null ? "ROLE_CLIENT"
+                : role.startsWith("ROLE_") ? role : "ROLE_" + role.toUpperCase();
+        if (!roleIds.containsKey(roleName)) {
+            throw new InvalidRequestDataException("Role not found: " + roleName);
+        }
+
+        String membershipType = optional(row, "membershipType");
+        if (membershipType != null && !membershipService.isValidType(membershipType)) {
+            throw new InvalidRequestDataException("Invalid membership type. Valid types: MONTHLY, QUARTERLY, ANNUAL");
+        }
+
+        String startDate = optional(row, "membershipStartDate");
+        LocalDate membershipStartDate;
+        try {
+            membershipStartDate = startDate != null ? LocalDate.parse(startDate) : LocalDate.now();
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestDataException("Invalid date for membershipStartDate: " + startDate);
+        }
+
+        return new MemberRow(
+                email,
+                passwordEncoder.encode(password),
+                required(row, "firstName"),
+                required(row, "lastName"),
+                optional(row, "phone"),
+                roleName,
+                membershipType,
+                membershipStartDate
+        );
+    }
+
+    private ClassRow parseClassRow(RawRow row) {
+        String name = required(row, "name");
+        String trainerEmail = required(row, "trainerEmail");
+        Long roomId = parseLong(row, "roomId");
+        LocalDateTime startTime = parseDateTime(row, "startTime");
+        LocalDateTime endTime = parseDateTime(row, "endTime");
+
+        if (endTime.isBefore(startTime)) {
+            throw new InvalidRequestDataException("End time must be after start time");
+        }
+
+        int capacity = parseInt(row, "capacity");
+        if (capacity <= 0) {
+            throw new InvalidRequestDataException("Capacity must be positive");
+        }
+
+        return new ClassRow(name, optional(row, "description"), trainerEmail, roomId, startTime, endTime, capacity);
+    }
+
+    private ChunkResult saveMembers(List<ParsedRow<MemberRow>> rows, Map<String, Long> roleIds) {
+        Set<String> emails = rows.stream()
+                .map(row -> row.value().email())
+                .collect(Collectors.toSet());
+        Set<String> existingEmails = userRepository.findExistingEmails(emails);
+
+        Set<String> seenEmails = new HashSet<>();
+        List<ParsedRow<?>> rejections = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        List<Membership> memberships = new ArrayList<>();
+
+        for (ParsedRow<MemberRow> row : rows) {
+            MemberRow member = row.value();
+            if (existingEmails.contains(member.email())) {
+                rejections.add(row.rejected("Email already exists"));
+                continue;
+            }
+            if (!seenEmails.add(member.email())) {
+                rejections.add(row.rejected("Duplicate email in import"));
+                continue;
+            }
+
+            Set<Role> roles = new HashSet<>();
+            roles.add(roleRepository.getReferenceById(roleIds.get(member.roleName())));
+
+            User user = User.builder()
+                    .email(member.email())
+                    .password(member.encodedPassword())
+                    .firstName(member.firstName())
+                    .lastName(member.lastName())
+                    .phone(member.phone())
+                    .roles(roles)
+                    .memberships(new HashSet<>())
+                    .reservations(new HashSet<>())
+                    .notifications(new HashSet<>())
+                    .build();
+            users.add(user);
+
+            if (member.membershipType() != null) {
+                memberships.add(membershipService.buildMembership(user, member.membershipType(), member.membershipStartDate()));
+            }
+        }
+
+        userRepository.saveAll(users);
+        membershipRepository.saveAll(memberships);
+
+        return new ChunkResult(users.size(), rejections);
+    }
+
+    private ChunkResult saveClasses(List<ParsedRow<ClassRow>> rows) {
+        Set<String> trainerEmails = rows.stream()
+                .map(row -> row.value().trainerEmail())
+                .collect(Collectors.toSet());
+        Map<String, User> trainers = userRepository.findTrainersByEmailIn(trainerEmails).stream()
+                .collect(Collectors.toMap(User::getEmail, Function.identity()));
+
+        Set<Long> roomIds = rows.stream()
+                .map(row -> row.value().roomId())
+                .collect(Collectors.toSet());
+        Map<Long, Room> rooms = roomRepository.findAllById(roomIds).stream()
+                .collect(Collectors.toMap(Room::getId, Function.identity()));
+
+        List<ParsedRow<?>> rejections = new ArrayList<>();
+        List<TrainingClass> classes = new ArrayList<>();
+
+        for (ParsedRow<ClassRow> row : rows) {
+            ClassRow classRow = row.value();
+            User trainer = trainers.get(classRow.trainerEmail());
+            if (trainer == null) {
+                rejections.add(row.rejected("Trainer not found with email: " + classRow.trainerEmail()));
+                continue;
+            }
+            Room room = rooms.get(classRow.roomId());
+            if (room == null) {
+                rejections.add(row.rejected("Room not found with id: " + classRow.roomId()));
+                continue;
+            }
+
+            classes.add(TrainingClass.builder()
+                    .name(classRow.name())
+                    .description(classRow.description())
+                    .trainer(trainer)
+                    .room(room)
+                    .startTime(classRow.startTime())
+                    .endTime(classRow.endTime())
+                    .capacity(classRow.capacity())
+                    .reservations(new HashSet<>())
+                    .build());
+        }
+
+        trainingClassRepository.saveAll(classes);
+
+        return new ChunkResult(classes.size(), rejections);
+    }
+
+    private String required(RawRow row, String field) {
+        String value = optional(row, field);
+        if (value == null) {
+            throw new InvalidRequestDataException("Field '" + field + "' is required");
+        }
+        return value;
+    }
+
+    private String optional(RawRow row, String field) {
+        String value = row.values().get(field);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim();
+    }
+
+    private Long parseLong(RawRow row, String field) {
+        String value = required(row, field);
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestDataException("Invalid number for " + field + ": " + value);
+        }
+    }
+
+    private int parseInt(RawRow row, String field) {
+        String value = required(row, field);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestDataException("Invalid number for " + field + ": " + value);
+        }
+    }
+
+    private LocalDateTime parseDateTime(RawRow row, String field) {
+        String value = required(row, field);
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new InvalidRequestDataException("Invalid date-time for " + field + ": " + value);
+        }
+    }
+
+    private record RawRow(long rowNumber, Map<String, String> values) {
+    }
+
+    private record ParsedRow<T>(long rowNumber, T value, String error) {
+
+        ParsedRow<T> rejected(String message) {
+            return new ParsedRow<>(rowNumber, null, message);
+        }
+    }
+
+    private record ChunkResult(long importedRows, List<ParsedRow<?>> rejections) {
+    }
+
+    private record MemberRow(String email, String encodedPassword, String firstName, String lastName, String phone,
+                             String roleName, String membershipType, LocalDate membershipStartDate) {
+    }
+
+    private record ClassRow(String name, String description, String trainerEmail, Long roomId,
+                            LocalDateTime startTime, LocalDateTime endTime, int capacity) {
+    }
+}
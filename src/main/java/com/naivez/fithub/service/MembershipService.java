@@ -5,16 +5,18 @@ import com.naivez.fithub.dto.PurchaseMembershipRequest;
 import com.naivez.fithub.entity.Membership;
 import com.naivez.fithub.entity.User;
 import com.naivez.fithub.exception.InvalidRequestDataException;
-import com.naivez.fithub.exception.UserNotFoundException;
 import com.naivez.fithub.mapper.MembershipMapper;
 import com.naivez.fithub.repository.MembershipRepository;
-import com.naivez.fithub.repository.UserRepository;
+import com.naivez.fithub.security.CurrentUserResolver;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.List;
@@ -28,9 +30,12 @@ import java.util.stream.Collectors;
 public class MembershipService {
 
     private final MembershipRepository membershipRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final MembershipMapper membershipMapper;
+    private final RevenueRollupService revenueRollupService;
+    private final MeterRegistry meterRegistry;
 
+    private static final int MRR_MONTH_DAYS = 30;
     private static final Map<String, MembershipConfig> MEMBERSHIP_TYPES = new HashMap<>();
 
     static {
@@ -40,10 +45,9 @@ public class MembershipService {
     }
 
     public List<MembershipDTO> getUserMemberships(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
+        Long userId = currentUserResolver.resolveId(userEmail);
 
-        List<Membership> memberships = membershipRepository.findByUserIdOrderByEndDateDesc(user.getId());
+        List<Membership> memberships = membershipRepository.findByUserIdOrderByEndDateDesc(userId);
 
         return memberships.stream()
                 .map(membershipMapper::toDto)
@@ -51,11 +55,10 @@ public class MembershipService {
     }
 
     public List<MembershipDTO> getActiveMemberships(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
+        Long userId = currentUserResolver.resolveId(userEmail);
 
         LocalDate today = LocalDate.now();
-        List<Membership> memberships = membershipRepository.findActiveByUserId(user.getId(), today);
+        List<Membership> memberships = membershipRepository.findActiveByUserId(userId, today);
 
         return memberships.stream()
                 .map(membershipMapper::toDto)
@@ -63,11 +66,11 @@ public class MembershipService {
     }
 
     @Transactional
+    @Timed(value = "fithub.membership.purchase", description = "Membership purchase latency")
     public MembershipDTO purchaseMembership(String userEmail, PurchaseMembershipRequest request) {
         log.info("Purchasing membership for user: {}, type: {}", userEmail, request.getType());
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
+        User user = currentUserResolver.resolve(userEmail);
 
         String type = request.getType().toUpperCase();
         if (!MEMBERSHIP_TYPES.containsKey(type)) {
@@ -75,22 +78,13 @@ public class MembershipService {
             throw new InvalidRequestDataException("Invalid membership type. Valid types: MONTHLY, QUARTERLY, ANNUAL");
         }
 
-        MembershipConfig config = MEMBERSHIP_TYPES.get(type);
-        LocalDate startDate = LocalDate.now();
-        LocalDate endDate = startDate.plusDays(config.durationDays);
-
-        Membership membership = Membership.builder()
-                .user(user)
-                .type(type)
-                .startDate(startDate)
-                .endDate(endDate)
-                .price(config.price)
-                .active(true)
-                .build();
+        Membership membership = buildMembership(user, type, LocalDate.now());
 
         membership = membershipRepository.save(membership);
+        meterRegistry.counter("fithub.membership.purchases", "type", type, "kind", "purchase").increment();
+        revenueRollupService.membershipPurchased(membership, monthlyRecurringRevenue(type, membership.getPrice()));
         log.info("Membership purchased successfully - id: {}, user: {}, type: {}, endDate: {}",
-                membership.getId(), userEmail, type, endDate);
+                membership.getId(), userEmail, type, membership.getEndDate());
 
         return membershipMapper.toDto(membership);
     }
@@ -99,8 +93,7 @@ public class MembershipService {
     public MembershipDTO topUpBalance(String userEmail, PurchaseMembershipRequest request) {
         log.info("Topping up membership for user: {}, type: {}", userEmail, request.getType());
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
+        User user = currentUserResolver.resolve(userEmail);
 
         String type = request.getType().toUpperCase();
         if (!MEMBERSHIP_TYPES.containsKey(type)) {
@@ -123,22 +116,50 @@ public class MembershipService {
         membership.setEndDate(newEndDate);
 
         membership = membershipRepository.save(membership);
+        meterRegistry.counter("fithub.membership.purchases", "type", type, "kind", "top_up").increment();
+        revenueRollupService.membershipRenewed(type, config.price);
         log.info("Membership topped up successfully - id: {}, user: {}, type: {}, newEndDate: {}",
                 membership.getId(), userEmail, type, newEndDate);
 
         return membershipMapper.toDto(membership);
     }
 
-    public boolean hasActiveMembership(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
-
+    public boolean hasActiveMembership(Long userId) {
         LocalDate today = LocalDate.now();
-        List<Membership> activeMemberships = membershipRepository.findActiveByUserId(user.getId(), today);
+        List<Membership> activeMemberships = membershipRepository.findActiveByUserId(userId, today);
 
         return !activeMemberships.isEmpty();
     }
 
+    public boolean isValidType(String type) {
+        return type != null && MEMBERSHIP_TYPES.containsKey(type.toUpperCase());
+    }
+
+    public Membership buildMembership(User user, String type, LocalDate startDate) {
+        MembershipConfig config = MEMBERSHIP_TYPES.get(type.toUpperCase());
+        if (config == null) {
+            throw new InvalidRequestDataException("Invalid membership type. Valid types: MONTHLY, QUARTERLY, ANNUAL");
+        }
+
+        return Membership.builder()
+                .user(user)
+                .type(type.toUpperCase())
+                .startDate(startDate)
+                .endDate(startDate.plusDays(config.durationDays))
+                .price(config.price)
+                .active(true)
+                .build();
+    }
+
+    public BigDecimal monthlyRecurringRevenue(String type, BigDecimal price) {
+        MembershipConfig config = MEMBERSHIP_TYPES.get(type.toUpperCase());
+        if (config == null || price == null) {
+            return BigDecimal.ZERO;
+        }
+        return price.multiply(BigDecimal.valueOf(MRR_MONTH_DAYS))
+                .divide(BigDecimal.valueOf(config.durationDays), 2, RoundingMode.HALF_UP);
+    }
+
     private static class MembershipConfig {
         int durationDays;
         BigDecimal price;
@@ -9,12 +9,15 @@ import com.naivez.fithub.exception.UserNotFoundException;
 import com.naivez.fithub.mapper.NotificationMapper;
 import com.naivez.fithub.repository.NotificationRepository;
 import com.naivez.fithub.repository.UserRepository;
+import com.naivez.fithub.security.CurrentUserResolver;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -26,13 +29,14 @@ public class NotificationService {
 
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final NotificationMapper notificationMapper;
+    private final MeterRegistry meterRegistry;
 
     public List<NotificationDTO> getUserNotifications(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
+        Long userId = currentUserResolver.resolveId(userEmail);
 
-        List<Notification> notifications = notificationRepository.findByRecipientId(user.getId());
+        List<Notification> notifications = notificationRepository.findByRecipientId(userId);
 
         return notifications.stream()
                 .map(notificationMapper::toDto)
@@ -40,10 +44,9 @@ public class NotificationService {
     }
 
     public List<NotificationDTO> getUnreadNotifications(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
+        Long userId = currentUserResolver.resolveId(userEmail);
 
-        List<Notification> notifications = notificationRepository.findUnreadByRecipientId(user.getId());
+        List<Notification> notifications = notificationRepository.findUnreadByRecipientId(userId);
 
         return notifications.stream()
                 .map(notificationMapper::toDto)
@@ -54,13 +57,12 @@ public class NotificationService {
     public void markAsRead(String userEmail, Long notificationId) {
         log.debug("Marking notification as read - user: {}, notificationId: {}", userEmail, notificationId);
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
+        Long userId = currentUserResolver.resolveId(userEmail);
 
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new EntityNotFoundException("Notification not found"));
 
-        if (!notification.getRecipient().getId().equals(user.getId())) {
+        if (!notification.getRecipient().getId().equals(userId)) {
             log.warn("Attempt to mark foreign notification as read - user: {}, notificationId: {}",
                     userEmail, notificationId);
             throw new UnauthorizedActionException("You can only mark your own notifications as read");
@@ -74,10 +76,9 @@ public class NotificationService {
     @Transactional
     public void markAllAsRead(String userEmail) {
         log.debug("Marking all notifications as read for user: {}", userEmail);
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
+        Long userId = currentUserResolver.resolveId(userEmail);
 
-        List<Notification> unreadNotifications = notificationRepository.findUnreadByRecipientId(user.getId());
+        List<Notification> unreadNotifications = notificationRepository.findUnreadByRecipientId(userId);
 
         unreadNotifications.forEach(n -> n.setRead(true));
         notificationRepository.saveAll(unreadNotifications);
@@ -96,6 +97,7 @@ public class NotificationService {
                 .build();
 
         notificationRepository.save(notification);
+        meterRegistry.counter("fithub.notifications.created").increment();
     }
 
     @Transactional
@@ -106,6 +108,27 @@ public class NotificationService {
         createNotification(recipient, message);
     }
 
+    @Transactional
+    public void createNotifications(Collection<Long> recipientIds, String message) {
+        if (recipientIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime sentAt = LocalDateTime.now();
+        List<Notification> notifications = recipientIds.stream()
+                .map(recipientId -> Notification.builder()
+                        .recipient(userRepository.getReferenceById(recipientId))
+                        .message(message)
+                        .sentAt(sentAt)
+                        .read(false)
+                        .build())
+                .toList();
+
+        notificationRepository.saveAll(notifications);
+        meterRegistry.counter("fithub.notifications.created").increment(notifications.size());
+        log.debug("Created notifications in bulk - recipients: {}", notifications.size());
+    }
+
     @Transactional
     public void createNotificationByUserId(Long recipientId, String message) {
         User recipient = userRepository.findById(recipientId)
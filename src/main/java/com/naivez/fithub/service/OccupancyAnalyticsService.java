@@ -0,0 +1,193 @@
+package com.naivez.fithub.service;
+
+import com.naivez.fithub.analytics.*;
+import com.naivez.fithub.dto.OccupancyDailyDTO;
+import com.naivez.fithub.dto.OccupancyHeatmapCellDTO;
+import com.naivez.fithub.dto.OccupancyRebuildDTO;
+import com.naivez.fithub.dto.OccupancySummaryDTO;
+import com.naivez.fithub.entity.OccupancyFact;
+import com.naivez.fithub.entity.Room;
+import com.naivez.fithub.entity.User;
+import com.naivez.fithub.exception.InvalidTimeRangeException;
+import com.naivez.fithub.repository.OccupancyFactRepository;
+import com.naivez.fithub.repository.RoomRepository;
+import com.naivez.fithub.repository.TrainingClassRepository;
+import com.naivez.fithub.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OccupancyAnalyticsService {
+
+    private static final int RECONCILE_DAYS_BACK = 7;
+    private static final int RECONCILE_DAYS_AHEAD = 60;
+
+    private final OccupancyFactRepository occupancyFactRepository;
+    private final TrainingClassRepository trainingClassRepository;
+    private final RoomRepository roomRepository;
+    private final UserRepository userRepository;
+
+    public List<OccupancySummaryDTO> getOccupancySummary(LocalDate from, LocalDate to, OccupancyGrouping grouping) {
+        validateRange(from, to);
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        List<OccupancyTotals> totals = switch (grouping) {
+            case ROOM -> occupancyFactRepository.sumByRoom(start, end);
+            case TRAINER -> occupancyFactRepository.sumByTrainer(start, end);
+            case CLASS_NAME -> occupancyFactRepository.sumByClassName(start, end);
+        };
+        Map<String, String> labels = resolveLabels(totals, grouping);
+
+        return totals.stream()
+                .map(total -> OccupancySummaryDTO.builder()
+                        .key(total.key())
+                        .label(labels.getOrDefault(total.key(), total.key()))
+                        .classCount(total.classCount())
+                        .capacity(total.capacity())
+                        .confirmedCount(total.confirmedCount())
+                        .fillRate(fillRate(total.confirmedCount(), total.capacity()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    public List<OccupancyDailyDTO> getDailyOccupancy(LocalDate from, LocalDate to, Long roomId) {
+        validateRange(from, to);
+
+        Map<LocalDate, long[]> daily = new TreeMap<>();
+        for (OccupancyBucketTotals bucket : findBuckets(from, to, roomId)) {
+            accumulate(daily.computeIfAbsent(bucket.bucketStart().toLocalDate(), date -> new long[3]), bucket);
+        }
+
+        return daily.entrySet().stream()
+                .map(entry -> OccupancyDailyDTO.builder()
+                        .date(entry.getKey())
+                        .classCount(entry.getValue()[0])
+                        .capacity(entry.getValue()[1])
+                        .confirmedCount(entry.getValue()[2])
+                        .fillRate(fillRate(entry.getValue()[2], entry.getValue()[1]))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    public List<OccupancyHeatmapCellDTO> getHeatmap(LocalDate from, LocalDate to, Long roomId) {
+        validateRange(from, to);
+
+        Map<DayOfWeek, Map<Integer, long[]>> cells = new EnumMap<>(DayOfWeek.class);
+        for (OccupancyBucketTotals bucket : findBuckets(from, to, roomId)) {
+            long[] cell = cells.computeIfAbsent(bucket.bucketStart().getDayOfWeek(), day -> new TreeMap<>())
+                    .computeIfAbsent(bucket.bucketStart().getHour(), hour -> new long[3]);
+            accumulate(cell, bucket);
+        }
+
+        List<OccupancyHeatmapCellDTO> heatmap = new ArrayList<>();
+        cells.forEach((dayOfWeek, hours) -> hours.forEach((hour, cell) -> heatmap.add(OccupancyHeatmapCellDTO.builder()
+                .dayOfWeek(dayOfWeek)
+                .hour(hour)
+                .classCount(cell[0])
+                .capacity(cell[1])
+                .confirmedCount(cell[2])
+                .fillRate(fillRate(cell[2], cell[1]))
+                .build())));
+        return heatmap;
+    }
+
+    @Transactional
+    public OccupancyRebuildDTO rebuild(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        log.info("Rebuilding occupancy facts - from: {}, to: {}", from, to);
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        int deleted = occupancyFactRepository.deleteByBucketRange(start, end);
+        List<ClassOccupancy> classes = trainingClassRepository.findClassOccupancyBetween(start, end);
+
+        Map<OccupancyKey, OccupancyFact> facts = new LinkedHashMap<>();
+        for (ClassOccupancy occupancy : classes) {
+            OccupancyKey key = OccupancyKey.of(
+                    occupancy.startTime(), occupancy.roomId(), occupancy.trainerId(), occupancy.className());
+            OccupancyFact fact = facts.computeIfAbsent(key, k -> OccupancyFact.builder()
+                    .bucketStart(k.bucketStart())
+                    .roomId(k.roomId())
+                    .trainerId(k.trainerId())
+                    .className(k.className())
+                    .build());
+            fact.setClassCount(fact.getClassCount() + 1);
+            fact.setCapacity(fact.getCapacity() + occupancy.capacity());
+            fact.setConfirmedCount(fact.getConfirmedCount() + occupancy.confirmedCount().intValue());
+        }
+        occupancyFactRepository.saveAll(facts.values());
+
+        log.info("Occupancy facts rebuilt - from: {}, to: {}, deleted: {}, written: {}, classes: {}",
+                from, to, deleted, facts.size(), classes.size());
+
+        return OccupancyRebuildDTO.builder()
+                .from(from)
+                .to(to)
+                .classesScanned(classes.size())
+                .factsWritten(facts.size())
+                .build();
+    }
+
+    @Scheduled(cron = "${analytics.occupancy.reconcile-cron:0 30 3 * * *}")
+    @Transactional
+    public void reconcileRecentFacts() {
+        LocalDate today = LocalDate.now();
+        rebuild(today.minusDays(RECONCILE_DAYS_BACK), today.plusDays(RECONCILE_DAYS_AHEAD));
+    }
+
+    private List<OccupancyBucketTotals> findBuckets(LocalDate from, LocalDate to, Long roomId) {
+        return occupancyFactRepository.sumByBucket(from.atStartOfDay(), to.plusDays(1).atStartOfDay(), roomId);
+    }
+
+    private Map<String, String> resolveLabels(List<OccupancyTotals> totals, OccupancyGrouping grouping) {
+        if (grouping == OccupancyGrouping.CLASS_NAME) {
+            return Map.of();
+        }
+
+        Set<Long> ids = totals.stream()
+                .map(total -> Long.valueOf(total.key()))
+                .filter(id -> id != OccupancyKey.NONE)
+                .collect(Collectors.toSet());
+
+        if (grouping == OccupancyGrouping.ROOM) {
+            return roomRepository.findAllById(ids).stream()
+                    .collect(Collectors.toMap(room -> room.getId().toString(), Room::getName));
+        }
+        return userRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(user -> user.getId().toString(), this::fullName));
+    }
+
+    private String fullName(User user) {
+        return user.getFirstName() + " " + user.getLastName();
+    }
+
+    private void accumulate(long[] cell, OccupancyBucketTotals bucket) {
+        cell[0] += bucket.classCount();
+        cell[1] += bucket.capacity();
+        cell[2] += bucket.confirmedCount();
+    }
+
+    private double fillRate(long confirmed, long capacity) {
+        return capacity > 0 ? (double) confirmed / capacity : 0.0;
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new InvalidTimeRangeException("End date must be after start date");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.naivez.fithub.service;
+
+import com.naivez.fithub.analytics.OccupancyDeltaEvent;
+import com.naivez.fithub.analytics.OccupancyKey;
+import com.naivez.fithub.entity.TrainingClass;
+import com.naivez.fithub.repository.OccupancyFactRepository;
+import com.naivez.fithub.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OccupancyRollupService {
+
+    private final OccupancyFactRepository occupancyFactRepository;
+    private final ReservationRepository reservationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    public void reservationConfirmed(TrainingClass trainingClass) {
+        eventPublisher.publishEvent(new OccupancyDeltaEvent(OccupancyKey.of(trainingClass), 0, 0, 1));
+    }
+
+    public void reservationCancelled(TrainingClass trainingClass) {
+        eventPublisher.publishEvent(new OccupancyDeltaEvent(OccupancyKey.of(trainingClass), 0, 0, -1));
+    }
+
+    public void classScheduled(TrainingClass trainingClass) {
+        int confirmed = confirmedCount(trainingClass);
+        eventPublisher.publishEvent(new OccupancyDeltaEvent(
+                OccupancyKey.of(trainingClass), 1, trainingClass.getCapacity(), confirmed));
+    }
+
+    public void classRemoved(TrainingClass trainingClass) {
+        int confirmed = confirmedCount(trainingClass);
+        eventPublisher.publishEvent(new OccupancyDeltaEvent(
+                OccupancyKey.of(trainingClass), -1, -trainingClass.getCapacity(), -confirmed));
+    }
+
+    @TransactionalEventListener
+    public void applyDelta(OccupancyDeltaEvent event) {
+        OccupancyKey key = event.key();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> upsert(key, event));
+        } catch (RuntimeException e) {
+            log.error("Failed to apply occupancy delta - key: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    private void upsert(OccupancyKey key, OccupancyDeltaEvent event) {
+        occupancyFactRepository.upsertDelta(
+                key.bucketStart(), key.roomId(), key.trainerId(), key.className(),
+                event.classDelta(), event.capacityDelta(), event.confirmedDelta());
+    }
+
+    private int confirmedCount(TrainingClass trainingClass) {
+        if (trainingClass.getId() == null) {
+            return 0;
+        }
+        return (int) reservationRepository.countConfirmedReservationsByClassId(trainingClass.getId());
+    }
+}
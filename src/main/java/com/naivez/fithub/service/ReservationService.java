@@ -1,7 +1,13 @@
 package com.naivez.fithub.service;
 
+import com.naivez.fithub.admission.ClassSpotReleasedEvent;
+import com.naivez.fithub.analytics.ClassConfirmedCount;
+import com.naivez.fithub.dto.BatchReservationItemDTO;
+import com.naivez.fithub.dto.BatchReservationRequest;
+import com.naivez.fithub.dto.BatchReservationResultDTO;
 import com.naivez.fithub.dto.RatingRequest;
 import com.naivez.fithub.dto.ReservationDTO;
+import com.naivez.fithub.dto.ReservationPageDTO;
 import com.naivez.fithub.dto.ReservationRequest;
 import com.naivez.fithub.dto.TrainingClassDTO;
 import com.naivez.fithub.entity.Reservation;
@@ -12,15 +18,21 @@ import com.naivez.fithub.mapper.ReservationMapper;
 import com.naivez.fithub.mapper.TrainingClassMapper;
 import com.naivez.fithub.repository.ReservationRepository;
 import com.naivez.fithub.repository.TrainingClassRepository;
-import com.naivez.fithub.repository.UserRepository;
+import com.naivez.fithub.security.CurrentUserResolver;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,28 +43,39 @@ public class ReservationService {
 
     private final ReservationRepository reservationRepository;
     private final TrainingClassRepository trainingClassRepository;
-    private final UserRepository userRepository;
+    private final CurrentUserResolver currentUserResolver;
     private final ReservationMapper reservationMapper;
     private final TrainingClassMapper trainingClassMapper;
     private final MembershipService membershipService;
     private final NotificationService notificationService;
+    private final OccupancyRollupService occupancyRollupService;
+    private final WaitlistService waitlistService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
 
     @Transactional
+    @Timed(value = "fithub.reservation.booking", description = "Single class booking latency")
     public ReservationDTO createReservation(String userEmail, ReservationRequest request) {
         log.info("Creating reservation - user: {}, classId: {}", userEmail, request.getTrainingClassId());
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
+        User user = currentUserResolver.resolve(userEmail);
 
-        if (!membershipService.hasActiveMembership(userEmail)) {
+        if (!membershipService.hasActiveMembership(user.getId())) {
             log.warn("Reservation failed - no active membership for user: {}", userEmail);
             throw new NoActiveMembershipException("You must have an active membership to reserve a class");
         }
 
-        TrainingClass trainingClass = trainingClassRepository.findById(request.getTrainingClassId())
+        TrainingClass trainingClass = trainingClassRepository.findByIdForUpdate(request.getTrainingClassId())
                 .orElseThrow(() -> new EntityNotFoundException("Training class not found"));
 
+        if ("CANCELLED".equals(trainingClass.getStatus())) {
+            log.warn("Reservation failed - class cancelled: {}", trainingClass.getId());
+            throw new InvalidStatusException("Training class has been cancelled");
+        }
+
         if (trainingClass.getStartTime().isBefore(LocalDateTime.now())) {
             log.warn("Reservation failed - class already started: {}", trainingClass.getStartTime());
             throw new SessionAlreadyStartedException("Cannot reserve a class that has already started");
@@ -60,12 +83,14 @@ public class ReservationService {
 
         if (reservationRepository.existsByUserAndTrainingClassAndStatus(user, trainingClass, "CONFIRMED")) {
             log.warn("Reservation failed - duplicate reservation for user: {}, class: {}", userEmail, trainingClass.getId());
+            meterRegistry.counter("fithub.reservation.rejections", "reason", "duplicate").increment();
             throw new ReservationAlreadyExistsException("You already have a reservation for this class");
         }
 
         long confirmedCount = reservationRepository.countConfirmedReservationsByClassId(trainingClass.getId());
         if (confirmedCount >= trainingClass.getCapacity()) {
             log.warn("Reservation failed - class fully booked: {}, capacity: {}", trainingClass.getId(), trainingClass.getCapacity());
+            meterRegistry.counter("fithub.reservation.rejections", "reason", "class_full").increment();
             throw new ClassFullyBookedException("Class is fully booked");
         }
 
@@ -77,6 +102,7 @@ public class ReservationService {
                 .build();
 
         reservation = reservationRepository.save(reservation);
+        occupancyRollupService.reservationConfirmed(trainingClass);
 
         notificationService.createNotification(
                 trainingClass.getTrainer(),
@@ -90,6 +116,90 @@ public class ReservationService {
     }
 
 
+    @Transactional
+    @Timed(value = "fithub.reservation.batch-booking", description = "Batch class booking latency")
+    public BatchReservationResultDTO createReservations(String userEmail, BatchReservationRequest request) {
+        List<Long> classIds = request.getTrainingClassIds().stream()
+                .distinct()
+                .sorted()
+                .toList();
+        log.info("Creating batch reservation - user: {}, classes: {}, allOrNothing: {}",
+                userEmail, classIds.size(), request.isAllOrNothing());
+
+        User user = currentUserResolver.resolve(userEmail);
+
+        if (!membershipService.hasActiveMembership(user.getId())) {
+            log.warn("Batch reservation failed - no active membership for user: {}", userEmail);
+            throw new NoActiveMembershipException("You must have an active membership to reserve a class");
+        }
+
+        Map<Long, TrainingClass> classesById = trainingClassRepository.findAllByIdInForUpdate(classIds).stream()
+                .collect(Collectors.toMap(TrainingClass::getId, Function.identity()));
+        Map<Long, Long> confirmedCounts = reservationRepository.countConfirmedByClassIds(classIds).stream()
+                .collect(Collectors.toMap(ClassConfirmedCount::trainingClassId, ClassConfirmedCount::confirmedCount));
+        Set<Long> alreadyBooked = new HashSet<>(reservationRepository.findConfirmedClassIdsByUserId(user.getId(), classIds));
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, String> failures = new LinkedHashMap<>();
+        List<TrainingClass> bookable = new ArrayList<>();
+        for (Long classId : classIds) {
+            TrainingClass trainingClass = classesById.get(classId);
+            if (trainingClass == null) {
+                failures.put(classId, "Training class not found");
+            } else if ("CANCELLED".equals(trainingClass.getStatus())) {
+                failures.put(classId, "Training class has been cancelled");
+            } else if (trainingClass.getStartTime().isBefore(now)) {
+                failures.put(classId, "Cannot reserve a class that has already started");
+            } else if (alreadyBooked.contains(classId)) {
+                failures.put(classId, "You already have a reservation for this class");
+                meterRegistry.counter("fithub.reservation.rejections", "reason", "duplicate").increment();
+            } else if (confirmedCounts.getOrDefault(classId, 0L) >= trainingClass.getCapacity()) {
+                failures.put(classId, "Class is fully booked");
+                meterRegistry.counter("fithub.reservation.rejections", "reason", "class_full").increment();
+            } else {
+                bookable.add(trainingClass);
+            }
+        }
+
+        Map<Long, Reservation> created = new HashMap<>();
+        if (failures.isEmpty() || !request.isAllOrNothing()) {
+            List<Reservation> reservations = bookable.stream()
+                    .map(trainingClass -> Reservation.builder()
+                            .user(user)
+                            .trainingClass(trainingClass)
+                            .reservationDate(now)
+                            .status("CONFIRMED")
+                            .build())
+                    .toList();
+
+            for (Reservation reservation : reservationRepository.saveAll(reservations)) {
+                TrainingClass trainingClass = reservation.getTrainingClass();
+                created.put(trainingClass.getId(), reservation);
+                occupancyRollupService.reservationConfirmed(trainingClass);
+                notificationService.createNotification(
+                        trainingClass.getTrainer(),
+                        "New reservation for your class on " + trainingClass.getStartTime()
+                );
+            }
+        } else {
+            log.warn("Batch reservation rejected - user: {}, failed classes: {}", userEmail, failures.keySet());
+        }
+
+        List<BatchReservationItemDTO> items = classIds.stream()
+                .map(classId -> toBatchItem(classId, created.get(classId), failures.get(classId)))
+                .toList();
+
+        log.info("Batch reservation finished - user: {}, confirmed: {}, failed: {}",
+                userEmail, created.size(), failures.size());
+
+        return BatchReservationResultDTO.builder()
+                .allOrNothing(request.isAllOrNothing())
+                .confirmed(created.size())
+                .failed(failures.size())
+                .items(items)
+                .build();
+    }
+
     public List<TrainingClassDTO> getAvailableClasses() {
         LocalDateTime now = LocalDateTime.now();
         List<TrainingClass> classes = trainingClassRepository.findUpcomingClasses(now);
@@ -102,13 +212,12 @@ public class ReservationService {
 
     @Transactional
     public void cancelReservation(String userEmail, Long reservationId) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
+        Long userId = currentUserResolver.resolveId(userEmail);
 
         Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new EntityNotFoundException("Reservation not found"));
 
-        if (!reservation.getUser().getId().equals(user.getId())) {
+        if (!reservation.getUser().getId().equals(userId)) {
             log.warn("Reservation cancellation failed - user mismatch: {} vs {}", userEmail, reservation.getUser().getEmail());
             throw new UnauthorizedActionException("You can only cancel your own reservations");
         }
@@ -132,6 +241,7 @@ public class ReservationService {
 
         reservation.setStatus("CANCELLED");
         reservationRepository.save(reservation);
+        occupancyRollupService.reservationCancelled(reservation.getTrainingClass());
 
         notificationService.createNotification(
                 reservation.getTrainingClass().getTrainer(),
@@ -139,6 +249,10 @@ public class ReservationService {
                         reservation.getTrainingClass().getStartTime()
         );
 
+        if (waitlistService.promoteNext(reservation.getTrainingClass().getId()).isEmpty()) {
+            eventPublisher.publishEvent(new ClassSpotReleasedEvent(reservation.getTrainingClass().getId()));
+        }
+
         log.info("Reservation cancelled successfully - id: {}, user: {}", reservationId, userEmail);
     }
 
@@ -146,13 +260,12 @@ public class ReservationService {
     public void rateClass(String userEmail, Long reservationId, RatingRequest request) {
         log.info("Rating class - user: {}, reservationId: {}, rating: {}", userEmail, reservationId, request.getRating());
 
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
+        Long userId = currentUserResolver.resolveId(userEmail);
 
         Reservation reservation = reservationRepository.findById(reservationId)
                 .orElseThrow(() -> new EntityNotFoundException("Reservation not found"));
 
-        if (!reservation.getUser().getId().equals(user.getId())) {
+        if (!reservation.getUser().getId().equals(userId)) {
             log.warn("Rating failed - user mismatch: {} vs {}", userEmail, reservation.getUser().getEmail());
             throw new UnauthorizedActionException("You can only rate your own reservations");
         }
@@ -177,32 +290,73 @@ public class ReservationService {
     }
 
     public List<ReservationDTO> getMyReservations(String userEmail) {
-        User user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new UserNotFoundException("User not found with email: " + userEmail));
+        Long userId = currentUserResolver.resolveId(userEmail);
 
-        List<Reservation> reservations = reservationRepository.findByUserWithTrainingClass(user.getId());
+        List<Reservation> reservations = reservationRepository.findByUserWithTrainingClass(userId);
 
         return reservations.stream()
                 .map(reservationMapper::toDto)
                 .collect(Collectors.toList());
     }
 
-    public List<ReservationDTO> getUpcomingReservations(String userEmail) {
-        List<ReservationDTO> allReservations = getMyReservations(userEmail);
+    public ReservationPageDTO getUpcomingReservations(String userEmail, String cursor, int size) {
+        Long userId = currentUserResolver.resolveId(userEmail);
         LocalDateTime now = LocalDateTime.now();
+        ReservationCursor after = cursor != null ? ReservationCursor.decode(cursor) : new ReservationCursor(now, Long.MAX_VALUE);
 
-        return allReservations.stream()
-                .filter(r -> r.getClassStartTime().isAfter(now) && "CONFIRMED".equals(r.getStatus()))
-                .collect(Collectors.toList());
+        List<Reservation> reservations = reservationRepository.findUpcomingByUserId(
+                userId, now, after.classStartTime(), after.reservationId(), Limit.of(validatePageSize(size) + 1));
+
+        return toPage(reservations, size);
     }
 
-    public List<ReservationDTO> getPastReservations(String userEmail) {
-        List<ReservationDTO> allReservations = getMyReservations(userEmail);
+    public ReservationPageDTO getPastReservations(String userEmail, String cursor, int size) {
+        Long userId = currentUserResolver.resolveId(userEmail);
         LocalDateTime now = LocalDateTime.now();
+        ReservationCursor before = cursor != null ? ReservationCursor.decode(cursor) : new ReservationCursor(now, Long.MAX_VALUE);
 
-        return allReservations.stream()
-                .filter(r -> r.getClassEndTime().isBefore(now))
-                .collect(Collectors.toList());
+        List<Reservation> reservations = reservationRepository.findPastByUserId(
+                userId, now, before.classStartTime(), before.reservationId(), Limit.of(validatePageSize(size) + 1));
+
+        return toPage(reservations, size);
+    }
+
+    private int validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidRequestDataException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        return size;
+    }
+
+    private ReservationPageDTO toPage(List<Reservation> reservations, int size) {
+        boolean hasMore = reservations.size() > size;
+        List<Reservation> page = hasMore ? reservations.subList(0, size) : reservations;
+        String nextCursor = null;
+        if (hasMore) {
+            Reservation last = page.get(page.size() - 1);
+            nextCursor = new ReservationCursor(last.getClassStartTime(), last.getId()).encode();
+        }
+
+        return ReservationPageDTO.builder()
+                .reservations(page.stream().map(reservationMapper::toDto).toList())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private BatchReservationItemDTO toBatchItem(Long classId, Reservation reservation, String failure) {
+        if (reservation != null) {
+            return BatchReservationItemDTO.builder()
+                    .trainingClassId(classId)
+                    .status("CONFIRMED")
+                    .reservation(reservationMapper.toDto(reservation))
+                    .build();
+        }
+
+        return BatchReservationItemDTO.builder()
+                .trainingClassId(classId)
+                .status(failure != null ? "FAILED" : "SKIPPED")
+                .message(failure != null ? failure : "Not booked because another class in the batch failed")
+                .build();
     }
 
     private void updateClassAverageRating(Long classId) {
@@ -225,4 +379,23 @@ public class ReservationService {
             log.debug("Average rating updated for class: {} - new rating: {}", classId, average);
         }
     }
+
+    private record ReservationCursor(LocalDateTime classStartTime, Long reservationId) {
+
+        static ReservationCursor decode(String cursor) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separator = decoded.lastIndexOf('_');
+                return new ReservationCursor(LocalDateTime.parse(decoded.substring(0, separator)),
+                        Long.parseLong(decoded.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new InvalidRequestDataException("Invalid reservation cursor: " + cursor);
+            }
+        }
+
+        String encode() {
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString((classStartTime + "_" + reservationId).getBytes(StandardCharsets.UTF_8));
+        }
+    }
 }
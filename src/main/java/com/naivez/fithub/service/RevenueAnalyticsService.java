@@ -0,0 +1,183 @@
+package com.naivez.fithub.service;
+
+import com.naivez.fithub.analytics.MembershipActiveTotals;
+import com.naivez.fithub.analytics.MembershipPurchaseTotals;
+import com.naivez.fithub.dto.MembershipTypeMixDTO;
+import com.naivez.fithub.dto.RevenueDailyDTO;
+import com.naivez.fithub.dto.RevenueRebuildDTO;
+import com.naivez.fithub.dto.RevenueSummaryDTO;
+import com.naivez.fithub.entity.MembershipDailyFact;
+import com.naivez.fithub.exception.InvalidTimeRangeException;
+import com.naivez.fithub.repository.MembershipDailyFactRepository;
+import com.naivez.fithub.repository.MembershipRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RevenueAnalyticsService {
+
+    private static final int RECONCILE_DAYS_BACK = 35;
+
+    private final MembershipDailyFactRepository membershipDailyFactRepository;
+    private final MembershipRepository membershipRepository;
+    private final MembershipService membershipService;
+
+    public List<RevenueDailyDTO> getDailyRevenue(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        Map<LocalDate, RevenueDailyDTO> daily = new TreeMap<>();
+        for (MembershipDailyFact fact : membershipDailyFactRepository.findByFactDateBetweenOrderByFactDateAsc(from, to)) {
+            RevenueDailyDTO day = daily.computeIfAbsent(fact.getFactDate(), date -> RevenueDailyDTO.builder()
+                    .date(date)
+                    .revenue(BigDecimal.ZERO)
+                    .mrr(BigDecimal.ZERO)
+                    .build());
+            day.setPurchaseCount(day.getPurchaseCount() + fact.getPurchaseCount());
+            day.setRenewalCount(day.getRenewalCount() + fact.getRenewalCount());
+            day.setRevenue(day.getRevenue().add(fact.getPurchaseRevenue()).add(fact.getRenewalRevenue()));
+            day.setActiveMembers(day.getActiveMembers() + fact.getActiveMembers());
+            day.setMrr(day.getMrr().add(fact.getMrr()));
+        }
+        return new ArrayList<>(daily.values());
+    }
+
+    public RevenueSummaryDTO getRevenueSummary(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+
+        Map<String, MembershipTypeMixDTO> mix = new TreeMap<>();
+        for (MembershipDailyFact fact : membershipDailyFactRepository.findByFactDateBetweenOrderByFactDateAsc(from, to)) {
+            MembershipTypeMixDTO type = mix.computeIfAbsent(fact.getMembershipType(), name -> MembershipTypeMixDTO.builder()
+                    .type(name)
+                    .revenue(BigDecimal.ZERO)
+                    .build());
+            type.setPurchaseCount(type.getPurchaseCount() + fact.getPurchaseCount());
+            type.setRenewalCount(type.getRenewalCount() + fact.getRenewalCount());
+            type.setRevenue(type.getRevenue().add(fact.getPurchaseRevenue()).add(fact.getRenewalRevenue()));
+        }
+
+        BigDecimal totalRevenue = mix.values().stream()
+                .map(MembershipTypeMixDTO::getRevenue)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long purchases = mix.values().stream().mapToLong(MembershipTypeMixDTO::getPurchaseCount).sum();
+        long renewals = mix.values().stream().mapToLong(MembershipTypeMixDTO::getRenewalCount).sum();
+        mix.values().forEach(type -> type.setRevenueShare(share(type.getRevenue(), totalRevenue)));
+
+        LocalDate snapshotDate = membershipDailyFactRepository.findLatestSnapshotDate(to).orElse(null);
+        List<MembershipDailyFact> snapshot = snapshotDate != null
+                ? membershipDailyFactRepository.findByFactDate(snapshotDate)
+                : List.of();
+
+        return RevenueSummaryDTO.builder()
+                .from(from)
+                .to(to)
+                .totalRevenue(totalRevenue)
+                .purchaseCount(purchases)
+                .renewalCount(renewals)
+                .renewalRate(purchases + renewals > 0 ? (double) renewals / (purchases + renewals) : 0.0)
+                .snapshotDate(snapshotDate)
+                .activeMembers(snapshot.stream().mapToLong(MembershipDailyFact::getActiveMembers).sum())
+                .mrr(snapshot.stream().map(MembershipDailyFact::getMrr).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .typeMix(new ArrayList<>(mix.values()))
+                .build();
+    }
+
+    @Transactional
+    public RevenueRebuildDTO rebuild(LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        log.info("Rebuilding membership revenue facts - from: {}, to: {}", from, to);
+
+        Map<String, MembershipDailyFact> facts = membershipDailyFactRepository
+                .findByFactDateBetweenOrderByFactDateAsc(from, to).stream()
+                .collect(Collectors.toMap(fact -> key(fact.getFactDate(), fact.getMembershipType()), fact -> fact));
+        facts.values().forEach(fact -> {
+            fact.setPurchaseCount(0);
+            fact.setPurchaseRevenue(BigDecimal.ZERO);
+        });
+
+        for (MembershipPurchaseTotals purchases : membershipRepository.sumPurchasesByDateAndType(from, to)) {
+            MembershipDailyFact fact = facts.computeIfAbsent(key(purchases.startDate(), purchases.type()),
+                    k -> newFact(purchases.startDate(), purchases.type()));
+            fact.setPurchaseCount(purchases.purchaseCount().intValue());
+            fact.setPurchaseRevenue(purchases.revenue());
+        }
+
+        LocalDate lastSnapshotDay = to.isAfter(LocalDate.now()) ? LocalDate.now() : to;
+        int snapshotDays = 0;
+        for (LocalDate date = from; !date.isAfter(lastSnapshotDay); date = date.plusDays(1)) {
+            LocalDate snapshotDate = date;
+            facts.values().stream()
+                    .filter(fact -> fact.getFactDate().equals(snapshotDate))
+                    .forEach(fact -> {
+                        fact.setActiveMembers(0);
+                        fact.setMrr(BigDecimal.ZERO);
+                        fact.setSnapshot(true);
+                    });
+
+            for (MembershipActiveTotals active : membershipRepository.sumActiveByType(snapshotDate)) {
+                MembershipDailyFact fact = facts.computeIfAbsent(key(snapshotDate, active.type()),
+                        k -> newFact(snapshotDate, active.type()));
+                fact.setActiveMembers(active.activeMembers().intValue());
+                fact.setMrr(membershipService.monthlyRecurringRevenue(active.type(), active.totalPrice()));
+                fact.setSnapshot(true);
+            }
+            snapshotDays++;
+        }
+
+        membershipDailyFactRepository.saveAll(facts.values());
+        log.info("Membership revenue facts rebuilt - from: {}, to: {}, facts: {}, snapshotDays: {}",
+                from, to, facts.size(), snapshotDays);
+
+        return RevenueRebuildDTO.builder()
+                .from(from)
+                .to(to)
+                .factsWritten(facts.size())
+                .snapshotDays(snapshotDays)
+                .build();
+    }
+
+    @Scheduled(cron = "${analytics.revenue.reconcile-cron:0 15 3 * * *}")
+    @Transactional
+    public void reconcileRecentFacts() {
+        LocalDate today = LocalDate.now();
+        rebuild(today.minusDays(RECONCILE_DAYS_BACK), today);
+    }
+
+    private MembershipDailyFact newFact(LocalDate date, String type) {
+        return MembershipDailyFact.builder()
+                .factDate(date)
+                .membershipType(type)
+                .purchaseRevenue(BigDecimal.ZERO)
+                .renewalRevenue(BigDecimal.ZERO)
+                .mrr(BigDecimal.ZERO)
+                .build();
+    }
+
+    private String key(LocalDate date, String type) {
+        return date + "|" + type;
+    }
+
+    private double share(BigDecimal part, BigDecimal total) {
+        if (total.signum() == 0) {
+            return 0.0;
+        }
+        return part.divide(total, 4, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new InvalidTimeRangeException("End date must be after start date");
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.naivez.fithub.service;
+
+import com.naivez.fithub.analytics.RevenueDeltaEvent;
+import com.naivez.fithub.entity.Membership;
+import com.naivez.fithub.repository.MembershipDailyFactRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RevenueRollupService {
+
+    private final MembershipDailyFactRepository membershipDailyFactRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    public void membershipPurchased(Membership membership, BigDecimal monthlyRevenue) {
+        boolean activeToday = !membership.getStartDate().isAfter(LocalDate.now());
+        eventPublisher.publishEvent(new RevenueDeltaEvent(
+                membership.getStartDate(), membership.getType(),
+                1, membership.getPrice(),
+                0, BigDecimal.ZERO,
+                activeToday ? 1 : 0, activeToday ? monthlyRevenue : BigDecimal.ZERO));
+    }
+
+    public void membershipRenewed(String type, BigDecimal price) {
+        eventPublisher.publishEvent(new RevenueDeltaEvent(
+                LocalDate.now(), type,
+                0, BigDecimal.ZERO,
+                1, price,
+                0, BigDecimal.ZERO));
+    }
+
+    @TransactionalEventListener
+    public void applyDelta(RevenueDeltaEvent event) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> upsert(event));
+        } catch (RuntimeException e) {
+            log.error("Failed to apply revenue delta - date: {}, type: {}, error: {}",
+                    event.factDate(), event.membershipType(), e.getMessage());
+        }
+    }
+
+    private void upsert(RevenueDeltaEvent event) {
+        membershipDailyFactRepository.upsertDelta(
+                event.factDate(), event.membershipType(),
+                event.purchaseDelta(), event.purchaseRevenueDelta(),
+                event.renewalDelta(), event.renewalRevenueDelta(),
+                event.activeMembersDelta(), event.mrrDelta());
+    }
+}
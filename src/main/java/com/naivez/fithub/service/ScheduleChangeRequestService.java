@@ -9,6 +9,7 @@ import com.naivez.fithub.exception.EntityNotFoundException;
 import com.naivez.fithub.exception.InvalidStatusException;
 import com.naivez.fithub.exception.RequestAlreadyReviewedException;
 import com.naivez.fithub.mapper.ScheduleChangeRequestMapper;
+import com.naivez.fithub.repository.ReservationRepository;
 import com.naivez.fithub.repository.ScheduleChangeRequestRepository;
 import com.naivez.fithub.repository.TrainingClassRepository;
 import com.naivez.fithub.repository.UserRepository;
@@ -32,8 +33,11 @@ public class ScheduleChangeRequestService {
     private final ScheduleChangeRequestRepository scheduleChangeRequestRepository;
     private final UserRepository userRepository;
     private final TrainingClassRepository trainingClassRepository;
+    private final ReservationRepository reservationRepository;
     private final ScheduleChangeRequestMapper scheduleChangeRequestMapper;
     private final NotificationService notificationService;
+    private final OccupancyRollupService occupancyRollupService;
+    private final ClassCancellationService classCancellationService;
 
     public List<ScheduleChangeRequestDTO> getAllScheduleChangeRequests() {
         return scheduleChangeRequestRepository.findAll().stream()
@@ -106,13 +110,22 @@ public class ScheduleChangeRequestService {
 
         if ("CANCEL".equals(requestType)) {
             if (request.getTrainingClass() != null) {
-                log.info("Canceling training class - classId: {}, requestId: {}",
-                        request.getTrainingClass().getId(), request.getId());
-                trainingClassRepository.deleteById(request.getTrainingClass().getId());
+                Long classId = request.getTrainingClass().getId();
+                log.info("Canceling training class - classId: {}, requestId: {}", classId, request.getId());
+                TrainingClass trainingClass = trainingClassRepository.findByIdForUpdate(classId)
+                        .orElseThrow(() -> new EntityNotFoundException("Training class not found with id: " + classId));
+                classCancellationService.cancelClass(trainingClass);
             }
         } else if ("MODIFY".equals(requestType)) {
             if (request.getTrainingClass() != null) {
-                TrainingClass trainingClass = request.getTrainingClass();
+                Long classId = request.getTrainingClass().getId();
+                TrainingClass trainingClass = trainingClassRepository.findByIdForUpdate(classId)
+                        .orElseThrow(() -> new EntityNotFoundException("Training class not found with id: " + classId));
+                if ("CANCELLED".equals(trainingClass.getStatus())) {
+                    log.warn("Schedule change failed - class already cancelled: {}", classId);
+                    throw new InvalidStatusException("Training class is already cancelled");
+                }
+                occupancyRollupService.classRemoved(trainingClass);
                 if (request.getClassName() != null) {
                     trainingClass.setName(request.getClassName());
                 }
@@ -121,6 +134,7 @@ public class ScheduleChangeRequestService {
                 }
                 if (request.getRequestedStartTime() != null) {
                     trainingClass.setStartTime(request.getRequestedStartTime());
+                    reservationRepository.updateClassStartTime(trainingClass.getId(), request.getRequestedStartTime());
                 }
                 if (request.getRequestedEndTime() != null) {
                     trainingClass.setEndTime(request.getRequestedEndTime());
@@ -132,6 +146,7 @@ public class ScheduleChangeRequestService {
                     trainingClass.setRoom(request.getRequestedRoom());
                 }
                 trainingClassRepository.save(trainingClass);
+                occupancyRollupService.classScheduled(trainingClass);
             }
         } else if ("ADD".equals(requestType)) {
             log.info("Adding new training class - requestId: {}, name: {}, trainer: {}",
@@ -147,7 +162,8 @@ public class ScheduleChangeRequestService {
                     .capacity(request.getRequestedCapacity())
                     .reservations(new HashSet<>())
                     .build();
-            trainingClassRepository.save(newClass);
+            newClass = trainingClassRepository.save(newClass);
+            occupancyRollupService.classScheduled(newClass);
         }
     }
 }
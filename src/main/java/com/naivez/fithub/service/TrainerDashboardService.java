@@ -0,0 +1,239 @@
+package com.naivez.fithub.service;
+
+import com.naivez.fithub.dashboard.*;
+import com.naivez.fithub.dto.*;
+import com.naivez.fithub.repository.*;
+import com.naivez.fithub.security.CurrentUserResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class TrainerDashboardService {
+
+    static final String DAILY_SCHEDULE = "dailySchedule";
+    static final String WEEKLY_SCHEDULE = "weeklySchedule";
+    static final String PERSONAL_SESSIONS = "personalSessions";
+    static final String PENDING_CHANGE_REQUESTS = "pendingChangeRequests";
+    static final String CLIENTS = "clients";
+    static final String UNREAD_NOTIFICATIONS = "unreadNotifications";
+    static final String QUERY_TIMEOUT_HINT = "jakarta.persistence.query.timeout";
+
+    private final TrainingClassRepository trainingClassRepository;
+    private final PersonalTrainingSessionRepository personalTrainingSessionRepository;
+    private final ScheduleChangeRequestRepository scheduleChangeRequestRepository;
+    private final ReservationRepository reservationRepository;
+    private final NotificationRepository notificationRepository;
+    private final CurrentUserResolver currentUserResolver;
+    private final DashboardWorkerPool workerPool;
+    private final MeterRegistry meterRegistry;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final long sectionTimeoutMillis;
+
+    public TrainerDashboardService(TrainingClassRepository trainingClassRepository,
+                                   PersonalTrainingSessionRepository personalTrainingSessionRepository,
+                                   ScheduleChangeRequestRepository scheduleChangeRequestRepository,
+                                   ReservationRepository reservationRepository,
+                                   NotificationRepository notificationRepository,
+                                   CurrentUserResolver currentUserResolver,
+                                   DashboardWorkerPool workerPool,
+                                   MeterRegistry meterRegistry,
+                                   EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${trainer-dashboard.section-timeout-ms:500}") long sectionTimeoutMillis) {
+        this.trainingClassRepository = trainingClassRepository;
+        this.personalTrainingSessionRepository = personalTrainingSessionRepository;
+        this.scheduleChangeRequestRepository = scheduleChangeRequestRepository;
+        this.reservationRepository = reservationRepository;
+        this.notificationRepository = notificationRepository;
+        this.currentUserResolver = currentUserResolver;
+        this.workerPool = workerPool;
+        this.meterRegistry = meterRegistry;
+        this.entityManager = entityManager;
+        this.sectionTimeoutMillis = sectionTimeoutMillis;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public TrainerDashboardDTO getDashboard(String trainerEmail, LocalDate date) {
+        Long trainerId = currentUserResolver.resolveId(trainerEmail);
+        Set<String> unavailable = ConcurrentHashMap.newKeySet();
+
+        LocalDateTime weekStart = date.atStartOfDay();
+        LocalDateTime weekEnd = date.plusDays(6).atTime(LocalTime.MAX);
+        LocalDateTime now = LocalDateTime.now();
+
+        CompletableFuture<List<TrainingClassDTO>> schedule = section(WEEKLY_SCHEDULE, unavailable,
+                () -> trainingClassRepository.findDashboardRowsByTrainerIdAndDateRange(trainerId, weekStart, weekEnd)
+                        .stream()
+                        .map(this::toTrainingClassDto)
+                        .toList());
+        CompletableFuture<List<PersonalTrainingSessionDTO>> sessions = section(PERSONAL_SESSIONS, unavailable,
+                () -> personalTrainingSessionRepository.findDashboardRowsByTrainerIdAndDateRange(trainerId, weekStart, weekEnd)
+                        .stream()
+                        .map(this::toPersonalTrainingSessionDto)
+                        .toList());
+        CompletableFuture<List<ScheduleChangeRequestDTO>> changeRequests = section(PENDING_CHANGE_REQUESTS, unavailable,
+                () -> scheduleChangeRequestRepository.findDashboardRowsByTrainerIdAndStatus(trainerId, "PENDING")
+                        .stream()
+                        .map(this::toScheduleChangeRequestDto)
+                        .toList());
+        CompletableFuture<List<ClientProfileDTO>> clients = section(CLIENTS, unavailable,
+                () -> reservationRepository.findDashboardClientRowsByTrainerId(trainerId, now.minusMonths(6), now.plusMonths(6))
+                        .stream()
+                        .map(this::toClientProfileDto)
+                        .toList());
+        CompletableFuture<List<NotificationDTO>> notifications = section(UNREAD_NOTIFICATIONS, unavailable,
+                () -> notificationRepository.findUnreadDashboardRowsByRecipientId(trainerId)
+                        .stream()
+                        .map(this::toNotificationDto)
+                        .toList());
+
+        CompletableFuture.allOf(schedule, sessions, changeRequests, clients, notifications).join();
+
+        List<TrainingClassDTO> weeklySchedule = schedule.join();
+        List<TrainingClassDTO> dailySchedule = null;
+        if (weeklySchedule != null) {
+            dailySchedule = weeklySchedule.stream()
+                    .filter(trainingClass -> date.equals(trainingClass.getStartTime().toLocalDate()))
+                    .toList();
+        } else {
+            unavailable.add(DAILY_SCHEDULE);
+        }
+
+        List<String> unavailableSections = new ArrayList<>(unavailable);
+        unavailableSections.sort(null);
+        if (!unavailableSections.isEmpty()) {
+            log.warn("Trainer dashboard partially assembled - trainerId: {}, unavailable: {}", trainerId, unavailableSections);
+        }
+
+        return TrainerDashboardDTO.builder()
+                .date(date)
+                .dailySchedule(dailySchedule)
+                .weeklySchedule(weeklySchedule)
+                .personalSessions(sessions.join())
+                .pendingChangeRequests(changeRequests.join())
+                .clients(clients.join())
+                .unreadNotifications(notifications.join())
+                .unavailableSections(unavailableSections)
+                .build();
+    }
+
+    private <T> CompletableFuture<List<T>> section(String name, Set<String> unavailable, Supplier<List<T>> query) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        return workerPool.submit(() -> transactionTemplate.execute(status -> {
+                    entityManager.setProperty(QUERY_TIMEOUT_HINT, (int) sectionTimeoutMillis);
+                    return query.get();
+                }))
+                .orTimeout(sectionTimeoutMillis, TimeUnit.MILLISECONDS)
+                .handle((rows, error) -> {
+                    if (error == null) {
+                        sample.stop(sectionTimer(name, "success"));
+                        return rows;
+                    }
+                    Throwable cause = error.getCause() != null ? error.getCause() : error;
+                    boolean timedOut = cause instanceof TimeoutException;
+                    String outcome = timedOut ? "timeout" : "error";
+                    sample.stop(sectionTimer(name, outcome));
+                    log.warn("Trainer dashboard section unavailable - section: {}, outcome: {}, error: {}",
+                            name, outcome, timedOut ? "exceeded " + sectionTimeoutMillis + " ms" : cause.getMessage());
+                    unavailable.add(name);
+                    return null;
+                });
+    }
+
+    private Timer sectionTimer(String section, String outcome) {
+        return Timer.builder("fithub.trainer.dashboard.section")
+                .tag("section", section)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private TrainingClassDTO toTrainingClassDto(DashboardClassRow row) {
+        return TrainingClassDTO.builder()
+                .id(row.id())
+                .name(row.name())
+                .description(row.description())
+                .trainerName(row.trainerFirstName() + " " + row.trainerLastName())
+                .roomName(row.roomName())
+                .startTime(row.startTime())
+                .endTime(row.endTime())
+                .capacity(row.capacity())
+                .availableSpots((int) (row.capacity() - row.confirmedCount()))
+                .averageRating(row.averageRating())
+                .status(row.status())
+                .build();
+    }
+
+    private PersonalTrainingSessionDTO toPersonalTrainingSessionDto(DashboardSessionRow row) {
+        return PersonalTrainingSessionDTO.builder()
+                .id(row.id())
+                .clientId(row.clientId())
+                .clientName(row.clientId() != null ? row.clientFirstName() + " " + row.clientLastName() : null)
+                .startTime(row.startTime())
+                .endTime(row.endTime())
+                .sessionGoal(row.sessionGoal())
+                .sessionNotes(row.sessionNotes())
+                .status(row.status())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+
+    private ScheduleChangeRequestDTO toScheduleChangeRequestDto(DashboardChangeRequestRow row) {
+        return ScheduleChangeRequestDTO.builder()
+                .id(row.id())
+                .trainingClassId(row.trainingClassId())
+                .requestType(row.requestType())
+                .reason(row.reason())
+                .className(row.className())
+                .classDescription(row.classDescription())
+                .requestedStartTime(row.requestedStartTime())
+                .requestedEndTime(row.requestedEndTime())
+                .requestedCapacity(row.requestedCapacity())
+                .requestedRoomId(row.requestedRoomId())
+                .requestedRoomName(row.requestedRoomName())
+                .status(row.status())
+                .createdAt(row.createdAt())
+                .build();
+    }
+
+    private ClientProfileDTO toClientProfileDto(DashboardClientRow row) {
+        return ClientProfileDTO.builder()
+                .id(row.id())
+                .email(row.email())
+                .firstName(row.firstName())
+                .lastName(row.lastName())
+                .phone(row.phone())
+                .build();
+    }
+
+    private NotificationDTO toNotificationDto(DashboardNotificationRow row) {
+        return NotificationDTO.builder()
+                .id(row.id())
+                .message(row.message())
+                .sentAt(row.sentAt())
+                .read(row.read())
+                .recipientEmail(row.recipientEmail())
+                .build();
+    }
+}
@@ -25,6 +25,7 @@ import java.util.stream.Collectors;
 public class TrainerService {
 
     private final TrainingClassRepository trainingClassRepository;
+    private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
     private final TrainerNoteRepository trainerNoteRepository;
     private final ScheduleChangeRequestRepository scheduleChangeRequestRepository;
@@ -255,20 +256,18 @@ public class TrainerService {
 
         User trainer = getTrainerByEmail(trainerEmail);
 
-        TrainingClass trainingClass = trainingClassRepository.findById(classId)
-                .orElseThrow(() -> new UsernameNotFoundException("Training class not found"));
+        List<UserProfileDTO> roster = reservationRepository.findConfirmedRosterByClassIdAndTrainerId(
+                classId, trainer.getId());
 
-        if (!trainingClass.getTrainer().getId().equals(trainer.getId())) {
-            log.warn("Access denied to class registrations - trainer: {}, class trainer: {}",
-                    trainerEmail, trainingClass.getTrainer().getEmail());
+        if (roster.isEmpty() && !trainingClassRepository.existsByIdAndTrainerId(classId, trainer.getId())) {
+            if (!trainingClassRepository.existsById(classId)) {
+                throw new UsernameNotFoundException("Training class not found");
+            }
+            log.warn("Access denied to class registrations - trainer: {}, classId: {}", trainerEmail, classId);
             throw new UnauthorizedActionException("You can only view registrations for your own classes");
         }
 
-        return trainingClass.getReservations().stream()
-                .filter(r -> "CONFIRMED".equals(r.getStatus()))
-                .map(Reservation::getUser)
-                .map(userMapper::toDto)
-                .collect(Collectors.toList());
+        return roster;
     }
 
     private User getTrainerByEmail(String email) {
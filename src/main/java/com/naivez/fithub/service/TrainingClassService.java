@@ -6,10 +6,12 @@ import com.naivez.fithub.entity.Room;
 import com.naivez.fithub.entity.TrainingClass;
 import com.naivez.fithub.entity.User;
 import com.naivez.fithub.exception.EntityNotFoundException;
+import com.naivez.fithub.exception.InvalidStatusException;
 import com.naivez.fithub.exception.InvalidTimeRangeException;
 import com.naivez.fithub.exception.UserNotFoundException;
 import com.naivez.fithub.exception.UserNotTrainerException;
 import com.naivez.fithub.mapper.TrainingClassMapper;
+import com.naivez.fithub.repository.ReservationRepository;
 import com.naivez.fithub.repository.RoomRepository;
 import com.naivez.fithub.repository.TrainingClassRepository;
 import com.naivez.fithub.repository.UserRepository;
@@ -32,9 +34,12 @@ import java.util.stream.Collectors;
 public class TrainingClassService {
 
     private final TrainingClassRepository trainingClassRepository;
+    private final ReservationRepository reservationRepository;
     private final UserRepository userRepository;
     private final RoomRepository roomRepository;
     private final TrainingClassMapper trainingClassMapper;
+    private final OccupancyRollupService occupancyRollupService;
+    private final ClassCancellationService classCancellationService;
 
     public List<TrainingClassDTO> getAllTrainingClasses() {
         return trainingClassRepository.findAll().stream()
@@ -115,6 +120,7 @@ public class TrainingClassService {
         }
 
         trainingClass = trainingClassRepository.save(trainingClass);
+        occupancyRollupService.classScheduled(trainingClass);
         log.info("Training class created successfully - id: {}, name: {}, trainer: {}, room: {}",
                 trainingClass.getId(), trainingClass.getName(), trainer.getEmail(), room.getName());
 
@@ -126,9 +132,14 @@ public class TrainingClassService {
         log.info("Updating training class - id: {}, new name: {}, trainerId: {}",
                 id, request.getName(), request.getTrainerId());
 
-        TrainingClass trainingClass = trainingClassRepository.findById(id)
+        TrainingClass trainingClass = trainingClassRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new EntityNotFoundException("Training class not found with id: " + id));
 
+        if ("CANCELLED".equals(trainingClass.getStatus())) {
+            log.warn("Class update failed - already cancelled: {}", id);
+            throw new InvalidStatusException("Training class is already cancelled");
+        }
+
         User trainer = userRepository.findById(request.getTrainerId())
                 .orElseThrow(() -> {
                     log.error("Trainer not found for class update - trainerId: {}", request.getTrainerId());
@@ -147,24 +158,24 @@ public class TrainingClassService {
             throw new InvalidTimeRangeException("End time must be after start time");
         }
 
+        occupancyRollupService.classRemoved(trainingClass);
         trainingClassMapper.updateFromRequest(request, trainingClass);
         trainingClass.setTrainer(trainer);
         trainingClass.setRoom(room);
 
         trainingClass = trainingClassRepository.save(trainingClass);
+        reservationRepository.updateClassStartTime(trainingClass.getId(), trainingClass.getStartTime());
+        occupancyRollupService.classScheduled(trainingClass);
         log.info("Training class updated successfully - id: {}, name: {}", id, trainingClass.getName());
 
         return trainingClassMapper.toDto(trainingClass);
     }
 
     @Transactional
-    public void deleteTrainingClass(Long id) {
-        log.info("Deleting training class - id: {}", id);
-        if (!trainingClassRepository.existsById(id)) {
-            throw new EntityNotFoundException("Training class not found with id: " + id);
-        }
-        trainingClassRepository.deleteById(id);
-        log.info("Training class deleted successfully - id: {}", id);
+    public void cancelTrainingClass(Long id) {
+        TrainingClass trainingClass = trainingClassRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new EntityNotFoundException("Training class not found with id: " + id));
+        classCancellationService.cancelClass(trainingClass);
     }
 
     private User getTrainerByEmail(String email) {
@@ -0,0 +1,171 @@
+package com.naivez.fithub.service;
+
+import com.naivez.fithub.dto.WaitlistEntryDTO;
+import com.naivez.fithub.entity.Reservation;
+import com.naivez.fithub.entity.TrainingClass;
+import com.naivez.fithub.entity.User;
+import com.naivez.fithub.entity.WaitlistEntry;
+import com.naivez.fithub.exception.*;
+import com.naivez.fithub.repository.ReservationRepository;
+import com.naivez.fithub.repository.TrainingClassRepository;
+import com.naivez.fithub.repository.WaitlistEntryRepository;
+import com.naivez.fithub.security.CurrentUserResolver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class WaitlistService {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final TrainingClassRepository trainingClassRepository;
+    private final ReservationRepository reservationRepository;
+    private final CurrentUserResolver currentUserResolver;
+    private final MembershipService membershipService;
+    private final NotificationService notificationService;
+    private final OccupancyRollupService occupancyRollupService;
+
+    @Value("${reservation.waitlist.max-size:50}")
+    private int maxWaitlistSize;
+
+    @Transactional
+    public WaitlistEntryDTO joinWaitlist(String userEmail, Long classId) {
+        log.info("Joining waitlist - user: {}, classId: {}", userEmail, classId);
+
+        User user = currentUserResolver.resolve(userEmail);
+
+        if (!membershipService.hasActiveMembership(user.getId())) {
+            log.warn("Waitlist join failed - no active membership for user: {}", userEmail);
+            throw new NoActiveMembershipException("You must have an active membership to join a waitlist");
+        }
+
+        TrainingClass trainingClass = trainingClassRepository.findByIdForUpdate(classId)
+                .orElseThrow(() -> new EntityNotFoundException("Training class not found"));
+
+        if ("CANCELLED".equals(trainingClass.getStatus())) {
+            log.warn("Waitlist join failed - class cancelled: {}", classId);
+            throw new InvalidStatusException("Training class has been cancelled");
+        }
+
+        if (trainingClass.getStartTime().isBefore(LocalDateTime.now())) {
+            log.warn("Waitlist join failed - class already started: {}", trainingClass.getStartTime());
+            throw new SessionAlreadyStartedException("Cannot join the waitlist of a class that has already started");
+        }
+
+        if (reservationRepository.existsByUserAndTrainingClassAndStatus(user, trainingClass, "CONFIRMED")) {
+            log.warn("Waitlist join failed - user already booked: {}, class: {}", userEmail, classId);
+            throw new ReservationAlreadyExistsException("You already have a reservation for this class");
+        }
+
+        if (waitlistEntryRepository.existsByTrainingClassIdAndUserId(classId, user.getId())) {
+            log.warn("Waitlist join failed - already waiting: {}, class: {}", userEmail, classId);
+            throw new AlreadyOnWaitlistException("You are already on the waitlist for this class");
+        }
+
+        long confirmedCount = reservationRepository.countConfirmedReservationsByClassId(classId);
+        if (confirmedCount < trainingClass.getCapacity()) {
+            log.warn("Waitlist join failed - class has free spots: {}", classId);
+            throw new InvalidRequestDataException("Class has free spots, reserve it directly");
+        }
+
+        long waitlistSize = waitlistEntryRepository.countByTrainingClassId(classId);
+        if (waitlistSize >= maxWaitlistSize) {
+            log.warn("Waitlist join failed - waitlist full: {}, size: {}", classId, waitlistSize);
+            throw new WaitlistFullException("Waitlist for this class is full");
+        }
+
+        WaitlistEntry entry = waitlistEntryRepository.save(WaitlistEntry.builder()
+                .trainingClass(trainingClass)
+                .user(user)
+                .position(waitlistEntryRepository.findMaxPosition(classId) + 1)
+                .joinedAt(LocalDateTime.now())
+                .build());
+
+        log.info("Joined waitlist - user: {}, class: {}, position: {}", userEmail, classId, waitlistSize + 1);
+        return toDto(entry, waitlistSize + 1, waitlistSize + 1);
+    }
+
+    public WaitlistEntryDTO getWaitlistPosition(String userEmail, Long classId) {
+        Long userId = currentUserResolver.resolveId(userEmail);
+
+        WaitlistEntry entry = waitlistEntryRepository.findByTrainingClassIdAndUserId(classId, userId)
+                .orElseThrow(() -> new EntityNotFoundException("You are not on the waitlist for this class"));
+
+        long position = waitlistEntryRepository.countAhead(classId, entry.getPosition()) + 1;
+        long waitlistSize = waitlistEntryRepository.countByTrainingClassId(classId);
+        return toDto(entry, position, waitlistSize);
+    }
+
+    @Transactional
+    public void leaveWaitlist(String userEmail, Long classId) {
+        Long userId = currentUserResolver.resolveId(userEmail);
+
+        WaitlistEntry entry = waitlistEntryRepository.findByTrainingClassIdAndUserId(classId, userId)
+                .orElseThrow(() -> new EntityNotFoundException("You are not on the waitlist for this class"));
+
+        waitlistEntryRepository.delete(entry);
+        log.info("Left waitlist - user: {}, class: {}", userEmail, classId);
+    }
+
+    @Transactional
+    public Optional<Reservation> promoteNext(Long classId) {
+        TrainingClass trainingClass = trainingClassRepository.findByIdForUpdate(classId)
+                .orElseThrow(() -> new EntityNotFoundException("Training class not found"));
+
+        long confirmedCount = reservationRepository.countConfirmedReservationsByClassId(classId);
+        if (confirmedCount >= trainingClass.getCapacity()) {
+            return Optional.empty();
+        }
+
+        for (WaitlistEntry entry : waitlistEntryRepository.findQueue(classId)) {
+            waitlistEntryRepository.delete(entry);
+            User user = entry.getUser();
+
+            if (reservationRepository.existsByUserAndTrainingClassAndStatus(user, trainingClass, "CONFIRMED")
+                    || !membershipService.hasActiveMembership(user.getId())) {
+                log.debug("Skipping waitlist entry - user: {}, class: {}", user.getEmail(), classId);
+                continue;
+            }
+
+            Reservation reservation = reservationRepository.save(Reservation.builder()
+                    .user(user)
+                    .trainingClass(trainingClass)
+                    .reservationDate(LocalDateTime.now())
+                    .status("CONFIRMED")
+                    .build());
+            occupancyRollupService.reservationConfirmed(trainingClass);
+
+            notificationService.createNotification(
+                    user,
+                    "A spot opened up and you are now booked for " + trainingClass.getName() +
+                            " on " + trainingClass.getStartTime()
+            );
+
+            log.info("Promoted from waitlist - user: {}, class: {}, reservation: {}",
+                    user.getEmail(), classId, reservation.getId());
+            return Optional.of(reservation);
+        }
+
+        return Optional.empty();
+    }
+
+    private WaitlistEntryDTO toDto(WaitlistEntry entry, long position, long waitlistSize) {
+        TrainingClass trainingClass = entry.getTrainingClass();
+        return WaitlistEntryDTO.builder()
+                .trainingClassId(trainingClass.getId())
+                .className(trainingClass.getName())
+                .classStartTime(trainingClass.getStartTime())
+                .position(position)
+                .waitlistSize(waitlistSize)
+                .joinedAt(entry.getJoinedAt())
+                .build();
+    }
+}
@@ -0,0 +1,36 @@
+CREATE TABLE membership_daily_facts
+(
+    id               BIGSERIAL PRIMARY KEY,
+    fact_date        DATE           NOT NULL,
+    membership_type  VARCHAR(50)    NOT NULL,
+    purchase_count   INTEGER        NOT NULL DEFAULT 0,
+    purchase_revenue DECIMAL(12, 2) NOT NULL DEFAULT 0,
+    renewal_count    INTEGER        NOT NULL DEFAULT 0,
+    renewal_revenue  DECIMAL(12, 2) NOT NULL DEFAULT 0,
+    active_members   INTEGER        NOT NULL DEFAULT 0,
+    mrr              DECIMAL(12, 2) NOT NULL DEFAULT 0,
+    CONSTRAINT uk_membership_daily_facts_key UNIQUE (fact_date, membership_type)
+);
+
+ALTER SEQUENCE membership_daily_facts_id_seq INCREMENT BY 50;
+
+INSERT INTO membership_daily_facts (fact_date, membership_type, purchase_count, purchase_revenue)
+SELECT start_date, type, COUNT(*), SUM(price)
+FROM memberships
+GROUP BY start_date, type;
+
+INSERT INTO membership_daily_facts (fact_date, membership_type, active_members, mrr)
+SELECT CURRENT_DATE,
+       type,
+       COUNT(*),
+       ROUND(SUM(price) * 30 / CASE type WHEN 'QUARTERLY' THEN 90 WHEN 'ANNUAL' THEN 365 ELSE 30 END, 2)
+FROM memberships
+WHERE active = true
+  AND start_date <= CURRENT_DATE
+  AND end_date >= CURRENT_DATE
+GROUP BY type
+ON CONFLICT (fact_date, membership_type)
+    DO UPDATE SET active_members = EXCLUDED.active_members,
+                  mrr            = EXCLUDED.mrr;
+
+SELECT setval('membership_daily_facts_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM membership_daily_facts;
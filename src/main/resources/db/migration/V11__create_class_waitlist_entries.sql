@@ -0,0 +1,14 @@
+CREATE TABLE class_waitlist_entries
+(
+    id                BIGSERIAL PRIMARY KEY,
+    training_class_id BIGINT    NOT NULL REFERENCES training_classes (id) ON DELETE CASCADE,
+    user_id           BIGINT    NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    position          BIGINT    NOT NULL,
+    joined_at         TIMESTAMP NOT NULL,
+    CONSTRAINT uk_class_waitlist_entries_class_user UNIQUE (training_class_id, user_id),
+    CONSTRAINT uk_class_waitlist_entries_class_position UNIQUE (training_class_id, position)
+);
+
+ALTER SEQUENCE class_waitlist_entries_id_seq INCREMENT BY 50;
+
+CREATE INDEX idx_class_waitlist_entries_user ON class_waitlist_entries (user_id);
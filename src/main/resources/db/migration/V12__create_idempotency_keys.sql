@@ -0,0 +1,16 @@
+CREATE TABLE idempotency_keys
+(
+    id              BIGSERIAL PRIMARY KEY,
+    idempotency_key VARCHAR(512) NOT NULL,
+    request_hash    VARCHAR(64)  NOT NULL,
+    response_status INTEGER,
+    content_type    VARCHAR(255),
+    response_body   TEXT,
+    created_at      TIMESTAMP    NOT NULL,
+    expires_at      TIMESTAMP    NOT NULL,
+    CONSTRAINT uk_idempotency_keys_key UNIQUE (idempotency_key)
+);
+
+ALTER SEQUENCE idempotency_keys_id_seq INCREMENT BY 50;
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
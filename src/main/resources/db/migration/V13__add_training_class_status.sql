@@ -0,0 +1,5 @@
+ALTER TABLE training_classes
+    ADD COLUMN status VARCHAR(20) NOT NULL DEFAULT 'SCHEDULED';
+
+ALTER TABLE training_classes
+    ADD COLUMN cancelled_at TIMESTAMP;
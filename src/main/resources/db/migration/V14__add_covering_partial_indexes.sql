@@ -0,0 +1,21 @@
+CREATE INDEX idx_personal_training_sessions_trainer_start ON personal_training_sessions (trainer_id, start_time);
+CREATE INDEX idx_personal_training_sessions_trainer_client_start ON personal_training_sessions (trainer_id, client_id, start_time DESC);
+
+CREATE INDEX idx_schedule_change_requests_trainer_created ON schedule_change_requests (trainer_id, created_at DESC);
+CREATE INDEX idx_schedule_change_requests_pending_created ON schedule_change_requests (created_at DESC) WHERE status = 'PENDING';
+
+CREATE INDEX idx_trainer_notes_trainer_client_created ON trainer_notes (trainer_id, client_id, created_at DESC);
+
+CREATE INDEX idx_promotions_end_start ON promotions (end_date, start_date);
+
+CREATE INDEX idx_equipment_status ON equipment (status);
+CREATE INDEX idx_equipment_room_id ON equipment (room_id);
+
+CREATE INDEX idx_notifications_recipient_sent ON notifications (recipient_id, sent_at DESC);
+CREATE INDEX idx_notifications_unread_recipient_sent ON notifications (recipient_id, sent_at DESC) WHERE read = false;
+
+CREATE INDEX idx_reservations_confirmed_class ON reservations (training_class_id) INCLUDE (user_id) WHERE status = 'CONFIRMED';
+
+CREATE INDEX idx_training_classes_scheduled_start ON training_classes (start_time) WHERE status = 'SCHEDULED';
+
+CREATE INDEX idx_memberships_start_date ON memberships (start_date) INCLUDE (type, price);
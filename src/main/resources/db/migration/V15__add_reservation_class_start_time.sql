@@ -0,0 +1,10 @@
+ALTER TABLE reservations ADD COLUMN class_start_time TIMESTAMP;
+
+UPDATE reservations r
+SET class_start_time = tc.start_time
+FROM training_classes tc
+WHERE tc.id = r.training_class_id;
+
+ALTER TABLE reservations ALTER COLUMN class_start_time SET NOT NULL;
+
+CREATE INDEX idx_reservations_user_class_start ON reservations (user_id, class_start_time, id);
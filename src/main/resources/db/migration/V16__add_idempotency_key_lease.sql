@@ -0,0 +1,7 @@
+ALTER TABLE idempotency_keys
+    ADD COLUMN locked_until TIMESTAMP;
+
+UPDATE idempotency_keys
+SET locked_until = created_at,
+    expires_at   = created_at
+WHERE response_status IS NULL;
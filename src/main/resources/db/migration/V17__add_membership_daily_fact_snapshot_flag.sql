@@ -0,0 +1,24 @@
+ALTER TABLE membership_daily_facts
+    ADD COLUMN snapshot BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE membership_daily_facts
+SET active_members = 0,
+    mrr            = 0,
+    snapshot       = TRUE
+WHERE fact_date = CURRENT_DATE;
+
+INSERT INTO membership_daily_facts (fact_date, membership_type, active_members, mrr, snapshot)
+SELECT CURRENT_DATE,
+       type,
+       COUNT(*),
+       ROUND(SUM(price) * 30 / CASE type WHEN 'QUARTERLY' THEN 90 WHEN 'ANNUAL' THEN 365 ELSE 30 END, 2),
+       TRUE
+FROM memberships
+WHERE active = true
+  AND start_date <= CURRENT_DATE
+  AND end_date >= CURRENT_DATE
+GROUP BY type
+ON CONFLICT (fact_date, membership_type)
+    DO UPDATE SET active_members = EXCLUDED.active_members,
+                  mrr            = EXCLUDED.mrr,
+                  snapshot       = TRUE;
@@ -0,0 +1,27 @@
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE roles_id_seq INCREMENT BY 50;
+ALTER SEQUENCE rooms_id_seq INCREMENT BY 50;
+ALTER SEQUENCE equipment_id_seq INCREMENT BY 50;
+ALTER SEQUENCE training_classes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE memberships_id_seq INCREMENT BY 50;
+ALTER SEQUENCE reservations_id_seq INCREMENT BY 50;
+ALTER SEQUENCE promotions_id_seq INCREMENT BY 50;
+ALTER SEQUENCE notifications_id_seq INCREMENT BY 50;
+ALTER SEQUENCE coupons_id_seq INCREMENT BY 50;
+ALTER SEQUENCE trainer_notes_id_seq INCREMENT BY 50;
+ALTER SEQUENCE schedule_change_requests_id_seq INCREMENT BY 50;
+ALTER SEQUENCE personal_training_sessions_id_seq INCREMENT BY 50;
+
+SELECT setval('users_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM users;
+SELECT setval('roles_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM roles;
+SELECT setval('rooms_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM rooms;
+SELECT setval('equipment_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM equipment;
+SELECT setval('training_classes_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM training_classes;
+SELECT setval('memberships_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM memberships;
+SELECT setval('reservations_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM reservations;
+SELECT setval('promotions_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM promotions;
+SELECT setval('notifications_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM notifications;
+SELECT setval('coupons_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM coupons;
+SELECT setval('trainer_notes_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM trainer_notes;
+SELECT setval('schedule_change_requests_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM schedule_change_requests;
+SELECT setval('personal_training_sessions_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM personal_training_sessions;
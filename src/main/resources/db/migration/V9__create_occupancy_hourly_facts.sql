@@ -0,0 +1,33 @@
+CREATE TABLE occupancy_hourly_facts
+(
+    id              BIGSERIAL PRIMARY KEY,
+    bucket_start    TIMESTAMP    NOT NULL,
+    room_id         BIGINT       NOT NULL,
+    trainer_id      BIGINT       NOT NULL,
+    class_name      VARCHAR(255) NOT NULL,
+    class_count     INTEGER      NOT NULL,
+    capacity        INTEGER      NOT NULL,
+    confirmed_count INTEGER      NOT NULL,
+    CONSTRAINT uk_occupancy_hourly_facts_key UNIQUE (bucket_start, room_id, trainer_id, class_name)
+);
+
+ALTER SEQUENCE occupancy_hourly_facts_id_seq INCREMENT BY 50;
+
+CREATE INDEX idx_occupancy_hourly_facts_room_bucket ON occupancy_hourly_facts (room_id, bucket_start);
+
+INSERT INTO occupancy_hourly_facts (bucket_start, room_id, trainer_id, class_name, class_count, capacity, confirmed_count)
+SELECT date_trunc('hour', tc.start_time),
+       COALESCE(tc.room_id, 0),
+       COALESCE(tc.trainer_id, 0),
+       tc.name,
+       COUNT(*),
+       SUM(tc.capacity),
+       SUM(COALESCE(r.confirmed, 0))
+FROM training_classes tc
+LEFT JOIN (SELECT training_class_id, COUNT(*) AS confirmed
+           FROM reservations
+           WHERE status = 'CONFIRMED'
+           GROUP BY training_class_id) r ON r.training_class_id = tc.id
+GROUP BY date_trunc('hour', tc.start_time), COALESCE(tc.room_id, 0), COALESCE(tc.trainer_id, 0), tc.name;
+
+SELECT setval('occupancy_hourly_facts_id_seq', COALESCE(MAX(id), 0) + 50, false) FROM occupancy_hourly_facts;
@@ -1,6 +1,7 @@
 package com.naivez.fithub.integration.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naivez.fithub.admission.BookingAdmissionGate;
 import com.naivez.fithub.dto.*;
 import com.naivez.fithub.exception.EmailAlreadyExistsException;
 import com.naivez.fithub.exception.EntityNotFoundException;
@@ -38,6 +39,9 @@ class AdminControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @MockBean
+    private BookingAdmissionGate bookingAdmissionGate;
+
     @MockBean
     private EmployeeService employeeService;
 
@@ -320,4 +324,22 @@ class AdminControllerIntegrationTest {
                         .content(objectMapper.writeValueAsString(invalidReview)))
                 .andExpect(status().isBadRequest());
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getBookingAdmissionStats_shouldReturnPerClassCounters() throws Exception {
+        when(bookingAdmissionGate.getStats()).thenReturn(List.of(BookingAdmissionStatsDTO.builder()
+                .trainingClassId(1L)
+                .soldOut(true)
+                .admitted(10)
+                .rejectedSoldOut(25)
+                .rejectedBusy(3)
+                .build()));
+
+        mockMvc.perform(get("/api/admin/booking-admission"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].trainingClassId").value(1L))
+                .andExpect(jsonPath("$[0].soldOut").value(true))
+                .andExpect(jsonPath("$[0].rejectedSoldOut").value(25));
+    }
+}
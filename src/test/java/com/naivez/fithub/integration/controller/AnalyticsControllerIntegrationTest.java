@@ -0,0 +1,200 @@
+package com.naivez.fithub.integration.controller;
+
+import com.naivez.fithub.analytics.OccupancyGrouping;
+import com.naivez.fithub.dto.*;
+import com.naivez.fithub.service.OccupancyAnalyticsService;
+import com.naivez.fithub.service.RevenueAnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AnalyticsControllerIntegrationTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 6);
+    private static final LocalDate TO = LocalDate.of(2025, 1, 12);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private OccupancyAnalyticsService occupancyAnalyticsService;
+
+    @MockBean
+    private RevenueAnalyticsService revenueAnalyticsService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getOccupancySummary_withAdminRole_shouldReturnSummary() throws Exception {
+        OccupancySummaryDTO summary = OccupancySummaryDTO.builder()
+                .key("1")
+                .label("room1")
+                .classCount(4)
+                .capacity(80)
+                .confirmedCount(60)
+                .fillRate(0.75)
+                .build();
+
+        when(occupancyAnalyticsService.getOccupancySummary(FROM, TO, OccupancyGrouping.TRAINER))
+                .thenReturn(List.of(summary));
+
+        mockMvc.perform(get("/api/admin/analytics/occupancy")
+                        .param("from", "2025-01-06")
+                        .param("to", "2025-01-12")
+                        .param("groupBy", "trainer"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].label").value("room1"))
+                .andExpect(jsonPath("$[0].fillRate").value(0.75));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getOccupancySummary_withInvalidGrouping_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/analytics/occupancy")
+                        .param("from", "2025-01-06")
+                        .param("to", "2025-01-12")
+                        .param("groupBy", "weather"))
+                .andExpect(status().isBadRequest());
+
+        verify(occupancyAnalyticsService, never()).getOccupancySummary(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getDailyOccupancy_shouldReturnDays() throws Exception {
+        when(occupancyAnalyticsService.getDailyOccupancy(FROM, TO, 1L)).thenReturn(List.of(
+                OccupancyDailyDTO.builder().date(FROM).classCount(2).capacity(40).confirmedCount(30).fillRate(0.75).build()));
+
+        mockMvc.perform(get("/api/admin/analytics/occupancy/daily")
+                        .param("from", "2025-01-06")
+                        .param("to", "2025-01-12")
+                        .param("roomId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].date").value("2025-01-06"))
+                .andExpect(jsonPath("$[0].confirmedCount").value(30));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getHeatmap_shouldReturnCells() throws Exception {
+        when(occupancyAnalyticsService.getHeatmap(FROM, TO, null)).thenReturn(List.of(
+                OccupancyHeatmapCellDTO.builder().dayOfWeek(DayOfWeek.MONDAY).hour(9).fillRate(0.5).build()));
+
+        mockMvc.perform(get("/api/admin/analytics/occupancy/heatmap")
+                        .param("from", "2025-01-06")
+                        .param("to", "2025-01-12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].dayOfWeek").value("MONDAY"))
+                .andExpect(jsonPath("$[0].hour").value(9));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void rebuild_shouldReturnResult() throws Exception {
+        when(occupancyAnalyticsService.rebuild(FROM, TO)).thenReturn(OccupancyRebuildDTO.builder()
+                .from(FROM)
+                .to(TO)
+                .classesScanned(12)
+                .factsWritten(9)
+                .build());
+
+        mockMvc.perform(post("/api/admin/analytics/occupancy/rebuild")
+                        .param("from", "2025-01-06")
+                        .param("to", "2025-01-12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.classesScanned").value(12))
+                .andExpect(jsonPath("$.factsWritten").value(9));
+    }
+
+    @Test
+    @WithMockUser(roles = "TRAINER")
+    void getHeatmap_withTrainerRole_shouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/api/admin/analytics/occupancy/heatmap")
+                        .param("from", "2025-01-06")
+                        .param("to", "2025-01-12"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getRevenueSummary_shouldReturnSummary() throws Exception {
+        when(revenueAnalyticsService.getRevenueSummary(FROM, TO)).thenReturn(RevenueSummaryDTO.builder()
+                .from(FROM)
+                .to(TO)
+                .totalRevenue(new BigDecimal("1000.00"))
+                .purchaseCount(4)
+                .renewalCount(1)
+                .renewalRate(0.2)
+                .mrr(new BigDecimal("1200.00"))
+                .typeMix(List.of(MembershipTypeMixDTO.builder()
+                        .type("MONTHLY")
+                        .revenue(new BigDecimal("1000.00"))
+                        .revenueShare(1.0)
+                        .build()))
+                .build());
+
+        mockMvc.perform(get("/api/admin/analytics/revenue")
+                        .param("from", "2025-01-06")
+                        .param("to", "2025-01-12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRevenue").value(1000.00))
+                .andExpect(jsonPath("$.mrr").value(1200.00))
+                .andExpect(jsonPath("$.typeMix[0].type").value("MONTHLY"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getDailyRevenue_shouldReturnDays() throws Exception {
+        when(revenueAnalyticsService.getDailyRevenue(FROM, TO)).thenReturn(List.of(RevenueDailyDTO.builder()
+                .date(FROM)
+                .purchaseCount(2)
+                .revenue(new BigDecimal("199.98"))
+                .mrr(new BigDecimal("199.98"))
+                .build()));
+
+        mockMvc.perform(get("/api/admin/analytics/revenue/daily")
+                        .param("from", "2025-01-06")
+                        .param("to", "2025-01-12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].date").value("2025-01-06"))
+                .andExpect(jsonPath("$[0].purchaseCount").value(2));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void rebuildRevenue_shouldReturnResult() throws Exception {
+        when(revenueAnalyticsService.rebuild(FROM, TO)).thenReturn(RevenueRebuildDTO.builder()
+                .from(FROM)
+                .to(TO)
+                .factsWritten(21)
+                .snapshotDays(7)
+                .build());
+
+        mockMvc.perform(post("/api/admin/analytics/revenue/rebuild")
+                        .param("from", "2025-01-06")
+                        .param("to", "2025-01-12"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.factsWritten").value(21))
+                .andExpect(jsonPath("$.snapshotDays").value(7));
+    }
+}
@@ -1,7 +1,10 @@
 package com.naivez.fithub.integration.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naivez.fithub.admission.BookingAdmissionGate;
 import com.naivez.fithub.dto.*;
+import com.naivez.fithub.exception.AlreadyOnWaitlistException;
+import com.naivez.fithub.exception.BookingAdmissionRejectedException;
 import com.naivez.fithub.exception.ClassFullyBookedException;
 import com.naivez.fithub.exception.IncorrectPasswordException;
 import com.naivez.fithub.exception.InvalidRatingException;
@@ -9,6 +12,7 @@ import com.naivez.fithub.exception.InvalidRequestDataException;
 import com.naivez.fithub.service.ClientService;
 import com.naivez.fithub.service.MembershipService;
 import com.naivez.fithub.service.ReservationService;
+import com.naivez.fithub.service.WaitlistService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -24,6 +28,7 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -50,6 +55,12 @@ class ClientControllerIntegrationTest {
     @MockBean
     private ClientService clientService;
 
+    @MockBean
+    private WaitlistService waitlistService;
+
+    @MockBean
+    private BookingAdmissionGate bookingAdmissionGate;
+
     private TrainingClassDTO testClassDTO;
     private ReservationDTO testReservationDTO;
     private MembershipDTO testMembershipDTO;
@@ -59,6 +70,9 @@ class ClientControllerIntegrationTest {
 
     @BeforeEach
     void setUp() {
+        when(bookingAdmissionGate.admit(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
         testClassDTO = TrainingClassDTO.builder()
                 .id(1L)
                 .name("trainingClass1")
@@ -156,6 +170,64 @@ class ClientControllerIntegrationTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @WithMockUser(roles = "CLIENT", username = "user1@gmail.com")
+    void createReservation_whenAdmissionRejected_shouldReturnServiceUnavailable() throws Exception {
+        doThrow(new BookingAdmissionRejectedException("Too many booking requests for this class, try again shortly"))
+                .when(bookingAdmissionGate).admit(eq(1L), any());
+
+        mockMvc.perform(post("/api/client/reservations")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(reservationRequest)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+
+        verify(reservationService, never()).createReservation(any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT", username = "user1@gmail.com")
+    void createReservations_shouldReturnPerItemResults() throws Exception {
+        BatchReservationRequest request = BatchReservationRequest.builder()
+                .trainingClassIds(List.of(1L, 2L))
+                .build();
+        when(reservationService.createReservations(eq("user1@gmail.com"), any(BatchReservationRequest.class)))
+                .thenReturn(BatchReservationResultDTO.builder()
+                        .confirmed(1)
+                        .failed(1)
+                        .items(List.of(
+                                BatchReservationItemDTO.builder()
+                                        .trainingClassId(1L)
+                                        .status("CONFIRMED")
+                                        .reservation(testReservationDTO)
+                                        .build(),
+                                BatchReservationItemDTO.builder()
+                                        .trainingClassId(2L)
+                                        .status("FAILED")
+                                        .message("Class is fully booked")
+                                        .build()))
+                        .build());
+
+        mockMvc.perform(post("/api/client/reservations/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.confirmed").value(1))
+                .andExpect(jsonPath("$.items[0].reservation.id").value(1L))
+                .andExpect(jsonPath("$.items[1].message").value("Class is fully booked"));
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT", username = "user1@gmail.com")
+    void createReservations_withEmptyBatch_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(post("/api/client/reservations/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"trainingClassIds\":[]}"))
+                .andExpect(status().isBadRequest());
+
+        verify(reservationService, never()).createReservations(any(), any());
+    }
+
     @Test
     @WithMockUser(roles = "CLIENT", username = "user1@gmail.com")
     void cancelReservation_withValidId_shouldReturnNoContent() throws Exception {
@@ -403,31 +475,62 @@ class ClientControllerIntegrationTest {
     @Test
     @WithMockUser(roles = "CLIENT", username = "user1@gmail.com")
     void getUpcomingReservations_shouldReturnUpcomingReservations() throws Exception {
-        when(reservationService.getUpcomingReservations("user1@gmail.com"))
-                .thenReturn(List.of(testReservationDTO));
+        when(reservationService.getUpcomingReservations("user1@gmail.com", null, 20))
+                .thenReturn(ReservationPageDTO.builder()
+                        .reservations(List.of(testReservationDTO))
+                        .nextCursor("next")
+                        .build());
 
         mockMvc.perform(get("/api/client/reservations/upcoming"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].className").value("trainingClass1"))
-                .andExpect(jsonPath("$[0].status").value("CONFIRMED"));
+                .andExpect(jsonPath("$.reservations").isArray())
+                .andExpect(jsonPath("$.reservations[0].id").value(1L))
+                .andExpect(jsonPath("$.reservations[0].className").value("trainingClass1"))
+                .andExpect(jsonPath("$.reservations[0].status").value("CONFIRMED"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT", username = "user1@gmail.com")
+    void getUpcomingReservations_withCursorAndSize_shouldPassThemToService() throws Exception {
+        when(reservationService.getUpcomingReservations("user1@gmail.com", "abc", 5))
+                .thenReturn(ReservationPageDTO.builder().reservations(List.of()).build());
+
+        mockMvc.perform(get("/api/client/reservations/upcoming")
+                        .param("cursor", "abc")
+                        .param("size", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.reservations").isEmpty());
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT", username = "user1@gmail.com")
+    void getUpcomingReservations_withInvalidCursor_shouldReturnBadRequest() throws Exception {
+        when(reservationService.getUpcomingReservations("user1@gmail.com", "bad", 20))
+                .thenThrow(new InvalidRequestDataException("Invalid reservation cursor: bad"));
+
+        mockMvc.perform(get("/api/client/reservations/upcoming")
+                        .param("cursor", "bad"))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
     @WithMockUser(roles = "CLIENT", username = "user1@gmail.com")
     void getPastReservations_shouldReturnPastReservations() throws Exception {
-        when(reservationService.getPastReservations("user1@gmail.com"))
-                .thenReturn(List.of(testReservationDTO));
+        when(reservationService.getPastReservations("user1@gmail.com", null, 20))
+                .thenReturn(ReservationPageDTO.builder()
+                        .reservations(List.of(testReservationDTO))
+                        .build());
 
         mockMvc.perform(get("/api/client/reservations/past"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].className").value("trainingClass1"))
-                .andExpect(jsonPath("$[0].status").value("CONFIRMED"));
+                .andExpect(jsonPath("$.reservations").isArray())
+                .andExpect(jsonPath("$.reservations[0].id").value(1L))
+                .andExpect(jsonPath("$.reservations[0].className").value("trainingClass1"))
+                .andExpect(jsonPath("$.reservations[0].status").value("CONFIRMED"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
     }
 
     @Test
@@ -458,4 +561,55 @@ class ClientControllerIntegrationTest {
                 .andExpect(jsonPath("$[1].type").value("QUARTERLY"))
                 .andExpect(jsonPath("$[1].active").value(false));
     }
-}
\ No newline at end of file
+
+    @Test
+    @WithMockUser(username = "user1@gmail.com", roles = "CLIENT")
+    void joinWaitlist_shouldReturnCreatedEntry() throws Exception {
+        when(waitlistService.joinWaitlist("user1@gmail.com", 1L)).thenReturn(WaitlistEntryDTO.builder()
+                .trainingClassId(1L)
+                .className("trainingClass1")
+                .position(3)
+                .waitlistSize(3)
+                .build());
+
+        mockMvc.perform(post("/api/client/classes/1/waitlist"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.trainingClassId").value(1L))
+                .andExpect(jsonPath("$.position").value(3));
+    }
+
+    @Test
+    @WithMockUser(username = "user1@gmail.com", roles = "CLIENT")
+    void joinWaitlist_whenAlreadyWaiting_shouldReturnBadRequest() throws Exception {
+        when(waitlistService.joinWaitlist("user1@gmail.com", 1L))
+                .thenThrow(new AlreadyOnWaitlistException("You are already on the waitlist for this class"));
+
+        mockMvc.perform(post("/api/client/classes/1/waitlist"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("You are already on the waitlist for this class"));
+    }
+
+    @Test
+    @WithMockUser(username = "user1@gmail.com", roles = "CLIENT")
+    void getWaitlistPosition_shouldReturnPosition() throws Exception {
+        when(waitlistService.getWaitlistPosition("user1@gmail.com", 1L)).thenReturn(WaitlistEntryDTO.builder()
+                .trainingClassId(1L)
+                .position(2)
+                .waitlistSize(5)
+                .build());
+
+        mockMvc.perform(get("/api/client/classes/1/waitlist"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.position").value(2))
+                .andExpect(jsonPath("$.waitlistSize").value(5));
+    }
+
+    @Test
+    @WithMockUser(username = "user1@gmail.com", roles = "CLIENT")
+    void leaveWaitlist_shouldReturnNoContent() throws Exception {
+        mockMvc.perform(delete("/api/client/classes/1/waitlist"))
+                .andExpect(status().isNoContent());
+
+        verify(waitlistService).leaveWaitlist("user1@gmail.com", 1L);
+    }
+}
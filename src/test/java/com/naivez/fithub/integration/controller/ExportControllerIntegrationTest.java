@@ -0,0 +1,108 @@
+package com.naivez.fithub.integration.controller;
+
+import com.naivez.fithub.exception.InvalidTimeRangeException;
+import com.naivez.fithub.exporting.ExportFormat;
+import com.naivez.fithub.service.ExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ExportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExportService exportService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportReservations_asCsv_shouldStreamAttachment() throws Exception {
+        StreamingResponseBody body = output -> output.write("reservationId\n1\n".getBytes(StandardCharsets.UTF_8));
+        when(exportService.exportReservations(eq(ExportFormat.CSV), isNull(), isNull(), isNull())).thenReturn(body);
+
+        MvcResult result = mockMvc.perform(get("/api/admin/export/reservations"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(Duration.ofMinutes(30).toMillis());
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"reservations.csv\""))
+                .andExpect(content().string("reservationId\n1\n"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportReservations_asNdjsonWithFilters_shouldPassFiltersToService() throws Exception {
+        StreamingResponseBody body = output -> output.write("{}\n".getBytes(StandardCharsets.UTF_8));
+        when(exportService.exportReservations(ExportFormat.NDJSON,
+                LocalDateTime.of(2025, 1, 1, 0, 0), LocalDateTime.of(2025, 2, 1, 0, 0), "CONFIRMED"))
+                .thenReturn(body);
+
+        MvcResult result = mockMvc.perform(get("/api/admin/export/reservations")
+                        .param("format", "ndjson")
+                        .param("from", "2025-01-01T00:00:00")
+                        .param("to", "2025-02-01T00:00:00")
+                        .param("status", "CONFIRMED"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(content().string("{}\n"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportReservations_withUnknownFormat_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/export/reservations").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported export format. Use csv or ndjson"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void exportReservations_withInvalidRange_shouldReturnBadRequest() throws Exception {
+        when(exportService.exportReservations(any(), any(), any(), any()))
+                .thenThrow(new InvalidTimeRangeException("End date must be after start date"));
+
+        mockMvc.perform(get("/api/admin/export/reservations")
+                        .param("from", "2025-02-01T00:00:00")
+                        .param("to", "2025-01-01T00:00:00"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    void exportReservations_withClientRole_shouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/api/admin/export/reservations"))
+                .andExpect(status().isForbidden());
+    }
+}
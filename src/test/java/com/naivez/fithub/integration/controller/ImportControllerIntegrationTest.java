@@ -0,0 +1,99 @@
+package com.naivez.fithub.integration.controller;
+
+import com.naivez.fithub.dto.ImportReportDTO;
+import com.naivez.fithub.dto.ImportRowErrorDTO;
+import com.naivez.fithub.importing.ImportFormat;
+import com.naivez.fithub.service.ImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ImportControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ImportService importService;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importMembers_withCsv_shouldReturnReport() throws Exception {
+        ImportReportDTO report = ImportReportDTO.builder()
+                .totalRows(2)
+                .importedRows(1)
+                .failedRows(1)
+                .errors(List.of(new ImportRowErrorDTO(2L, "Email must be valid")))
+                .errorsTruncated(false)
+                .build();
+
+        when(importService.importMembers(any(InputStream.class), eq(ImportFormat.CSV))).thenReturn(report);
+
+        mockMvc.perform(post("/api/admin/import/members")
+                        .contentType("text/csv")
+                        .content("email,password,firstName,lastName\nuser1@gmail.com,password1,user1,user1\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalRows").value(2))
+                .andExpect(jsonPath("$.importedRows").value(1))
+                .andExpect(jsonPath("$.failedRows").value(1))
+                .andExpect(jsonPath("$.errors[0].rowNumber").value(2))
+                .andExpect(jsonPath("$.errors[0].message").value("Email must be valid"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importClasses_withNdjson_shouldReturnReport() throws Exception {
+        ImportReportDTO report = ImportReportDTO.builder()
+                .totalRows(1)
+                .importedRows(1)
+                .errors(List.of())
+                .build();
+
+        when(importService.importClasses(any(InputStream.class), eq(ImportFormat.NDJSON))).thenReturn(report);
+
+        mockMvc.perform(post("/api/admin/import/classes")
+                        .contentType("application/x-ndjson")
+                        .content("{\"name\":\"Yoga\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importedRows").value(1));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importMembers_withUnsupportedContentType_shouldReturnUnsupportedMediaType() throws Exception {
+        mockMvc.perform(post("/api/admin/import/members")
+                        .contentType("application/json")
+                        .content("[]"))
+                .andExpect(status().isUnsupportedMediaType());
+
+        verify(importService, never()).importMembers(any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    void importMembers_withClientRole_shouldReturnForbidden() throws Exception {
+        mockMvc.perform(post("/api/admin/import/members")
+                        .contentType("text/csv")
+                        .content("email\n"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,71 @@
+package com.naivez.fithub.integration.controller;
+
+import com.naivez.fithub.dbtiming.DbTimingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "db-timing.slow-query-threshold-ms=0")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@ExtendWith(OutputCaptureExtension.class)
+class ServerTimingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    void getUpcomingClasses_shouldReportDbTimeInServerTimingHeader() throws Exception {
+        mockMvc.perform(get("/api/classes/upcoming"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(DbTimingFilter.SERVER_TIMING_HEADER,
+                        matchesPattern("db;dur=\\d+\\.\\d{2};desc=\"[1-9]\\d* statements\", db-slowest;dur=\\d+\\.\\d{2}")));
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    void getUpcomingClasses_shouldRecordDbMetricsByUriPattern() throws Exception {
+        mockMvc.perform(get("/api/classes/upcoming"))
+                .andExpect(status().isOk());
+
+        Timer timer = meterRegistry.find("fithub.db.request.time")
+                .tags("method", "GET", "uri", "/api/classes/upcoming")
+                .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isPositive();
+        assertThat(meterRegistry.find("fithub.db.request.statements")
+                .tags("method", "GET", "uri", "/api/classes/upcoming")
+                .summary().totalAmount()).isPositive();
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    void slowQueryLog_shouldIncludeServiceMethodAndParameters(CapturedOutput output) throws Exception {
+        mockMvc.perform(get("/api/classes/upcoming"))
+                .andExpect(status().isOk());
+
+        assertThat(output.getOut())
+                .contains("Slow query")
+                .contains("service: TrainingClassService.getUpcomingClasses")
+                .contains("parameters: [");
+    }
+}
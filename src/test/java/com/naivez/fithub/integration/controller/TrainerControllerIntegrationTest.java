@@ -5,6 +5,7 @@ import com.naivez.fithub.dto.*;
 import com.naivez.fithub.exception.UserNotFoundException;
 import com.naivez.fithub.service.NotificationService;
 import com.naivez.fithub.service.PersonalTrainingSessionService;
+import com.naivez.fithub.service.TrainerDashboardService;
 import com.naivez.fithub.service.TrainerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,6 +47,9 @@ class TrainerControllerIntegrationTest {
     @MockBean
     private NotificationService notificationService;
 
+    @MockBean
+    private TrainerDashboardService trainerDashboardService;
+
     private TrainingClassDTO testTrainingClassDTO;
     private PersonalTrainingSessionDTO testPersonalSessionDTO;
     private ScheduleChangeRequestDTO testScheduleChangeRequestDTO;
@@ -136,6 +140,59 @@ class TrainerControllerIntegrationTest {
                 .build();
     }
 
+    @Test
+    @WithMockUser(roles = "TRAINER", username = "trainer1@gmail.com")
+    void getDashboard_shouldReturnAllSections() throws Exception {
+        LocalDate date = LocalDate.now().plusDays(1);
+        TrainerDashboardDTO dashboard = TrainerDashboardDTO.builder()
+                .date(date)
+                .dailySchedule(List.of(testTrainingClassDTO))
+                .weeklySchedule(List.of(testTrainingClassDTO))
+                .personalSessions(List.of(testPersonalSessionDTO))
+                .pendingChangeRequests(List.of(testScheduleChangeRequestDTO))
+                .clients(List.of(testClientProfileDTO))
+                .unreadNotifications(List.of(testNotificationDTO))
+                .unavailableSections(List.of())
+                .build();
+        when(trainerDashboardService.getDashboard("trainer1@gmail.com", date)).thenReturn(dashboard);
+
+        mockMvc.perform(get("/api/trainer/dashboard")
+                        .param("date", date.toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.date").value(date.toString()))
+                .andExpect(jsonPath("$.dailySchedule[0].name").value("trainingClass1"))
+                .andExpect(jsonPath("$.weeklySchedule[0].id").value(1L))
+                .andExpect(jsonPath("$.personalSessions[0].clientName").value("user1"))
+                .andExpect(jsonPath("$.pendingChangeRequests[0].status").value("PENDING"))
+                .andExpect(jsonPath("$.clients[0].email").value("user1@gmail.com"))
+                .andExpect(jsonPath("$.unreadNotifications").isArray())
+                .andExpect(jsonPath("$.unavailableSections").isEmpty());
+    }
+
+    @Test
+    @WithMockUser(roles = "TRAINER", username = "trainer1@gmail.com")
+    void getDashboard_withoutDate_shouldDefaultToToday() throws Exception {
+        when(trainerDashboardService.getDashboard("trainer1@gmail.com", LocalDate.now()))
+                .thenReturn(TrainerDashboardDTO.builder()
+                        .date(LocalDate.now())
+                        .unavailableSections(List.of("clients"))
+                        .build());
+
+        mockMvc.perform(get("/api/trainer/dashboard"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.unavailableSections[0]").value("clients"));
+    }
+
+    @Test
+    @WithMockUser(roles = "USER", username = "user1@gmail.com")
+    void getDashboard_whenNotTrainer_shouldReturnForbidden() throws Exception {
+        mockMvc.perform(get("/api/trainer/dashboard"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(trainerDashboardService);
+    }
+
     @Test
     @WithMockUser(roles = "TRAINER", username = "trainer1@gmail.com")
     void getDailySchedule_shouldReturnDailyClasses() throws Exception {
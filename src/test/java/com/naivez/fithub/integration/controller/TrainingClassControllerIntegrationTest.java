@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -149,9 +150,11 @@ class TrainingClassControllerIntegrationTest {
 
     @Test
     @WithMockUser(roles = "ADMIN")
-    void deleteTrainingClass_AsAdmin_ShouldDeleteClass() throws Exception {
+    void deleteTrainingClass_AsAdmin_ShouldCancelClass() throws Exception {
         mockMvc.perform(delete("/api/classes/{id}", TRAINING_CLASS_ID))
                 .andExpect(status().isNoContent());
+
+        verify(trainingClassService).cancelTrainingClass(TRAINING_CLASS_ID);
     }
 
     @Test
@@ -0,0 +1,172 @@
+package com.naivez.fithub.integration.repository;
+
+import com.naivez.fithub.entity.*;
+import com.naivez.fithub.repository.NotificationRepository;
+import com.naivez.fithub.repository.ReservationRepository;
+import com.naivez.fithub.repository.TrainingClassRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class BatchInsertIntegrationTest {
+
+    private static final int ROWS = 200;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TrainingClassRepository trainingClassRepository;
+
+    private Statistics statistics;
+    private User testUser;
+    private Room testRoom;
+
+    @BeforeEach
+    void setUp() {
+        testUser = User.builder()
+                .email("user1@gmail.com")
+                .password("encodedPassword")
+                .firstName("user1")
+                .lastName("user1")
+                .roles(new HashSet<>())
+                .memberships(new HashSet<>())
+                .reservations(new HashSet<>())
+                .notifications(new HashSet<>())
+                .build();
+        entityManager.persist(testUser);
+
+        testRoom = Room.builder()
+                .name("room1")
+                .capacity(ROWS)
+                .equipmentList(new HashSet<>())
+                .classes(new HashSet<>())
+                .build();
+        entityManager.persist(testRoom);
+        entityManager.flush();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void saveAll_notifications_shouldBeWrittenInJdbcBatches() {
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            notifications.add(Notification.builder()
+                    .recipient(testUser)
+                    .message("message" + i)
+                    .sentAt(LocalDateTime.now())
+                    .read(false)
+                    .build());
+        }
+
+        notificationRepository.saveAll(notifications);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(ROWS / 10);
+    }
+
+    @Test
+    void saveAll_trainingClassesAndReservations_shouldBeWrittenInJdbcBatches() {
+        List<TrainingClass> classes = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            classes.add(TrainingClass.builder()
+                    .name("class" + i)
+                    .room(testRoom)
+                    .startTime(LocalDateTime.now().plusDays(1).plusHours(i))
+                    .endTime(LocalDateTime.now().plusDays(1).plusHours(i + 1))
+                    .capacity(10)
+                    .reservations(new HashSet<>())
+                    .build());
+        }
+        trainingClassRepository.saveAll(classes);
+
+        List<Reservation> reservations = new ArrayList<>();
+        for (TrainingClass trainingClass : classes) {
+            reservations.add(Reservation.builder()
+                    .user(testUser)
+                    .trainingClass(trainingClass)
+                    .reservationDate(LocalDateTime.now())
+                    .status("CONFIRMED")
+                    .build());
+        }
+        reservationRepository.saveAll(reservations);
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(2L * ROWS);
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(2 * ROWS / 10);
+    }
+
+    @Test
+    void cancellingFullClass_shouldUpdateReservationsAndNotifyMembersInFewStatements() {
+        TrainingClass trainingClass = TrainingClass.builder()
+                .name("class1")
+                .room(testRoom)
+                .startTime(LocalDateTime.now().plusDays(1))
+                .endTime(LocalDateTime.now().plusDays(1).plusHours(1))
+                .capacity(ROWS)
+                .reservations(new HashSet<>())
+                .build();
+        entityManager.persist(trainingClass);
+        for (int i = 0; i < ROWS; i++) {
+            User member = User.builder()
+                    .email("member" + i + "@gmail.com")
+                    .password("encodedPassword")
+                    .roles(new HashSet<>())
+                    .build();
+            entityManager.persist(member);
+            entityManager.persist(Reservation.builder()
+                    .user(member)
+                    .trainingClass(trainingClass)
+                    .reservationDate(LocalDateTime.now())
+                    .status("CONFIRMED")
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        List<Long> memberIds = reservationRepository.findConfirmedUserIdsByClassId(trainingClass.getId());
+        int cancelled = reservationRepository.cancelConfirmedByClassId(trainingClass.getId());
+        notificationRepository.saveAll(memberIds.stream()
+                .map(memberId -> Notification.builder()
+                        .recipient(entityManager.getEntityManager().getReference(User.class, memberId))
+                        .message("Your class has been cancelled")
+                        .sentAt(LocalDateTime.now())
+                        .read(false)
+                        .build())
+                .toList());
+        entityManager.flush();
+
+        assertThat(cancelled).isEqualTo(ROWS);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(ROWS / 10);
+    }
+}
@@ -0,0 +1,142 @@
+package com.naivez.fithub.integration.repository;
+
+import com.naivez.fithub.analytics.MembershipActiveTotals;
+import com.naivez.fithub.analytics.MembershipPurchaseTotals;
+import com.naivez.fithub.entity.Membership;
+import com.naivez.fithub.entity.MembershipDailyFact;
+import com.naivez.fithub.entity.User;
+import com.naivez.fithub.repository.MembershipDailyFactRepository;
+import com.naivez.fithub.repository.MembershipRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class MembershipDailyFactRepositoryIntegrationTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 1, 6);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MembershipDailyFactRepository membershipDailyFactRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = User.builder()
+                .email("user1@gmail.com")
+                .password("encodedPassword")
+                .roles(new HashSet<>())
+                .build();
+        entityManager.persist(testUser);
+
+        entityManager.persist(fact(DAY, "MONTHLY", 0, true));
+        entityManager.persist(fact(DAY.plusDays(1), "MONTHLY", 10, false));
+        entityManager.persist(fact(DAY.plusDays(2), "MONTHLY", 0, true));
+        entityManager.flush();
+    }
+
+    @Test
+    void upsertDelta_whenFactExists_shouldIncrementMatchingFact() {
+        membershipDailyFactRepository.upsertDelta(DAY, "MONTHLY",
+                1, new BigDecimal("99.99"), 1, new BigDecimal("99.99"), 1, new BigDecimal("99.99"));
+        entityManager.clear();
+
+        MembershipDailyFact fact = membershipDailyFactRepository.findByFactDate(DAY).get(0);
+        assertThat(fact.getPurchaseCount()).isEqualTo(1);
+        assertThat(fact.getPurchaseRevenue()).isEqualByComparingTo("99.99");
+        assertThat(fact.getRenewalRevenue()).isEqualByComparingTo("99.99");
+        assertThat(fact.getActiveMembers()).isEqualTo(1);
+        assertThat(fact.getMrr()).isEqualByComparingTo("99.99");
+        assertThat(fact.isSnapshot()).isTrue();
+    }
+
+    @Test
+    void upsertDelta_whenFactMissing_shouldInsertNonSnapshotFact() {
+        membershipDailyFactRepository.upsertDelta(DAY.plusDays(3), "ANNUAL",
+                1, new BigDecimal("899.99"), 0, BigDecimal.ZERO, 1, new BigDecimal("73.97"));
+        entityManager.clear();
+
+        assertThat(membershipDailyFactRepository.findByFactDate(DAY.plusDays(3)))
+                .singleElement()
+                .satisfies(fact -> {
+                    assertThat(fact.getId()).isNotNull();
+                    assertThat(fact.getPurchaseCount()).isEqualTo(1);
+                    assertThat(fact.getActiveMembers()).isEqualTo(1);
+                    assertThat(fact.isSnapshot()).isFalse();
+                });
+        assertThat(membershipDailyFactRepository.findLatestSnapshotDate(DAY.plusDays(5))).contains(DAY.plusDays(2));
+    }
+
+    @Test
+    void findLatestSnapshotDate_shouldIgnoreDaysWithoutSnapshot() {
+        assertThat(membershipDailyFactRepository.findLatestSnapshotDate(DAY.plusDays(5))).contains(DAY.plusDays(2));
+        assertThat(membershipDailyFactRepository.findLatestSnapshotDate(DAY.plusDays(1))).contains(DAY);
+        assertThat(membershipDailyFactRepository.findLatestSnapshotDate(DAY.minusDays(1))).isEmpty();
+    }
+
+    @Test
+    void sumPurchasesByDateAndType_andSumActiveByType_shouldAggregateMemberships() {
+        entityManager.persist(membership("MONTHLY", DAY, DAY.plusDays(30), "99.99", true));
+        entityManager.persist(membership("MONTHLY", DAY, DAY.plusDays(30), "99.99", true));
+        entityManager.persist(membership("ANNUAL", DAY.plusDays(1), DAY.plusDays(366), "899.99", true));
+        entityManager.persist(membership("MONTHLY", DAY.minusDays(40), DAY.minusDays(10), "99.99", true));
+        entityManager.persist(membership("MONTHLY", DAY.minusDays(5), DAY.plusDays(25), "99.99", false));
+        entityManager.flush();
+
+        List<MembershipPurchaseTotals> purchases = membershipRepository.sumPurchasesByDateAndType(DAY, DAY.plusDays(1));
+        List<MembershipActiveTotals> active = membershipRepository.sumActiveByType(DAY.plusDays(1));
+
+        assertThat(purchases).hasSize(2);
+        assertThat(purchases).filteredOn(total -> "MONTHLY".equals(total.type()))
+                .singleElement()
+                .satisfies(total -> {
+                    assertThat(total.purchaseCount()).isEqualTo(2L);
+                    assertThat(total.revenue()).isEqualByComparingTo("199.98");
+                });
+        assertThat(active).hasSize(2);
+        assertThat(active).filteredOn(total -> "MONTHLY".equals(total.type()))
+                .singleElement()
+                .satisfies(total -> assertThat(total.activeMembers()).isEqualTo(2L));
+    }
+
+    private MembershipDailyFact fact(LocalDate date, String type, int activeMembers, boolean snapshot) {
+        return MembershipDailyFact.builder()
+                .factDate(date)
+                .membershipType(type)
+                .purchaseRevenue(BigDecimal.ZERO)
+                .renewalRevenue(BigDecimal.ZERO)
+                .activeMembers(activeMembers)
+                .mrr(BigDecimal.ZERO)
+                .snapshot(snapshot)
+                .build();
+    }
+
+    private Membership membership(String type, LocalDate startDate, LocalDate endDate, String price, boolean active) {
+        return Membership.builder()
+                .user(testUser)
+                .type(type)
+                .startDate(startDate)
+                .endDate(endDate)
+                .price(new BigDecimal(price))
+                .active(active)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.naivez.fithub.integration.repository;
 
+import com.naivez.fithub.dashboard.DashboardNotificationRow;
 import com.naivez.fithub.entity.Notification;
 import com.naivez.fithub.entity.Role;
 import com.naivez.fithub.entity.User;
@@ -209,4 +210,16 @@ class NotificationRepositoryIntegrationTest {
         assertThat(result).extracting(Notification::getMessage)
                 .doesNotContain("Notification for other user");
     }
-}
\ No newline at end of file
+
+    @Test
+    void findUnreadDashboardRowsByRecipientId_shouldProjectUnreadNotificationsNewestFirst() {
+        List<DashboardNotificationRow> result = notificationRepository.findUnreadDashboardRowsByRecipientId(testUser.getId());
+
+        assertThat(result).extracting(DashboardNotificationRow::message)
+                .containsExactly("Second unread notification", "First unread notification");
+        assertThat(result).allSatisfy(row -> {
+            assertThat(row.read()).isFalse();
+            assertThat(row.recipientEmail()).isEqualTo(testUser.getEmail());
+        });
+    }
+}
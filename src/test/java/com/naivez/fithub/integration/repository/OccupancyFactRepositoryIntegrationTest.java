@@ -0,0 +1,160 @@
+package com.naivez.fithub.integration.repository;
+
+import com.naivez.fithub.analytics.ClassOccupancy;
+import com.naivez.fithub.analytics.OccupancyBucketTotals;
+import com.naivez.fithub.analytics.OccupancyTotals;
+import com.naivez.fithub.entity.*;
+import com.naivez.fithub.repository.OccupancyFactRepository;
+import com.naivez.fithub.repository.TrainingClassRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class OccupancyFactRepositoryIntegrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OccupancyFactRepository occupancyFactRepository;
+
+    @Autowired
+    private TrainingClassRepository trainingClassRepository;
+
+    private LocalDateTime bucket;
+
+    @BeforeEach
+    void setUp() {
+        bucket = LocalDateTime.of(2025, 1, 6, 9, 0);
+
+        entityManager.persist(fact(bucket, 1L, 10L, "Yoga", 20, 10));
+        entityManager.persist(fact(bucket, 2L, 10L, "Boxing", 10, 10));
+        entityManager.persist(fact(bucket.plusDays(1), 1L, 11L, "Yoga", 20, 5));
+        entityManager.persist(fact(bucket.plusDays(30), 1L, 11L, "Yoga", 20, 20));
+        entityManager.flush();
+    }
+
+    @Test
+    void upsertDelta_whenFactExists_shouldIncrementOnlyMatchingFact() {
+        occupancyFactRepository.upsertDelta(bucket, 1L, 10L, "Yoga", 0, 0, 1);
+        entityManager.clear();
+
+        assertThat(occupancyFactRepository.findAll())
+                .filteredOn(fact -> fact.getBucketStart().equals(bucket))
+                .extracting(OccupancyFact::getRoomId, OccupancyFact::getConfirmedCount)
+                .containsExactlyInAnyOrder(tuple(1L, 11), tuple(2L, 10));
+    }
+
+    @Test
+    void upsertDelta_whenFactMissing_shouldInsertClampedFact() {
+        occupancyFactRepository.upsertDelta(bucket, 3L, 10L, "Yoga", 1, 20, -1);
+        occupancyFactRepository.upsertDelta(bucket, 3L, 10L, "Yoga", 0, 0, 2);
+        entityManager.clear();
+
+        assertThat(occupancyFactRepository.findAll())
+                .filteredOn(fact -> fact.getRoomId().equals(3L))
+                .singleElement()
+                .satisfies(fact -> {
+                    assertThat(fact.getId()).isNotNull();
+                    assertThat(fact.getClassCount()).isEqualTo(1);
+                    assertThat(fact.getCapacity()).isEqualTo(20);
+                    assertThat(fact.getConfirmedCount()).isEqualTo(2);
+                });
+    }
+
+    @Test
+    void sumByRoom_shouldAggregateWithinRange() {
+        List<OccupancyTotals> totals = occupancyFactRepository.sumByRoom(bucket.minusHours(9), bucket.plusDays(7));
+
+        assertThat(totals).containsExactly(
+                new OccupancyTotals("1", 2L, 40L, 15L),
+                new OccupancyTotals("2", 1L, 10L, 10L));
+    }
+
+    @Test
+    void sumByBucket_withRoomFilter_shouldAggregatePerHour() {
+        List<OccupancyBucketTotals> all = occupancyFactRepository.sumByBucket(bucket, bucket.plusDays(7), null);
+        List<OccupancyBucketTotals> room2 = occupancyFactRepository.sumByBucket(bucket, bucket.plusDays(7), 2L);
+
+        assertThat(all).containsExactly(
+                new OccupancyBucketTotals(bucket, 2L, 30L, 20L),
+                new OccupancyBucketTotals(bucket.plusDays(1), 1L, 20L, 5L));
+        assertThat(room2).containsExactly(new OccupancyBucketTotals(bucket, 1L, 10L, 10L));
+    }
+
+    @Test
+    void deleteByBucketRange_shouldRemoveOnlyFactsInRange() {
+        int deleted = occupancyFactRepository.deleteByBucketRange(bucket, bucket.plusDays(2));
+
+        assertThat(deleted).isEqualTo(3);
+        assertThat(occupancyFactRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void findClassOccupancyBetween_shouldCountOnlyConfirmedReservations() {
+        User user = User.builder()
+                .email("user1@gmail.com")
+                .password("encodedPassword")
+                .roles(new HashSet<>())
+                .build();
+        entityManager.persist(user);
+        User otherUser = User.builder()
+                .email("user2@gmail.com")
+                .password("encodedPassword")
+                .roles(new HashSet<>())
+                .build();
+        entityManager.persist(otherUser);
+
+        TrainingClass yoga = TrainingClass.builder()
+                .name("Yoga")
+                .startTime(bucket.plusMinutes(30))
+                .endTime(bucket.plusMinutes(90))
+                .capacity(20)
+                .build();
+        entityManager.persist(yoga);
+        entityManager.persist(Reservation.builder()
+                .user(user)
+                .trainingClass(yoga)
+                .reservationDate(bucket.minusDays(1))
+                .status("CONFIRMED")
+                .build());
+        entityManager.persist(Reservation.builder()
+                .user(otherUser)
+                .trainingClass(yoga)
+                .reservationDate(bucket.minusDays(1))
+                .status("CANCELLED")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ClassOccupancy> result = trainingClassRepository.findClassOccupancyBetween(bucket, bucket.plusDays(1));
+
+        assertThat(result).containsExactly(
+                new ClassOccupancy(bucket.plusMinutes(30), null, null, "Yoga", 20, 1L));
+    }
+
+    private OccupancyFact fact(LocalDateTime bucketStart, Long roomId, Long trainerId, String className,
+                               int capacity, int confirmed) {
+        return OccupancyFact.builder()
+                .bucketStart(bucketStart)
+                .roomId(roomId)
+                .trainerId(trainerId)
+                .className(className)
+                .classCount(1)
+                .capacity(capacity)
+                .confirmedCount(confirmed)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.naivez.fithub.integration.repository;
 
+import com.naivez.fithub.dashboard.DashboardSessionRow;
 import com.naivez.fithub.entity.*;
 import com.naivez.fithub.repository.PersonalTrainingSessionRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -183,4 +184,18 @@ class PersonalTrainingSessionRepositoryIntegrationTest {
         assertThat(sessions.get(0).getStartTime()).isAfter(sessions.get(1).getStartTime());
         assertThat(sessions.get(1).getStartTime()).isAfter(sessions.get(2).getStartTime());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findDashboardRowsByTrainerIdAndDateRange_shouldProjectSessionsWithClient() {
+        List<DashboardSessionRow> result = personalTrainingSessionRepository.findDashboardRowsByTrainerIdAndDateRange(
+                testTrainer.getId(), LocalDateTime.now(), LocalDateTime.now().plusDays(3));
+
+        assertThat(result).extracting(DashboardSessionRow::sessionGoal)
+                .containsExactly("test session goal 3", "test session goal 5");
+        assertThat(result).allSatisfy(row -> {
+            assertThat(row.clientId()).isEqualTo(testClient.getId());
+            assertThat(row.clientFirstName()).isEqualTo(testClient.getFirstName());
+            assertThat(row.status()).isEqualTo("SCHEDULED");
+        });
+    }
+}
@@ -0,0 +1,372 @@
+package com.naivez.fithub.integration.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naivez.fithub.repository.*;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "queryplan.datasource.url", matches = ".+")
+class QueryPlanIntegrationTest {
+
+    private static final long ID_OFFSET = 1_000_000L;
+    private static final int USERS = 20_000;
+    private static final int TRAINERS = 200;
+
+    private static final Set<String> SEEDED_TABLES = Set.of(
+            "users", "training_classes", "reservations", "personal_training_sessions",
+            "schedule_change_requests", "trainer_notes", "promotions", "equipment",
+            "notifications", "memberships");
+
+    private static final List<String> SEED_STATEMENTS = List.of(
+            "INSERT INTO users (id, email, password, first_name, last_name) " +
+                    "SELECT " + ID_OFFSET + " + g, 'plan' || g || '@fithub.test', 'encodedPassword', 'first' || g, 'last' || g " +
+                    "FROM generate_series(1, " + USERS + ") g",
+            "INSERT INTO rooms (id, name, capacity) " +
+                    "SELECT " + ID_OFFSET + " + g, 'room' || g, 30 FROM generate_series(1, 500) g",
+            "INSERT INTO training_classes (id, name, trainer_id, room_id, start_time, end_time, capacity, status) " +
+                    "SELECT " + ID_OFFSET + " + g, 'class' || g, " + ID_OFFSET + " + 1 + g % " + TRAINERS + ", " + ID_OFFSET + " + 1 + g % 500, " +
+                    "TIMESTAMP '2020-01-01 06:00' + g * INTERVAL '30 minutes', TIMESTAMP '2020-01-01 07:00' + g * INTERVAL '30 minutes', 20, " +
+                    "CASE WHEN g % 50 = 0 THEN 'CANCELLED' ELSE 'SCHEDULED' END " +
+                    "FROM generate_series(1, 50000) g",
+            "INSERT INTO reservations (id, user_id, training_class_id, reservation_date, status, class_start_time) " +
+                    "SELECT " + ID_OFFSET + " + g, " + ID_OFFSET + " + 1 + g % " + USERS + ", tc.id, " +
+                    "TIMESTAMP '2020-01-01' + g * INTERVAL '5 minutes', CASE WHEN g % 5 = 0 THEN 'CANCELLED' ELSE 'CONFIRMED' END, tc.start_time " +
+                    "FROM generate_series(1, 200000) g JOIN training_classes tc ON tc.id = " + ID_OFFSET + " + 1 + g % 50000",
+            "INSERT INTO personal_training_sessions (id, trainer_id, client_id, start_time, end_time, status, created_at) " +
+                    "SELECT " + ID_OFFSET + " + g, " + ID_OFFSET + " + 1 + g % " + TRAINERS + ", " + ID_OFFSET + " + 1 + g % " + USERS + ", " +
+                    "TIMESTAMP '2020-01-01 06:00' + g * INTERVAL '1 hour', TIMESTAMP '2020-01-01 07:00' + g * INTERVAL '1 hour', 'COMPLETED', " +
+                    "TIMESTAMP '2020-01-01' + g * INTERVAL '1 hour' FROM generate_series(1, 50000) g",
+            "INSERT INTO schedule_change_requests (id, trainer_id, request_type, status, created_at) " +
+                    "SELECT " + ID_OFFSET + " + g, " + ID_OFFSET + " + 1 + g % " + TRAINERS + ", 'UPDATE', " +
+                    "CASE WHEN g % 100 = 0 THEN 'PENDING' ELSE 'APPROVED' END, TIMESTAMP '2020-01-01' + g * INTERVAL '1 hour' " +
+                    "FROM generate_series(1, 20000) g",
+            "INSERT INTO trainer_notes (id, trainer_id, client_id, note, created_at) " +
+                    "SELECT " + ID_OFFSET + " + g, " + ID_OFFSET + " + 1 + g % " + TRAINERS + ", " + ID_OFFSET + " + 1 + g % " + USERS + ", " +
+                    "'note' || g, TIMESTAMP '2020-01-01' + g * INTERVAL '1 hour' FROM generate_series(1, 50000) g",
+            "INSERT INTO promotions (id, title, discount_percent, start_date, end_date) " +
+                    "SELECT " + ID_OFFSET + " + g, 'promotion' || g, 10, DATE '2015-01-01' + g % 3000, DATE '2015-01-15' + g % 3000 " +
+                    "FROM generate_series(1, 10000) g",
+            "INSERT INTO equipment (id, name, quantity, room_id, status) " +
+                    "SELECT " + ID_OFFSET + " + g, 'equipment' || g, 1, " + ID_OFFSET + " + 1 + g % 500, " +
+                    "CASE WHEN g % 100 = 0 THEN 'MAINTENANCE' ELSE 'AVAILABLE' END FROM generate_series(1, 10000) g",
+            "INSERT INTO notifications (id, recipient_id, message, sent_at, read) " +
+                    "SELECT " + ID_OFFSET + " + g, " + ID_OFFSET + " + 1 + g % " + USERS + ", 'message' || g, " +
+                    "TIMESTAMP '2020-01-01' + g * INTERVAL '1 minute', g % 10 <> 0 FROM generate_series(1, 200000) g",
+            "INSERT INTO memberships (id, user_id, type, start_date, end_date, price, active) " +
+                    "SELECT " + ID_OFFSET + " + g, " + ID_OFFSET + " + 1 + g % " + USERS + ", " +
+                    "CASE WHEN g % 3 = 0 THEN 'YEARLY' ELSE 'MONTHLY' END, DATE '2015-01-01' + g % 3000, DATE '2015-01-31' + g % 3000, 49.99, false " +
+                    "FROM generate_series(1, 40000) g",
+            "ANALYZE");
+
+    private static final long TRAINER_ID = ID_OFFSET + 42;
+    private static final long CLIENT_ID = ID_OFFSET + 242;
+
+    @DynamicPropertySource
+    static void queryPlanDatasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("queryplan.datasource.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("queryplan.datasource.username", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("queryplan.datasource.password", "postgres"));
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CapturingStatementInspector statementInspector;
+
+    @Autowired
+    private PersonalTrainingSessionRepository personalTrainingSessionRepository;
+
+    @Autowired
+    private ScheduleChangeRequestRepository scheduleChangeRequestRepository;
+
+    @Autowired
+    private TrainerNoteRepository trainerNoteRepository;
+
+    @Autowired
+    private PromotionRepository promotionRepository;
+
+    @Autowired
+    private EquipmentRepository equipmentRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private TrainingClassRepository trainingClassRepository;
+
+    @Autowired
+    private MembershipRepository membershipRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeEach
+    void seed() {
+        Boolean seeded = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM users WHERE id = ?)", Boolean.class, ID_OFFSET + 1);
+        if (Boolean.TRUE.equals(seeded)) {
+            return;
+        }
+        SEED_STATEMENTS.forEach(jdbcTemplate::execute);
+    }
+
+    @Test
+    void personalTrainingSessions_findByTrainerIdAndDateRange_shouldUseIndex() {
+        LocalDateTime start = LocalDateTime.of(2021, 1, 1, 0, 0);
+        LocalDateTime end = start.plusWeeks(1);
+
+        assertNoSequentialScan(() -> personalTrainingSessionRepository.findByTrainerIdAndDateRange(TRAINER_ID, start, end),
+                TRAINER_ID, start, end);
+    }
+
+    @Test
+    void personalTrainingSessions_findByTrainerIdAndClientId_shouldUseIndex() {
+        assertNoSequentialScan(() -> personalTrainingSessionRepository.findByTrainerIdAndClientId(TRAINER_ID, CLIENT_ID),
+                TRAINER_ID, CLIENT_ID);
+    }
+
+    @Test
+    void scheduleChangeRequests_findByStatus_shouldUsePartialIndex() {
+        assertNoSequentialScan(() -> scheduleChangeRequestRepository.findByStatus("PENDING"), "PENDING");
+    }
+
+    @Test
+    void scheduleChangeRequests_findByTrainerIdAndStatus_shouldUseIndex() {
+        assertNoSequentialScan(() -> scheduleChangeRequestRepository.findByTrainerIdAndStatus(TRAINER_ID, "PENDING"),
+                TRAINER_ID, "PENDING");
+    }
+
+    @Test
+    void trainerNotes_findByTrainerIdAndClientId_shouldUseIndex() {
+        assertNoSequentialScan(() -> trainerNoteRepository.findByTrainerIdAndClientId(TRAINER_ID, CLIENT_ID),
+                TRAINER_ID, CLIENT_ID);
+    }
+
+    @Test
+    void promotions_findActivePromotions_shouldUseIndex() {
+        LocalDate today = LocalDate.now();
+
+        assertNoSequentialScan(() -> promotionRepository.findActivePromotions(today), today, today);
+    }
+
+    @Test
+    void equipment_findByStatus_shouldUseIndex() {
+        assertNoSequentialScan(() -> equipmentRepository.findByStatus("MAINTENANCE"), "MAINTENANCE");
+    }
+
+    @Test
+    void equipment_findByRoomId_shouldUseIndex() {
+        long roomId = ID_OFFSET + 7;
+
+        assertNoSequentialScan(() -> equipmentRepository.findByRoomId(roomId), roomId);
+    }
+
+    @Test
+    void notifications_findUnreadByRecipientId_shouldUsePartialIndex() {
+        assertNoSequentialScan(() -> notificationRepository.findUnreadByRecipientId(CLIENT_ID), CLIENT_ID);
+    }
+
+    @Test
+    void reservations_countConfirmedReservationsByClassId_shouldUsePartialIndex() {
+        long classId = ID_OFFSET + 1_234;
+
+        assertNoSequentialScan(() -> reservationRepository.countConfirmedReservationsByClassId(classId), classId);
+    }
+
+    @Test
+    void reservations_findConfirmedUserIdsByClassId_shouldUsePartialIndex() {
+        long classId = ID_OFFSET + 1_234;
+
+        assertNoSequentialScan(() -> reservationRepository.findConfirmedUserIdsByClassId(classId), classId);
+    }
+
+    @Test
+    void reservations_findConfirmedRosterByClassIdAndTrainerId_shouldUseIndexes() {
+        long classId = ID_OFFSET + 1_234;
+
+        assertNoSequentialScan(() -> reservationRepository.findConfirmedRosterByClassIdAndTrainerId(classId, TRAINER_ID),
+                classId, TRAINER_ID);
+    }
+
+    @Test
+    void reservations_findByUserWithTrainingClass_shouldUseIndexes() {
+        assertNoSequentialScan(() -> reservationRepository.findByUserWithTrainingClass(CLIENT_ID), CLIENT_ID);
+    }
+
+    @Test
+    void reservations_findUpcomingByUserId_shouldUseUserStartIndex() {
+        LocalDateTime now = LocalDateTime.of(2021, 6, 1, 0, 0);
+
+        assertNoSequentialScan(() -> reservationRepository.findUpcomingByUserId(CLIENT_ID, now, now, Long.MAX_VALUE, Limit.of(21)),
+                CLIENT_ID, now, now, now, Long.MAX_VALUE, 21);
+    }
+
+    @Test
+    void reservations_findPastByUserId_shouldUseUserStartIndex() {
+        LocalDateTime now = LocalDateTime.of(2021, 6, 1, 0, 0);
+
+        assertNoSequentialScan(() -> reservationRepository.findPastByUserId(CLIENT_ID, now, now, Long.MAX_VALUE, Limit.of(21)),
+                CLIENT_ID, now, now, now, now, Long.MAX_VALUE, 21);
+    }
+
+    @Test
+    void trainingClasses_findUpcomingClasses_shouldUsePartialIndex() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertNoSequentialScan(() -> trainingClassRepository.findUpcomingClasses(now), now);
+    }
+
+    @Test
+    void memberships_findActiveByUserId_shouldUseIndex() {
+        LocalDate today = LocalDate.now();
+
+        assertNoSequentialScan(() -> membershipRepository.findActiveByUserId(CLIENT_ID, today), CLIENT_ID, today);
+    }
+
+    @Test
+    void memberships_sumPurchasesByDateAndType_shouldUseIndex() {
+        LocalDate from = LocalDate.of(2020, 6, 1);
+        LocalDate to = from.plusDays(6);
+
+        assertNoSequentialScan(() -> membershipRepository.sumPurchasesByDateAndType(from, to), from, to);
+    }
+
+    private void assertNoSequentialScan(Runnable repositoryCall, Object... parameters) {
+        statementInspector.clear();
+        repositoryCall.run();
+        String sql = statementInspector.first();
+        assertThat(sql).as("captured SQL").isNotNull();
+
+        JsonNode plan = explain(sql, parameters);
+        List<String> sequentialScans = new ArrayList<>();
+        collectSequentialScans(plan, sequentialScans);
+
+        assertThat(sequentialScans)
+                .as("sequential scans on seeded tables in plan %s", plan.toPrettyString())
+                .isEmpty();
+    }
+
+    private JsonNode explain(String sql, Object... parameters) {
+        String prepared = toPositionalParameters(sql);
+        List<String> literals = new ArrayList<>();
+        for (Object parameter : parameters) {
+            literals.add(toLiteral(parameter));
+        }
+        String planJson = jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PREPARE plan_check AS " + prepared);
+                try {
+                    String explain = "EXPLAIN (FORMAT JSON) EXECUTE plan_check" +
+                            (literals.isEmpty() ? "" : "(" + String.join(", ", literals) + ")");
+                    try (var resultSet = statement.executeQuery(explain)) {
+                        resultSet.next();
+                        return resultSet.getString(1);
+                    }
+                } finally {
+                    statement.execute("DEALLOCATE plan_check");
+                }
+            }
+        });
+        try {
+            return objectMapper.readTree(planJson).get(0).get("Plan");
+        } catch (Exception e) {
+            throw new IllegalStateException("Unreadable plan: " + planJson, e);
+        }
+    }
+
+    private void collectSequentialScans(JsonNode node, List<String> sequentialScans) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())
+                && SEEDED_TABLES.contains(node.path("Relation Name").asText())) {
+            sequentialScans.add(node.path("Relation Name").asText());
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, sequentialScans);
+        }
+    }
+
+    private String toPositionalParameters(String sql) {
+        StringBuilder result = new StringBuilder();
+        int position = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                result.append('$').append(++position);
+            } else {
+                result.append(c);
+            }
+        }
+        return result.toString();
+    }
+
+    private String toLiteral(Object parameter) {
+        if (parameter instanceof Number) {
+            return parameter.toString();
+        }
+        return "'" + parameter.toString().replace("'", "''") + "'";
+    }
+
+    static class CapturingStatementInspector implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        void clear() {
+            statements.clear();
+        }
+
+        String first() {
+            return statements.isEmpty() ? null : statements.get(0);
+        }
+    }
+
+    @TestConfiguration
+    static class QueryPlanConfig {
+
+        @Bean
+        CapturingStatementInspector capturingStatementInspector() {
+            return new CapturingStatementInspector();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer(CapturingStatementInspector inspector) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.naivez.fithub.integration.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naivez.fithub.entity.*;
+import com.naivez.fithub.exporting.ExportFormat;
+import com.naivez.fithub.service.ExportService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ExportService.class, JacksonAutoConfiguration.class})
+class ReservationExportIntegrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ExportService exportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private LocalDateTime baseTime;
+
+    @BeforeEach
+    void setUp() {
+        baseTime = LocalDateTime.of(2025, 1, 10, 9, 0);
+
+        User client = User.builder()
+                .email("user1@gmail.com")
+                .password("encodedPassword")
+                .firstName("user1")
+                .lastName("user1")
+                .roles(new HashSet<>())
+                .build();
+        entityManager.persist(client);
+
+        User trainer = User.builder()
+                .email("trainer1@gmail.com")
+                .password("encodedPassword")
+                .firstName("trainer1")
+                .lastName("trainer1")
+                .roles(new HashSet<>())
+                .build();
+        entityManager.persist(trainer);
+
+        Room room = Room.builder()
+                .name("room1")
+                .capacity(20)
+                .build();
+        entityManager.persist(room);
+
+        TrainingClass yoga = TrainingClass.builder()
+                .name("Yoga, morning")
+                .trainer(trainer)
+                .room(room)
+                .startTime(baseTime.plusDays(1))
+                .endTime(baseTime.plusDays(1).plusHours(1))
+                .capacity(20)
+                .build();
+        entityManager.persist(yoga);
+
+        TrainingClass boxing = TrainingClass.builder()
+                .name("Boxing")
+                .startTime(baseTime.plusDays(2))
+                .endTime(baseTime.plusDays(2).plusHours(1))
+                .capacity(10)
+                .build();
+        entityManager.persist(boxing);
+
+        entityManager.persist(Reservation.builder()
+                .user(client)
+                .trainingClass(yoga)
+                .reservationDate(baseTime)
+                .status("CONFIRMED")
+                .build());
+        entityManager.persist(Reservation.builder()
+                .user(client)
+                .trainingClass(boxing)
+                .reservationDate(baseTime.plusHours(2))
+                .status("CANCELLED")
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void exportReservations_asCsv_shouldStreamJoinedRows() throws Exception {
+        String csv = export(ExportFormat.CSV, null, null, null);
+
+        String[] lines = csv.split("\n");
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("reservationId,reservationDate,status,rating,comment,userId,userEmail");
+        assertThat(lines[1]).contains("CONFIRMED", "user1@gmail.com", "\"Yoga, morning\"", "trainer1@gmail.com", "room1");
+        assertThat(lines[2]).contains("CANCELLED", "Boxing");
+    }
+
+    @Test
+    void exportReservations_asNdjson_shouldWriteOneObjectPerLine() throws Exception {
+        String ndjson = export(ExportFormat.NDJSON, null, null, "confirmed");
+
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(1);
+        JsonNode row = objectMapper.readTree(lines[0]);
+        assertThat(row.get("status").asText()).isEqualTo("CONFIRMED");
+        assertThat(row.get("className").asText()).isEqualTo("Yoga, morning");
+        assertThat(row.get("trainerEmail").asText()).isEqualTo("trainer1@gmail.com");
+        assertThat(row.get("reservationDate").asText()).isEqualTo("2025-01-10T09:00");
+        assertThat(row.get("rating").isNull()).isTrue();
+    }
+
+    @Test
+    void exportReservations_withDateRange_shouldFilterByReservationDate() throws Exception {
+        String ndjson = export(ExportFormat.NDJSON, baseTime.plusHours(1), baseTime.plusHours(3), null);
+
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(1);
+        assertThat(objectMapper.readTree(lines[0]).get("className").asText()).isEqualTo("Boxing");
+        assertThat(objectMapper.readTree(lines[0]).get("trainerId").isNull()).isTrue();
+    }
+
+    private String export(ExportFormat format, LocalDateTime from, LocalDateTime to, String status) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.exportReservations(format, from, to, status).writeTo(output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,8 @@
 package com.naivez.fithub.integration.repository;
 
+import com.naivez.fithub.analytics.ClassConfirmedCount;
+import com.naivez.fithub.dashboard.DashboardClientRow;
+import com.naivez.fithub.dto.UserProfileDTO;
 import com.naivez.fithub.entity.*;
 import com.naivez.fithub.repository.ReservationRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -7,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
@@ -252,4 +256,197 @@ class ReservationRepositoryIntegrationTest {
         assertThat(result.get(0).getTrainingClass().getStartTime())
                 .isAfter(result.get(1).getTrainingClass().getStartTime());
     }
-}
\ No newline at end of file
+
+    @Test
+    void countConfirmedByClassIds_shouldGroupConfirmedReservationsPerClass() {
+        entityManager.persist(Reservation.builder()
+                .user(testUser2)
+                .trainingClass(testTrainingClass)
+                .reservationDate(LocalDateTime.now())
+                .status("CONFIRMED")
+                .build());
+        entityManager.persistAndFlush(Reservation.builder()
+                .user(testUser2)
+                .trainingClass(testTrainingClass2)
+                .reservationDate(LocalDateTime.now())
+                .status("CANCELLED")
+                .build());
+
+        List<ClassConfirmedCount> result = reservationRepository.countConfirmedByClassIds(
+                List.of(testTrainingClass.getId(), testTrainingClass2.getId()));
+
+        assertThat(result).containsExactly(new ClassConfirmedCount(testTrainingClass.getId(), 2L));
+    }
+
+    @Test
+    void findConfirmedClassIdsByUserId_shouldReturnOnlyBookedClasses() {
+        List<Long> result = reservationRepository.findConfirmedClassIdsByUserId(
+                testUser.getId(), List.of(testTrainingClass.getId(), testTrainingClass2.getId()));
+
+        assertThat(result).containsExactly(testTrainingClass.getId());
+    }
+
+    @Test
+    void cancelConfirmedByClassId_shouldCancelOnlyConfirmedReservationsOfClass() {
+        Reservation otherClassReservation = Reservation.builder()
+                .user(testUser2)
+                .trainingClass(testTrainingClass2)
+                .reservationDate(LocalDateTime.now())
+                .status("CONFIRMED")
+                .build();
+        entityManager.persistAndFlush(otherClassReservation);
+
+        List<Long> userIds = reservationRepository.findConfirmedUserIdsByClassId(testTrainingClass.getId());
+        int cancelled = reservationRepository.cancelConfirmedByClassId(testTrainingClass.getId());
+        entityManager.clear();
+
+        assertThat(userIds).containsExactly(testUser.getId());
+        assertThat(cancelled).isEqualTo(1);
+        assertThat(reservationRepository.findById(testReservation.getId())).get()
+                .extracting(Reservation::getStatus).isEqualTo("CANCELLED");
+        assertThat(reservationRepository.findById(otherClassReservation.getId())).get()
+                .extracting(Reservation::getStatus).isEqualTo("CONFIRMED");
+    }
+
+    @Test
+    void persist_shouldCopyClassStartTimeFromTrainingClass() {
+        assertThat(testReservation.getClassStartTime()).isEqualTo(testTrainingClass.getStartTime());
+    }
+
+    @Test
+    void findUpcomingByUserId_shouldPageByClassStartTimeAndId() {
+        Reservation laterReservation = Reservation.builder()
+                .user(testUser)
+                .trainingClass(testTrainingClass2)
+                .reservationDate(LocalDateTime.now())
+                .status("CONFIRMED")
+                .build();
+        entityManager.persistAndFlush(laterReservation);
+        entityManager.clear();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Reservation> firstPage = reservationRepository.findUpcomingByUserId(
+                testUser.getId(), now, now, Long.MAX_VALUE, Limit.of(1));
+        Reservation last = firstPage.get(0);
+        List<Reservation> secondPage = reservationRepository.findUpcomingByUserId(
+                testUser.getId(), now, last.getClassStartTime(), last.getId(), Limit.of(1));
+
+        assertThat(firstPage).extracting(Reservation::getId).containsExactly(testReservation.getId());
+        assertThat(secondPage).extracting(Reservation::getId).containsExactly(laterReservation.getId());
+    }
+
+    @Test
+    void findPastByUserId_shouldReturnFinishedClassesNewestFirst() {
+        TrainingClass pastClass = TrainingClass.builder()
+                .name("pastClass")
+                .startTime(LocalDateTime.now().minusDays(1))
+                .endTime(LocalDateTime.now().minusDays(1).plusHours(1))
+                .capacity(10)
+                .room(testRoom)
+                .reservations(new HashSet<>())
+                .build();
+        entityManager.persist(pastClass);
+        Reservation pastReservation = Reservation.builder()
+                .user(testUser)
+                .trainingClass(pastClass)
+                .reservationDate(LocalDateTime.now().minusDays(2))
+                .status("CONFIRMED")
+                .build();
+        entityManager.persistAndFlush(pastReservation);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Reservation> result = reservationRepository.findPastByUserId(
+                testUser.getId(), now, now, Long.MAX_VALUE, Limit.of(10));
+
+        assertThat(result).containsExactly(pastReservation);
+    }
+
+    @Test
+    void updateClassStartTime_shouldRewriteDenormalizedStartTime() {
+        LocalDateTime newStart = LocalDateTime.now().plusDays(5).withNano(0);
+
+        int updated = reservationRepository.updateClassStartTime(testTrainingClass.getId(), newStart);
+        entityManager.clear();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(reservationRepository.findById(testReservation.getId())).get()
+                .extracting(Reservation::getClassStartTime).isEqualTo(newStart);
+    }
+
+    @Test
+    void findDashboardClientRowsByTrainerId_shouldReturnEachClientOnce() {
+        TrainingClass secondClass = TrainingClass.builder()
+                .name("trainingClass2")
+                .startTime(LocalDateTime.now().plusDays(3))
+                .endTime(LocalDateTime.now().plusDays(3).plusHours(1))
+                .capacity(10)
+                .trainer(testUser)
+                .room(testRoom)
+                .reservations(new HashSet<>())
+                .build();
+        entityManager.persist(secondClass);
+        entityManager.persist(Reservation.builder()
+                .user(testUser)
+                .trainingClass(secondClass)
+                .reservationDate(LocalDateTime.now())
+                .status("CONFIRMED")
+                .build());
+        entityManager.persistAndFlush(Reservation.builder()
+                .user(testUser2)
+                .trainingClass(testTrainingClass2)
+                .reservationDate(LocalDateTime.now())
+                .status("CONFIRMED")
+                .build());
+
+        List<DashboardClientRow> result = reservationRepository.findDashboardClientRowsByTrainerId(
+                testUser.getId(), LocalDateTime.now().minusMonths(6), LocalDateTime.now().plusMonths(6));
+
+        assertThat(result).containsExactly(new DashboardClientRow(
+                testUser.getId(), "user1@test.com", "user1", "user1", "1111111111"));
+    }
+
+    @Test
+    void findConfirmedRosterByClassIdAndTrainerId_shouldReturnConfirmedMembersInBookingOrder() {
+        entityManager.persist(Reservation.builder()
+                .user(testUser2)
+                .trainingClass(testTrainingClass)
+                .reservationDate(LocalDateTime.now().plusMinutes(5))
+                .status("CONFIRMED")
+                .build());
+        User cancelledUser = User.builder()
+                .email("user3@test.com")
+                .password("password")
+                .firstName("user3")
+                .lastName("user3")
+                .roles(new HashSet<>())
+                .build();
+        entityManager.persist(cancelledUser);
+        entityManager.persistAndFlush(Reservation.builder()
+                .user(cancelledUser)
+                .trainingClass(testTrainingClass)
+                .reservationDate(LocalDateTime.now().plusMinutes(10))
+                .status("CANCELLED")
+                .build());
+
+        List<UserProfileDTO> result = reservationRepository.findConfirmedRosterByClassIdAndTrainerId(
+                testTrainingClass.getId(), testUser.getId());
+
+        assertThat(result).extracting(UserProfileDTO::getEmail)
+                .containsExactly("user1@test.com", "user2@test.com");
+        assertThat(result.get(1)).isEqualTo(UserProfileDTO.builder()
+                .id(testUser2.getId())
+                .email("user2@test.com")
+                .firstName("user2")
+                .lastName("user2")
+                .phone("0987654321")
+                .build());
+    }
+
+    @Test
+    void findConfirmedRosterByClassIdAndTrainerId_whenClassBelongsToAnotherTrainer_shouldReturnEmptyList() {
+        List<UserProfileDTO> result = reservationRepository.findConfirmedRosterByClassIdAndTrainerId(
+                testTrainingClass.getId(), testUser2.getId());
+
+        assertThat(result).isEmpty();
+    }
+}
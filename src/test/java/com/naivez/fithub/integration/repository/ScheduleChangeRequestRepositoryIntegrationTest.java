@@ -1,5 +1,6 @@
 package com.naivez.fithub.integration.repository;
 
+import com.naivez.fithub.dashboard.DashboardChangeRequestRow;
 import com.naivez.fithub.entity.*;
 import com.naivez.fithub.repository.ScheduleChangeRequestRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -268,4 +269,24 @@ class ScheduleChangeRequestRepositoryIntegrationTest {
         assertThat(result).extracting(ScheduleChangeRequest::getRequestType)
                 .containsExactlyInAnyOrder("CANCEL", "MODIFY", "CANCEL");
     }
-}
\ No newline at end of file
+
+    @Test
+    void findDashboardRowsByTrainerIdAndStatus_shouldProjectPendingRequests() {
+        List<DashboardChangeRequestRow> result = scheduleChangeRequestRepository
+                .findDashboardRowsByTrainerIdAndStatus(trainer1.getId(), "PENDING");
+        List<DashboardChangeRequestRow> rejected = scheduleChangeRequestRepository
+                .findDashboardRowsByTrainerIdAndStatus(trainer2.getId(), "REJECTED");
+
+        assertThat(result).singleElement().satisfies(row -> {
+            assertThat(row.id()).isEqualTo(pendingRequest.getId());
+            assertThat(row.trainingClassId()).isEqualTo(testTrainingClass.getId());
+            assertThat(row.requestType()).isEqualTo("MODIFY");
+            assertThat(row.requestedRoomId()).isNull();
+        });
+        assertThat(rejected).singleElement().satisfies(row -> {
+            assertThat(row.trainingClassId()).isNull();
+            assertThat(row.className()).isEqualTo("trainingClass8");
+            assertThat(row.requestedCapacity()).isEqualTo(15);
+        });
+    }
+}
@@ -0,0 +1,154 @@
+package com.naivez.fithub.integration.repository;
+
+import com.naivez.fithub.entity.Promotion;
+import com.naivez.fithub.entity.Role;
+import com.naivez.fithub.entity.Room;
+import com.naivez.fithub.repository.PromotionRepository;
+import com.naivez.fithub.repository.RoleRepository;
+import com.naivez.fithub.repository.RoomRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true"
+})
+@ActiveProfiles("test")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RoomRepository roomRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PromotionRepository promotionRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        promotionRepository.deleteAll();
+        roomRepository.deleteAll();
+        roleRepository.deleteAll();
+    }
+
+    @Test
+    void findById_room_shouldBeServedFromSecondLevelCacheAfterFirstLoad() {
+        Room room = roomRepository.save(Room.builder()
+                .name("cached-room")
+                .capacity(20)
+                .equipmentList(new HashSet<>())
+                .classes(new HashSet<>())
+                .build());
+        entityManagerFactory.getCache().evictAll();
+        statistics.clear();
+
+        transactionTemplate.executeWithoutResult(status -> roomRepository.findById(room.getId()).orElseThrow());
+        transactionTemplate.executeWithoutResult(status -> roomRepository.findById(room.getId()).orElseThrow());
+
+        assertThat(statistics.getDomainDataRegionStatistics("fithub.room").getMissCount()).isEqualTo(1);
+        assertThat(statistics.getDomainDataRegionStatistics("fithub.room").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isEqualTo(1);
+    }
+
+    @Test
+    void save_room_shouldRefreshCachedEntry() {
+        Room room = roomRepository.save(Room.builder()
+                .name("before")
+                .capacity(20)
+                .equipmentList(new HashSet<>())
+                .classes(new HashSet<>())
+                .build());
+        transactionTemplate.executeWithoutResult(status -> roomRepository.findById(room.getId()).orElseThrow());
+
+        transactionTemplate.executeWithoutResult(status ->
+                roomRepository.findById(room.getId()).orElseThrow().setName("after"));
+
+        String name = transactionTemplate.execute(status -> roomRepository.findById(room.getId()).orElseThrow().getName());
+        assertThat(name).isEqualTo("after");
+    }
+
+    @Test
+    void findByName_role_shouldBeServedFromQueryCache() {
+        roleRepository.save(Role.builder().name("ROLE_CACHED").users(new HashSet<>()).build());
+        statistics.clear();
+
+        Role first = roleRepository.findByName("ROLE_CACHED").orElseThrow();
+        Role second = roleRepository.findByName("ROLE_CACHED").orElseThrow();
+
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(statistics.getQueryRegionStatistics("fithub.query.role-by-name").getHitCount()).isEqualTo(1);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void findActivePromotions_shouldBeInvalidatedWhenPromotionsChange() {
+        promotionRepository.save(promotion("current", LocalDate.now().minusDays(1), LocalDate.now().plusDays(1)));
+        LocalDate today = LocalDate.now();
+
+        assertThat(promotionRepository.findActivePromotions(today)).hasSize(1);
+        assertThat(promotionRepository.findActivePromotions(today)).hasSize(1);
+        assertThat(statistics.getQueryRegionStatistics("fithub.query.active-promotions").getHitCount()).isEqualTo(1);
+
+        promotionRepository.save(promotion("added", today, today.plusDays(7)));
+
+        List<Promotion> active = promotionRepository.findActivePromotions(today);
+        assertThat(active).extracting(Promotion::getTitle).containsExactlyInAnyOrder("current", "added");
+    }
+
+    @Test
+    void hibernateMetrics_shouldExposeCacheHitsAndMissesPerRegion() {
+        roleRepository.save(Role.builder().name("ROLE_METRICS").users(new HashSet<>()).build());
+        roleRepository.findByName("ROLE_METRICS");
+        roleRepository.findByName("ROLE_METRICS");
+
+        assertThat(meterRegistry.find("hibernate.second.level.cache.requests")
+                .tags("region", "fithub.role", "result", "hit")
+                .functionCounter()).isNotNull();
+        assertThat(meterRegistry.find("hibernate.cache.query.requests")
+                .tags("result", "hit")
+                .functionCounter().count()).isPositive();
+    }
+
+    private Promotion promotion(String title, LocalDate startDate, LocalDate endDate) {
+        return Promotion.builder()
+                .title(title)
+                .discountPercent(new BigDecimal("10.00"))
+                .startDate(startDate)
+                .endDate(endDate)
+                .build();
+    }
+}
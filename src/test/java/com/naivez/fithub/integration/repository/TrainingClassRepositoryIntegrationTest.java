@@ -1,5 +1,6 @@
 package com.naivez.fithub.integration.repository;
 
+import com.naivez.fithub.dashboard.DashboardClassRow;
 import com.naivez.fithub.entity.*;
 import com.naivez.fithub.repository.TrainingClassRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -302,4 +303,51 @@ class TrainingClassRepositoryIntegrationTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0)).isEqualTo(currentClass);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findAllByIdInForUpdate_shouldReturnClassesOrderedById() {
+        List<TrainingClass> result = trainingClassRepository.findAllByIdInForUpdate(
+                List.of(futureClass2.getId(), pastClass.getId(), futureClass1.getId(), -1L));
+
+        assertThat(result).extracting(TrainingClass::getId).containsExactly(
+                pastClass.getId(), futureClass1.getId(), futureClass2.getId());
+    }
+
+    @Test
+    void findDashboardRowsByTrainerIdAndDateRange_shouldProjectTrainerRoomAndConfirmedCount() {
+        entityManager.persist(Reservation.builder()
+                .user(trainer2)
+                .trainingClass(futureClass2)
+                .reservationDate(LocalDateTime.now())
+                .status("CONFIRMED")
+                .build());
+        entityManager.persistAndFlush(Reservation.builder()
+                .user(trainer1)
+                .trainingClass(futureClass2)
+                .reservationDate(LocalDateTime.now())
+                .status("CANCELLED")
+                .build());
+
+        List<DashboardClassRow> result = trainingClassRepository.findDashboardRowsByTrainerIdAndDateRange(
+                trainer1.getId(), LocalDateTime.now().minusDays(2), LocalDateTime.now().plusDays(2));
+
+        assertThat(result).extracting(DashboardClassRow::name)
+                .containsExactly("trainingClass4", "trainingClass9", "trainingClass13");
+        assertThat(result.get(0).averageRating()).isEqualTo(4.5);
+        assertThat(result.get(2)).satisfies(row -> {
+            assertThat(row.trainerFirstName()).isEqualTo("user1");
+            assertThat(row.trainerLastName()).isEqualTo("trainer1");
+            assertThat(row.roomName()).isEqualTo("room1");
+            assertThat(row.capacity()).isEqualTo(10);
+            assertThat(row.confirmedCount()).isEqualTo(1L);
+            assertThat(row.status()).isEqualTo("SCHEDULED");
+        });
+    }
+
+    @Test
+    void existsByIdAndTrainerId_shouldMatchOnlyOwningTrainer() {
+        assertThat(trainingClassRepository.existsByIdAndTrainerId(futureClass2.getId(), trainer1.getId())).isTrue();
+        assertThat(trainingClassRepository.existsByIdAndTrainerId(futureClass2.getId(), trainer2.getId())).isFalse();
+        assertThat(trainingClassRepository.existsByIdAndTrainerId(-1L, trainer1.getId())).isFalse();
+    }
+}
@@ -0,0 +1,98 @@
+package com.naivez.fithub.integration.repository;
+
+import com.naivez.fithub.entity.TrainingClass;
+import com.naivez.fithub.entity.User;
+import com.naivez.fithub.entity.WaitlistEntry;
+import com.naivez.fithub.repository.WaitlistEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class WaitlistEntryRepositoryIntegrationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    private TrainingClass testClass;
+    private User testUser1;
+    private User testUser2;
+    private User testUser3;
+
+    @BeforeEach
+    void setUp() {
+        testUser1 = persistUser("user1@gmail.com");
+        testUser2 = persistUser("user2@gmail.com");
+        testUser3 = persistUser("user3@gmail.com");
+
+        testClass = TrainingClass.builder()
+                .name("trainingClass1")
+                .startTime(LocalDateTime.now().plusDays(1))
+                .endTime(LocalDateTime.now().plusDays(1).plusHours(1))
+                .capacity(1)
+                .reservations(new HashSet<>())
+                .build();
+        entityManager.persist(testClass);
+
+        entityManager.persist(entry(testUser2, 5L));
+        entityManager.persist(entry(testUser1, 2L));
+        entityManager.persist(entry(testUser3, 9L));
+        entityManager.flush();
+    }
+
+    @Test
+    void findQueue_shouldReturnEntriesInPositionOrder() {
+        List<WaitlistEntry> queue = waitlistEntryRepository.findQueue(testClass.getId());
+
+        assertThat(queue).extracting(entry -> entry.getUser().getEmail())
+                .containsExactly("user1@gmail.com", "user2@gmail.com", "user3@gmail.com");
+    }
+
+    @Test
+    void countAhead_andFindMaxPosition_shouldReflectQueueOrder() {
+        assertThat(waitlistEntryRepository.countAhead(testClass.getId(), 9L)).isEqualTo(2);
+        assertThat(waitlistEntryRepository.countAhead(testClass.getId(), 2L)).isZero();
+        assertThat(waitlistEntryRepository.findMaxPosition(testClass.getId())).isEqualTo(9L);
+        assertThat(waitlistEntryRepository.findMaxPosition(-1L)).isZero();
+    }
+
+    @Test
+    void findByTrainingClassIdAndUserId_shouldFindEntry() {
+        assertThat(waitlistEntryRepository.findByTrainingClassIdAndUserId(testClass.getId(), testUser2.getId()))
+                .hasValueSatisfying(entry -> assertThat(entry.getPosition()).isEqualTo(5L));
+        assertThat(waitlistEntryRepository.existsByTrainingClassIdAndUserId(testClass.getId(), -1L)).isFalse();
+        assertThat(waitlistEntryRepository.countByTrainingClassId(testClass.getId())).isEqualTo(3);
+    }
+
+    private User persistUser(String email) {
+        User user = User.builder()
+                .email(email)
+                .password("encodedPassword")
+                .roles(new HashSet<>())
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+
+    private WaitlistEntry entry(User user, long position) {
+        return WaitlistEntry.builder()
+                .trainingClass(testClass)
+                .user(user)
+                .position(position)
+                .joinedAt(LocalDateTime.now())
+                .build();
+    }
+}
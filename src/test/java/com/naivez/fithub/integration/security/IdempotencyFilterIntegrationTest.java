@@ -0,0 +1,234 @@
+package com.naivez.fithub.integration.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naivez.fithub.admission.BookingAdmissionGate;
+import com.naivez.fithub.dto.MembershipDTO;
+import com.naivez.fithub.dto.PurchaseMembershipRequest;
+import com.naivez.fithub.dto.ReservationDTO;
+import com.naivez.fithub.dto.ReservationRequest;
+import com.naivez.fithub.entity.IdempotencyRecord;
+import com.naivez.fithub.exception.ClassFullyBookedException;
+import com.naivez.fithub.repository.IdempotencyRecordRepository;
+import com.naivez.fithub.service.MembershipService;
+import com.naivez.fithub.service.ReservationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotencyFilterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @MockBean
+    private ReservationService reservationService;
+
+    @MockBean
+    private MembershipService membershipService;
+
+    @MockBean
+    private BookingAdmissionGate bookingAdmissionGate;
+
+    private String idempotencyKey;
+    private String reservationBody;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(bookingAdmissionGate.admit(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+
+        idempotencyKey = UUID.randomUUID().toString();
+        reservationBody = objectMapper.writeValueAsString(ReservationRequest.builder().trainingClassId(1L).build());
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT", username = "user1@gmail.com")
+    void createReservation_retriedWithSameKey_shouldReplayWithoutCallingService() throws Exception {
+        when(reservationService.createReservation(eq("user1@gmail.com"), any(ReservationRequest.class)))
+                .thenReturn(ReservationDTO.builder().id(7L).trainingClassId(1L).status("CONFIRMED").build());
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/client/reservations")
+                            .header("Idempotency-Key", idempotencyKey)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(reservationBody))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id").value(7L));
+        }
+
+        verify(reservationService, times(1)).createReservation(eq("user1@gmail.com"), any(ReservationRequest.class));
+        mockMvc.perform(post("/api/client/reservations")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reservationBody))
+                .andExpect(header().string("Idempotent-Replayed", "true"));
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT", username = "user1@gmail.com")
+    void purchaseMembership_withoutKey_shouldAlwaysReachService() throws Exception {
+        PurchaseMembershipRequest request = PurchaseMembershipRequest.builder().type("MONTHLY").build();
+        when(membershipService.purchaseMembership(eq("user1@gmail.com"), any(PurchaseMembershipRequest.class)))
+                .thenReturn(MembershipDTO.builder()
+                        .id(1L)
+                        .type("MONTHLY")
+                        .startDate(LocalDate.now())
+                        .price(new BigDecimal("99.99"))
+                        .build());
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/client/memberships/purchase")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(header().doesNotExist("Idempotent-Replayed"));
+        }
+
+        verify(membershipService, times(2)).purchaseMembership(eq("user1@gmail.com"), any(PurchaseMembershipRequest.class));
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT", username = "user1@gmail.com")
+    void createReservation_reusedKeyWithDifferentBody_shouldReturnUnprocessableEntity() throws Exception {
+        when(reservationService.createReservation(eq("user1@gmail.com"), any(ReservationRequest.class)))
+                .thenReturn(ReservationDTO.builder().id(7L).build());
+
+        mockMvc.perform(post("/api/client/reservations")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reservationBody))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/client/reservations")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(ReservationRequest.builder().trainingClassId(2L).build())))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message").value("Idempotency-Key was already used with a different request"));
+
+        verify(reservationService, times(1)).createReservation(any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT", username = "user1@gmail.com")
+    void createReservation_clientError_shouldBeReplayed() throws Exception {
+        when(reservationService.createReservation(eq("user1@gmail.com"), any(ReservationRequest.class)))
+                .thenThrow(new ClassFullyBookedException("Class is fully booked"));
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/client/reservations")
+                            .header("Idempotency-Key", idempotencyKey)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(reservationBody))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.message").value("Class is fully booked"));
+        }
+
+        verify(reservationService, times(1)).createReservation(any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT", username = "user1@gmail.com")
+    void createReservation_serverError_shouldReleaseKey() throws Exception {
+        when(reservationService.createReservation(eq("user1@gmail.com"), any(ReservationRequest.class)))
+                .thenThrow(new IllegalStateException("boom"));
+
+        mockMvc.perform(post("/api/client/reservations")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reservationBody))
+                .andExpect(status().is5xxServerError());
+
+        assertThat(idempotencyRecordRepository.findAll())
+                .noneMatch(record -> record.getIdempotencyKey().endsWith(idempotencyKey));
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT", username = "user1@gmail.com")
+    void createReservation_keyHeldByLiveLease_shouldReturnConflict() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder()
+                .idempotencyKey("user1@gmail.com:" + idempotencyKey)
+                .requestHash(reservationHash())
+                .createdAt(now)
+                .expiresAt(now.plusSeconds(60))
+                .lockedUntil(now.plusSeconds(60))
+                .build());
+
+        mockMvc.perform(post("/api/client/reservations")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reservationBody))
+                .andExpect(status().isConflict());
+
+        verify(reservationService, never()).createReservation(any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT", username = "user1@gmail.com")
+    void createReservation_keyWithLapsedLease_shouldBeTakenOver() throws Exception {
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(5);
+        idempotencyRecordRepository.saveAndFlush(IdempotencyRecord.builder()
+                .idempotencyKey("user1@gmail.com:" + idempotencyKey)
+                .requestHash(reservationHash())
+                .createdAt(createdAt)
+                .expiresAt(createdAt.plusSeconds(60))
+                .lockedUntil(createdAt.plusSeconds(60))
+                .build());
+        when(reservationService.createReservation(eq("user1@gmail.com"), any(ReservationRequest.class)))
+                .thenReturn(ReservationDTO.builder().id(7L).trainingClassId(1L).status("CONFIRMED").build());
+
+        mockMvc.perform(post("/api/client/reservations")
+                        .header("Idempotency-Key", idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(reservationBody))
+                .andExpect(status().isCreated());
+
+        assertThat(idempotencyRecordRepository.findAll())
+                .filteredOn(record -> record.getIdempotencyKey().endsWith(idempotencyKey))
+                .singleElement()
+                .satisfies(record -> {
+                    assertThat(record.isCompleted()).isTrue();
+                    assertThat(record.getLockedUntil()).isNull();
+                    assertThat(record.getExpiresAt()).isAfter(LocalDateTime.now().plusHours(23));
+                });
+    }
+
+    private String reservationHash() throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        digest.update("POST /api/client/reservations\n".getBytes(StandardCharsets.UTF_8));
+        digest.update(reservationBody.getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+}
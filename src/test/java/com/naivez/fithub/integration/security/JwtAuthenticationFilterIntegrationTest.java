@@ -1,8 +1,10 @@
 package com.naivez.fithub.integration.security;
 
+import com.naivez.fithub.security.AuthenticatedUser;
 import com.naivez.fithub.security.JwtAuthenticationFilter;
 import com.naivez.fithub.security.JwtUtil;
 import com.naivez.fithub.service.CustomUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -20,6 +22,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -51,7 +54,7 @@ class JwtAuthenticationFilterIntegrationTest {
 
     @BeforeEach
     void setUp() {
-        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtUtil, userDetailsService);
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtUtil, userDetailsService, new SimpleMeterRegistry());
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
 
@@ -79,6 +82,24 @@ class JwtAuthenticationFilterIntegrationTest {
         verify(filterChain, times(1)).doFilter(request, response);
     }
 
+    @Test
+    void doFilterInternal_WithUserIdClaim_ShouldLoadUserByIdAndExposeAuthenticatedUser() throws ServletException, IOException {
+        request.addHeader("Authorization", "Bearer " + VALID_TOKEN);
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser(7L, USERNAME, "password",
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_CLIENT")));
+
+        when(jwtUtil.extractUsername(VALID_TOKEN)).thenReturn(USERNAME);
+        when(jwtUtil.extractUserId(VALID_TOKEN)).thenReturn(Optional.of(7L));
+        when(userDetailsService.loadUserById(7L)).thenReturn(authenticatedUser);
+        when(jwtUtil.validateToken(VALID_TOKEN, authenticatedUser)).thenReturn(true);
+
+        jwtAuthenticationFilter.doFilterInternal(request, response, filterChain);
+
+        assertSame(authenticatedUser, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+        verify(filterChain, times(1)).doFilter(request, response);
+    }
+
     @Test
     void doFilterInternal_WithInvalidToken_ShouldNotSetAuthentication() throws ServletException, IOException {
         request.addHeader("Authorization", "Bearer " + INVALID_TOKEN);
@@ -0,0 +1,166 @@
+package com.naivez.fithub.integration.service;
+
+import com.naivez.fithub.dto.ReservationRequest;
+import com.naivez.fithub.entity.*;
+import com.naivez.fithub.exception.ClassFullyBookedException;
+import com.naivez.fithub.repository.ReservationRepository;
+import com.naivez.fithub.service.ReservationService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ConcurrentBookingIntegrationTest {
+
+    private static final int CAPACITY = 3;
+    private static final int MEMBERS = 12;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    private TransactionTemplate transactionTemplate;
+    private Long trainerId;
+    private Long roomId;
+    private Long classId;
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            User trainer = createUser("concurrent.trainer@test.com");
+            Room room = Room.builder()
+                    .name("concurrent-room")
+                    .capacity(20)
+                    .equipmentList(new HashSet<>())
+                    .classes(new HashSet<>())
+                    .build();
+            entityManager.persist(room);
+
+            TrainingClass trainingClass = TrainingClass.builder()
+                    .name("concurrent-class")
+                    .trainer(trainer)
+                    .room(room)
+                    .startTime(LocalDateTime.now().plusDays(1))
+                    .endTime(LocalDateTime.now().plusDays(1).plusHours(1))
+                    .capacity(CAPACITY)
+                    .reservations(new HashSet<>())
+                    .build();
+            entityManager.persist(trainingClass);
+
+            for (int i = 0; i < MEMBERS; i++) {
+                User member = createUser("concurrent.member" + i + "@test.com");
+                entityManager.persist(Membership.builder()
+                        .user(member)
+                        .type("MONTHLY")
+                        .startDate(LocalDate.now().minusDays(1))
+                        .endDate(LocalDate.now().plusDays(29))
+                        .price(new BigDecimal("99.99"))
+                        .active(true)
+                        .build());
+                memberIds.add(member.getId());
+            }
+
+            trainerId = trainer.getId();
+            roomId = room.getId();
+            classId = trainingClass.getId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> userIds = new ArrayList<>(memberIds);
+            userIds.add(trainerId);
+            entityManager.createQuery("DELETE FROM Notification n WHERE n.recipient.id IN :userIds")
+                    .setParameter("userIds", userIds).executeUpdate();
+            entityManager.createQuery("DELETE FROM Reservation r WHERE r.trainingClass.id = :classId")
+                    .setParameter("classId", classId).executeUpdate();
+            entityManager.createQuery("DELETE FROM OccupancyFact f WHERE f.trainerId = :trainerId")
+                    .setParameter("trainerId", trainerId).executeUpdate();
+            entityManager.createQuery("DELETE FROM Membership m WHERE m.user.id IN :userIds")
+                    .setParameter("userIds", userIds).executeUpdate();
+            entityManager.createQuery("DELETE FROM TrainingClass tc WHERE tc.id = :classId")
+                    .setParameter("classId", classId).executeUpdate();
+            entityManager.createQuery("DELETE FROM Room r WHERE r.id = :roomId")
+                    .setParameter("roomId", roomId).executeUpdate();
+            entityManager.createQuery("DELETE FROM User u WHERE u.id IN :userIds")
+                    .setParameter("userIds", userIds).executeUpdate();
+        });
+    }
+
+    @Test
+    void createReservation_concurrently_shouldNeverExceedCapacity() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(MEMBERS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < MEMBERS; i++) {
+            String email = "concurrent.member" + i + "@test.com";
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    reservationService.createReservation(email, new ReservationRequest(classId));
+                    booked.incrementAndGet();
+                } catch (ClassFullyBookedException e) {
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(booked.get()).isEqualTo(CAPACITY);
+        assertThat(rejected.get()).isEqualTo(MEMBERS - CAPACITY);
+        assertThat(reservationRepository.countConfirmedReservationsByClassId(classId)).isEqualTo(CAPACITY);
+    }
+
+    private User createUser(String email) {
+        User user = User.builder()
+                .email(email)
+                .password("encodedPassword")
+                .firstName("first")
+                .lastName("last")
+                .roles(new HashSet<>())
+                .memberships(new HashSet<>())
+                .reservations(new HashSet<>())
+                .notifications(new HashSet<>())
+                .build();
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,104 @@
+package com.naivez.fithub.integration.service;
+
+import com.naivez.fithub.dto.MembershipDTO;
+import com.naivez.fithub.entity.Membership;
+import com.naivez.fithub.entity.User;
+import com.naivez.fithub.security.AuthenticatedUser;
+import com.naivez.fithub.service.MembershipService;
+import com.naivez.fithub.support.StatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CurrentUserResolutionIntegrationTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MembershipService membershipService;
+
+    private StatementCounter statementCounter;
+    private User member;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new StatementCounter(entityManagerFactory);
+
+        member = User.builder()
+                .email("resolution.member@test.com")
+                .password("encodedPassword")
+                .firstName("first")
+                .lastName("last")
+                .roles(new HashSet<>())
+                .memberships(new HashSet<>())
+                .reservations(new HashSet<>())
+                .notifications(new HashSet<>())
+                .build();
+        entityManager.persist(member);
+
+        entityManager.persist(Membership.builder()
+                .user(member)
+                .type("MONTHLY")
+                .startDate(LocalDate.now().minusDays(1))
+                .endDate(LocalDate.now().plusDays(29))
+                .price(new BigDecimal("99.99"))
+                .active(true)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void getActiveMemberships_withAuthenticatedUserPrincipal_shouldSkipUserLookup() {
+        AuthenticatedUser principal = new AuthenticatedUser(member.getId(), member.getEmail(), null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+
+        long statements = statementCounter.count(() -> membershipService.getActiveMemberships(member.getEmail()));
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    void getActiveMemberships_withinSameRequest_shouldLookUpUserOnce() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+        long first = statementCounter.count(() -> membershipService.getActiveMemberships(member.getEmail()));
+        List<MembershipDTO> memberships = statementCounter.assertAtMost(first - 1,
+                () -> membershipService.getActiveMemberships(member.getEmail()));
+
+        assertThat(first).isEqualTo(2);
+        assertThat(memberships).hasSize(1);
+    }
+}
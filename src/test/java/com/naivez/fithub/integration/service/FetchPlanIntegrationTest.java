@@ -0,0 +1,212 @@
+package com.naivez.fithub.integration.service;
+
+import com.naivez.fithub.dto.ReservationDTO;
+import com.naivez.fithub.dto.ScheduleChangeRequestDTO;
+import com.naivez.fithub.dto.TrainingClassDTO;
+import com.naivez.fithub.entity.*;
+import com.naivez.fithub.service.ReservationService;
+import com.naivez.fithub.service.ScheduleChangeRequestService;
+import com.naivez.fithub.service.TrainingClassService;
+import com.naivez.fithub.support.StatementCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class FetchPlanIntegrationTest {
+
+    private static final int ROWS = 20;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ReservationService reservationService;
+
+    @Autowired
+    private TrainingClassService trainingClassService;
+
+    @Autowired
+    private ScheduleChangeRequestService scheduleChangeRequestService;
+
+    private StatementCounter statementCounter;
+    private Role trainerRole;
+    private Role adminRole;
+    private User client;
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        statementCounter = new StatementCounter(entityManagerFactory);
+
+        trainerRole = Role.builder()
+                .name("ROLE_TRAINER")
+                .users(new HashSet<>())
+                .build();
+        entityManager.persist(trainerRole);
+
+        adminRole = Role.builder()
+                .name("ROLE_ADMIN")
+                .users(new HashSet<>())
+                .build();
+        entityManager.persist(adminRole);
+
+        client = createUser("fetchplan.client@test.com", null);
+    }
+
+    @Test
+    void getMyReservations_shouldExecuteSameStatementCountRegardlessOfRowCount() {
+        bookClassesWithDistinctTrainers(1);
+        long singleRow = countStatements(() -> reservationService.getMyReservations(client.getEmail()));
+
+        bookClassesWithDistinctTrainers(ROWS - 1);
+        List<ReservationDTO> reservations = measure(singleRow,
+                () -> reservationService.getMyReservations(client.getEmail()));
+
+        assertThat(singleRow).isLessThanOrEqualTo(4);
+        assertThat(reservations).hasSize(ROWS)
+                .allSatisfy(reservation -> assertThat(reservation.getTrainerName()).isNotNull());
+    }
+
+    @Test
+    void getUpcomingClasses_shouldExecuteSameStatementCountRegardlessOfRowCount() {
+        bookClassesWithDistinctTrainers(1);
+        long singleRow = countStatements(() -> trainingClassService.getUpcomingClasses());
+
+        bookClassesWithDistinctTrainers(ROWS - 1);
+        List<TrainingClassDTO> classes = measure(singleRow, () -> trainingClassService.getUpcomingClasses());
+
+        assertThat(singleRow).isLessThanOrEqualTo(5);
+        assertThat(classes).filteredOn(trainingClass -> trainingClass.getName().startsWith("fetchplan-class"))
+                .hasSize(ROWS)
+                .allSatisfy(trainingClass -> {
+                    assertThat(trainingClass.getTrainerName()).isNotNull();
+                    assertThat(trainingClass.getRoomName()).isNotNull();
+                    assertThat(trainingClass.getAvailableSpots()).isEqualTo(9);
+                });
+    }
+
+    @Test
+    void getPendingScheduleChangeRequests_shouldExecuteSameStatementCountRegardlessOfRowCount() {
+        createPendingRequests(1);
+        long singleRow = countStatements(() -> scheduleChangeRequestService.getPendingScheduleChangeRequests());
+
+        createPendingRequests(ROWS - 1);
+        List<ScheduleChangeRequestDTO> requests = measure(singleRow,
+                () -> scheduleChangeRequestService.getPendingScheduleChangeRequests());
+
+        assertThat(singleRow).isLessThanOrEqualTo(4);
+        assertThat(requests).filteredOn(request -> "fetchplan".equals(request.getReason()))
+                .hasSize(ROWS)
+                .allSatisfy(request -> {
+                    assertThat(request.getRequestedRoomName()).isNotNull();
+                    assertThat(request.getReviewedByName()).isNotNull();
+                });
+    }
+
+    private long countStatements(Runnable action) {
+        entityManager.flush();
+        entityManager.clear();
+        long count = statementCounter.count(action);
+        entityManager.clear();
+        return count;
+    }
+
+    private <T> T measure(long maxStatements, Supplier<T> action) {
+        entityManager.flush();
+        entityManager.clear();
+        return statementCounter.assertAtMost(maxStatements, action);
+    }
+
+    private void bookClassesWithDistinctTrainers(int count) {
+        User member = entityManager.getReference(User.class, client.getId());
+        for (int i = 0; i < count; i++) {
+            int n = ++sequence;
+            User trainer = createUser("fetchplan.trainer" + n + "@test.com", trainerRole);
+            Room room = createRoom(n);
+
+            TrainingClass trainingClass = TrainingClass.builder()
+                    .name("fetchplan-class" + n)
+                    .trainer(trainer)
+                    .room(room)
+                    .startTime(LocalDateTime.now().plusDays(1).plusHours(n))
+                    .endTime(LocalDateTime.now().plusDays(1).plusHours(n + 1))
+                    .capacity(10)
+                    .reservations(new HashSet<>())
+                    .build();
+            entityManager.persist(trainingClass);
+
+            entityManager.persist(Reservation.builder()
+                    .user(member)
+                    .trainingClass(trainingClass)
+                    .reservationDate(LocalDateTime.now())
+                    .status("CONFIRMED")
+                    .build());
+        }
+    }
+
+    private void createPendingRequests(int count) {
+        for (int i = 0; i < count; i++) {
+            int n = ++sequence;
+            User trainer = createUser("fetchplan.trainer" + n + "@test.com", trainerRole);
+            User reviewer = createUser("fetchplan.admin" + n + "@test.com", adminRole);
+
+            entityManager.persist(ScheduleChangeRequest.builder()
+                    .trainer(trainer)
+                    .requestType("CREATE")
+                    .reason("fetchplan")
+                    .className("fetchplan-request" + n)
+                    .requestedRoom(createRoom(n))
+                    .reviewedBy(reviewer)
+                    .status("PENDING")
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+    }
+
+    private User createUser(String email, Role role) {
+        User user = User.builder()
+                .email(email)
+                .password("encodedPassword")
+                .firstName("first")
+                .lastName("last")
+                .roles(new HashSet<>())
+                .memberships(new HashSet<>())
+                .reservations(new HashSet<>())
+                .notifications(new HashSet<>())
+                .build();
+        if (role != null) {
+            user.getRoles().add(entityManager.getReference(Role.class, role.getId()));
+        }
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Room createRoom(int n) {
+        Room room = Room.builder()
+                .name("fetchplan-room" + n)
+                .capacity(20)
+                .equipmentList(new HashSet<>())
+                .classes(new HashSet<>())
+                .build();
+        entityManager.persist(room);
+        return room;
+    }
+}
@@ -0,0 +1,124 @@
+package com.naivez.fithub.integration.service;
+
+import com.naivez.fithub.dbtiming.TransactionProfileRegistry;
+import com.naivez.fithub.dto.TransactionProfileDTO;
+import com.naivez.fithub.repository.RoomRepository;
+import com.naivez.fithub.service.RoomService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "db-timing.transaction-profiling.enabled=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class TransactionProfileIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TransactionProfileRegistry registry;
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private SlowTransactionalWork slowTransactionalWork;
+
+    @BeforeEach
+    void setUp() {
+        registry.reset();
+    }
+
+    @Test
+    void serviceTransaction_shouldRecordConnectionHoldAndSqlTime() {
+        roomService.getAllRooms();
+
+        TransactionProfileDTO profile = profileOf("RoomService.getAllRooms");
+        assertThat(profile.getInvocations()).isEqualTo(1);
+        assertThat(profile.getStatements()).isPositive();
+        assertThat(profile.getTotalHoldMs()).isPositive();
+        assertThat(profile.getAvgSqlMs()).isPositive().isLessThanOrEqualTo(profile.getAvgHoldMs());
+    }
+
+    @Test
+    void transactionDoingNonDbWork_shouldBeFlaggedAsIdleDominated() {
+        slowTransactionalWork.countRoomsThenWait();
+
+        TransactionProfileDTO profile = profileOf("SlowTransactionalWork.countRoomsThenWait");
+        assertThat(profile.getAvgHoldMs()).isGreaterThanOrEqualTo(50);
+        assertThat(profile.getAvgIdleInTransactionMs()).isGreaterThanOrEqualTo(45);
+        assertThat(profile.isIdleDominated()).isTrue();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void transactionProfileEndpoint_shouldReportAndReset() throws Exception {
+        roomService.getAllRooms();
+
+        mockMvc.perform(get("/api/admin/transaction-profile"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.method == 'RoomService.getAllRooms')].invocations").value(1));
+
+        mockMvc.perform(delete("/api/admin/transaction-profile"))
+                .andExpect(status().isNoContent());
+        assertThat(registry.getReport()).isEmpty();
+    }
+
+    @Test
+    @WithMockUser(roles = "CLIENT")
+    void transactionProfileEndpoint_asClient_shouldBeForbidden() throws Exception {
+        mockMvc.perform(get("/api/admin/transaction-profile"))
+                .andExpect(status().isForbidden());
+    }
+
+    private TransactionProfileDTO profileOf(String method) {
+        return registry.getReport().stream()
+                .filter(profile -> profile.getMethod().equals(method))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @TestConfiguration
+    static class SlowTransactionalWorkConfig {
+
+        @Bean
+        SlowTransactionalWork slowTransactionalWork(RoomRepository roomRepository) {
+            return new SlowTransactionalWork(roomRepository);
+        }
+    }
+
+    static class SlowTransactionalWork {
+
+        private final RoomRepository roomRepository;
+
+        SlowTransactionalWork(RoomRepository roomRepository) {
+            this.roomRepository = roomRepository;
+        }
+
+        @Transactional
+        public long countRoomsThenWait() {
+            long rooms = roomRepository.count();
+            try {
+                Thread.sleep(60);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rooms;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.naivez.fithub.unit.admission;
+
+import com.naivez.fithub.admission.BookingAdmissionGate;
+import com.naivez.fithub.admission.ClassSpotReleasedEvent;
+import com.naivez.fithub.dto.BookingAdmissionStatsDTO;
+import com.naivez.fithub.exception.BookingAdmissionRejectedException;
+import com.naivez.fithub.exception.ClassFullyBookedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BookingAdmissionGateTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void admit_afterClassFullyBooked_shouldRejectWithoutRunningBooking() {
+        BookingAdmissionGate gate = new BookingAdmissionGate(2, 10, 100, 60_000, meterRegistry);
+        AtomicInteger bookings = new AtomicInteger();
+
+        assertThatThrownBy(() -> gate.admit(1L, () -> {
+            bookings.incrementAndGet();
+            throw new ClassFullyBookedException("Class is fully booked");
+        })).isInstanceOf(ClassFullyBookedException.class);
+
+        assertThatThrownBy(() -> gate.admit(1L, bookings::incrementAndGet))
+                .isInstanceOf(ClassFullyBookedException.class);
+        assertThat(gate.admit(2L, bookings::incrementAndGet)).isEqualTo(2);
+
+        assertThat(bookings.get()).isEqualTo(2);
+        BookingAdmissionStatsDTO stats = gate.getStats().get(0);
+        assertThat(stats.isSoldOut()).isTrue();
+        assertThat(stats.getAdmitted()).isEqualTo(1);
+        assertThat(stats.getRejectedSoldOut()).isEqualTo(1);
+        assertThat(meterRegistry.get("fithub.booking.admission").tag("outcome", "admitted").counter().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("fithub.booking.admission").tag("outcome", "rejected_sold_out").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void spotReleased_shouldReopenSoldOutClass() {
+        BookingAdmissionGate gate = new BookingAdmissionGate(2, 10, 100, 60_000, meterRegistry);
+
+        assertThatThrownBy(() -> gate.admit(1L, () -> {
+            throw new ClassFullyBookedException("Class is fully booked");
+        })).isInstanceOf(ClassFullyBookedException.class);
+
+        gate.spotReleased(new ClassSpotReleasedEvent(1L));
+
+        assertThat(gate.admit(1L, () -> "booked")).isEqualTo("booked");
+    }
+
+    @Test
+    void admit_whenConcurrencyLimitReached_shouldRejectAfterQueueTimeout() throws Exception {
+        BookingAdmissionGate gate = new BookingAdmissionGate(1, 10, 50, 60_000, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> gate.admit(1L, () -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> gate.admit(1L, () -> "second"))
+                .isInstanceOf(BookingAdmissionRejectedException.class);
+        assertThat(gate.getStats().get(0).getInFlight()).isEqualTo(1);
+        assertThat(gate.getStats().get(0).getRejectedBusy()).isEqualTo(1);
+        assertThat(meterRegistry.get("fithub.booking.admission").tag("outcome", "rejected_busy").counter().count())
+                .isEqualTo(1);
+
+        release.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(gate.admit(1L, () -> "third")).isEqualTo("third");
+    }
+
+    @Test
+    void evictIdle_shouldDropIdleClassesOnly() {
+        BookingAdmissionGate gate = new BookingAdmissionGate(2, 10, 100, 60_000, meterRegistry);
+        gate.admit(1L, () -> "booked");
+        assertThatThrownBy(() -> gate.admit(2L, () -> {
+            throw new ClassFullyBookedException("Class is fully booked");
+        })).isInstanceOf(ClassFullyBookedException.class);
+
+        gate.evictIdle();
+
+        assertThat(gate.getStats()).extracting(BookingAdmissionStatsDTO::getTrainingClassId).containsExactly(2L);
+    }
+
+    @Test
+    void evictIdle_shouldKeepClassWhileRequestIsInsideGate() throws Exception {
+        BookingAdmissionGate gate = new BookingAdmissionGate(1, 10, 50, 60_000, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> gate.admit(1L, () -> {
+            started.countDown();
+            await(release);
+            return "first";
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        gate.evictIdle();
+
+        assertThatThrownBy(() -> gate.admit(1L, () -> "second"))
+                .isInstanceOf(BookingAdmissionRejectedException.class);
+        release.countDown();
+        assertThat(inFlight.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.naivez.fithub.unit.datasource;
+
+import com.naivez.fithub.datasource.ReplicaLagMonitor;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaLagMonitorTest {
+
+    private final DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:lag-monitor", "sa", "");
+
+    @Test
+    void checkLag_withinMaxLag_shouldMarkReplicaHealthy() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT 0.5", 2000);
+
+        monitor.checkLag();
+
+        assertThat(monitor.isReplicaHealthy()).isTrue();
+        assertThat(monitor.getLagMillis()).isEqualTo(500);
+    }
+
+    @Test
+    void checkLag_beyondMaxLag_shouldMarkReplicaUnhealthy() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT 5", 2000);
+
+        monitor.checkLag();
+
+        assertThat(monitor.isReplicaHealthy()).isFalse();
+        assertThat(monitor.getLagMillis()).isEqualTo(5000);
+    }
+
+    @Test
+    void checkLag_whenQueryFails_shouldMarkReplicaUnhealthy() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT 0", 2000);
+        monitor.checkLag();
+        assertThat(monitor.isReplicaHealthy()).isTrue();
+
+        ReplicaLagMonitor failing = new ReplicaLagMonitor(replica, "SELECT pg_last_xact_replay_timestamp()", 2000);
+        failing.checkLag();
+
+        assertThat(failing.isReplicaHealthy()).isFalse();
+        assertThat(failing.getLagMillis()).isEqualTo(-1);
+    }
+
+    @Test
+    void replica_beforeFirstCheck_shouldBeUnhealthy() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT 0", 2000);
+
+        assertThat(monitor.isReplicaHealthy()).isFalse();
+    }
+}
@@ -0,0 +1,125 @@
+package com.naivez.fithub.unit.datasource;
+
+import com.naivez.fithub.datasource.DataSourceRoute;
+import com.naivez.fithub.datasource.ReadYourWritesTracker;
+import com.naivez.fithub.datasource.ReplicaLagMonitor;
+import com.naivez.fithub.datasource.ReplicaRoutingDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private ReadYourWritesTracker readYourWritesTracker;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        readYourWritesTracker = new ReadYourWritesTracker(60_000);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor, readYourWritesTracker,
+                new SimpleMeterRegistry());
+        lenient().when(lagMonitor.isReplicaHealthy()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void currentRoute_readOnlyTransaction_shouldUseReplica() {
+        beginTransaction(true);
+
+        assertThat(routingDataSource.currentRoute()).isEqualTo(DataSourceRoute.REPLICA);
+    }
+
+    @Test
+    void currentRoute_readWriteTransaction_shouldUsePrimary() {
+        beginTransaction(false);
+
+        assertThat(routingDataSource.currentRoute()).isEqualTo(DataSourceRoute.PRIMARY);
+    }
+
+    @Test
+    void currentRoute_withoutTransaction_shouldUsePrimary() {
+        assertThat(routingDataSource.currentRoute()).isEqualTo(DataSourceRoute.PRIMARY);
+    }
+
+    @Test
+    void currentRoute_whenReplicaLagging_shouldFallBackToPrimary() {
+        when(lagMonitor.isReplicaHealthy()).thenReturn(false);
+        beginTransaction(true);
+
+        assertThat(routingDataSource.currentRoute()).isEqualTo(DataSourceRoute.PRIMARY);
+    }
+
+    @Test
+    void currentRoute_afterWriteByUser_shouldReadOwnWritesFromPrimary() {
+        authenticate("client@gmail.com");
+        beginTransaction(false);
+        routingDataSource.currentRoute();
+
+        beginTransaction(true);
+
+        assertThat(routingDataSource.currentRoute()).isEqualTo(DataSourceRoute.PRIMARY);
+        assertThat(readYourWritesTracker.isWithinWindow("client@gmail.com")).isTrue();
+    }
+
+    @Test
+    void currentRoute_afterWriteByAnotherUser_shouldStillUseReplica() {
+        authenticate("other@gmail.com");
+        beginTransaction(false);
+        routingDataSource.currentRoute();
+
+        authenticate("client@gmail.com");
+        beginTransaction(true);
+
+        assertThat(routingDataSource.currentRoute()).isEqualTo(DataSourceRoute.REPLICA);
+    }
+
+    @Test
+    void readYourWritesTracker_shouldExpireWritesAfterWindow() {
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(0);
+        tracker.recordWrite("client@gmail.com");
+
+        tracker.purgeExpired();
+
+        assertThat(tracker.isWithinWindow("client@gmail.com")).isFalse();
+    }
+
+    private void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    private void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, List.of()));
+    }
+}
@@ -0,0 +1,83 @@
+package com.naivez.fithub.unit.dbtiming;
+
+import com.naivez.fithub.dbtiming.DbTimingContext;
+import com.naivez.fithub.dbtiming.DbTimingQueryListener;
+import com.naivez.fithub.dbtiming.RequestDbTiming;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DbTimingQueryListenerTest {
+
+    private final DbTimingQueryListener listener = new DbTimingQueryListener(200);
+
+    @AfterEach
+    void tearDown() {
+        DbTimingContext.end();
+    }
+
+    @Test
+    void afterQuery_withinRequest_shouldAccumulateCountAndSlowestStatement() {
+        RequestDbTiming timing = DbTimingContext.begin();
+
+        execute("select * from users where id = ?");
+        execute("select * from training_classes");
+
+        assertThat(timing.getStatementCount()).isEqualTo(2);
+        assertThat(timing.getTotalNanos()).isPositive();
+        assertThat(timing.getSlowestNanos()).isLessThanOrEqualTo(timing.getTotalNanos());
+        assertThat(timing.getSlowestSql()).startsWith("select * from");
+    }
+
+    @Test
+    void afterQuery_outsideRequest_shouldNotFail() {
+        execute("select 1");
+
+        assertThat(DbTimingContext.current()).isNull();
+    }
+
+    @Test
+    void afterQuery_withoutBeforeQuery_shouldBeIgnored() {
+        RequestDbTiming timing = DbTimingContext.begin();
+
+        listener.afterQuery(new ExecutionInfo(), List.of(new QueryInfo("select 1")));
+
+        assertThat(timing.getStatementCount()).isZero();
+    }
+
+    @Test
+    void toServerTiming_shouldReportTotalAndSlowestInMilliseconds() {
+        RequestDbTiming timing = new RequestDbTiming();
+        timing.record("select 1", 1_500_000);
+        timing.record("select 2", 2_250_000);
+
+        assertThat(timing.toServerTiming())
+                .isEqualTo("db;dur=3.75;desc=\"2 statements\", db-slowest;dur=2.25");
+    }
+
+    @Test
+    void serviceMethodStack_shouldReturnInnermostMethod() {
+        DbTimingContext.enterServiceMethod("ReservationService.createReservation");
+        DbTimingContext.enterServiceMethod("NotificationService.createNotification");
+
+        assertThat(DbTimingContext.currentServiceMethod()).isEqualTo("NotificationService.createNotification");
+
+        DbTimingContext.exitServiceMethod();
+        assertThat(DbTimingContext.currentServiceMethod()).isEqualTo("ReservationService.createReservation");
+
+        DbTimingContext.exitServiceMethod();
+        assertThat(DbTimingContext.currentServiceMethod()).isNull();
+    }
+
+    private void execute(String sql) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        List<QueryInfo> queries = List.of(new QueryInfo(sql));
+        listener.beforeQuery(executionInfo, queries);
+        listener.afterQuery(executionInfo, queries);
+    }
+}
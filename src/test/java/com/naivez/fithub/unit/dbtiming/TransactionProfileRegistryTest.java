@@ -0,0 +1,91 @@
+package com.naivez.fithub.unit.dbtiming;
+
+import com.naivez.fithub.dbtiming.DbTimingContext;
+import com.naivez.fithub.dbtiming.TransactionProfileRegistry;
+import com.naivez.fithub.dbtiming.TransactionScope;
+import com.naivez.fithub.dto.TransactionProfileDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TransactionProfileRegistryTest {
+
+    private final TransactionProfileRegistry registry = new TransactionProfileRegistry(0.5);
+
+    @AfterEach
+    void tearDown() {
+        DbTimingContext.endTransactionScope();
+    }
+
+    @Test
+    void connectionHold_shouldSpanFromFirstAcquireToLastRelease() {
+        TransactionScope scope = DbTimingContext.beginTransactionScope();
+
+        scope.connectionAcquired(1_000_000);
+        scope.connectionAcquired(2_000_000);
+        scope.connectionReleased(3_000_000);
+        scope.connectionReleased(11_000_000);
+        scope.finish(20_000_000);
+
+        assertThat(scope.getConnectionHoldNanos()).isEqualTo(10_000_000);
+    }
+
+    @Test
+    void finish_withConnectionStillOpen_shouldCountHoldUntilFinish() {
+        TransactionScope scope = DbTimingContext.beginTransactionScope();
+
+        scope.connectionAcquired(1_000_000);
+        scope.finish(5_000_000);
+
+        assertThat(scope.getConnectionHoldNanos()).isEqualTo(4_000_000);
+    }
+
+    @Test
+    void getReport_shouldFlagIdleDominatedMethodsAndSortByTotalHold() {
+        registry.record("ReservationService.createReservation", scope(40_000_000, 10_000_000, 2), 45_000_000);
+        registry.record("ReservationService.createReservation", scope(20_000_000, 10_000_000, 2), 25_000_000);
+        registry.record("TrainingClassService.getUpcomingClasses", scope(8_000_000, 7_000_000, 2), 9_000_000);
+
+        List<TransactionProfileDTO> report = registry.getReport();
+
+        assertThat(report).extracting(TransactionProfileDTO::getMethod)
+                .containsExactly("ReservationService.createReservation", "TrainingClassService.getUpcomingClasses");
+
+        TransactionProfileDTO booking = report.get(0);
+        assertThat(booking.getInvocations()).isEqualTo(2);
+        assertThat(booking.getStatements()).isEqualTo(4);
+        assertThat(booking.getTotalHoldMs()).isEqualTo(60.0);
+        assertThat(booking.getAvgHoldMs()).isEqualTo(30.0);
+        assertThat(booking.getMaxHoldMs()).isEqualTo(40.0);
+        assertThat(booking.getAvgSqlMs()).isEqualTo(10.0);
+        assertThat(booking.getAvgIdleInTransactionMs()).isEqualTo(20.0);
+        assertThat(booking.getIdleRatio()).isCloseTo(0.667, within(0.001));
+        assertThat(booking.isIdleDominated()).isTrue();
+
+        assertThat(report.get(1).isIdleDominated()).isFalse();
+    }
+
+    @Test
+    void reset_shouldClearReport() {
+        registry.record("RoomService.getAllRooms", scope(1_000_000, 1_000_000, 1), 1_000_000);
+
+        registry.reset();
+
+        assertThat(registry.getReport()).isEmpty();
+    }
+
+    private TransactionScope scope(long holdNanos, long sqlNanos, int statements) {
+        TransactionScope scope = DbTimingContext.beginTransactionScope();
+        scope.connectionAcquired(0);
+        for (int i = 0; i < statements; i++) {
+            scope.recordStatement(sqlNanos / statements);
+        }
+        scope.connectionReleased(holdNanos);
+        DbTimingContext.endTransactionScope();
+        return scope;
+    }
+}
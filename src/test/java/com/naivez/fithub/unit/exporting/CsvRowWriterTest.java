@@ -0,0 +1,69 @@
+package com.naivez.fithub.unit.exporting;
+
+import com.naivez.fithub.exporting.CsvRowWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRowWriterTest {
+
+    @Test
+    void writeRow_shouldWriteHeaderAndValues() throws IOException {
+        StringWriter output = new StringWriter();
+        CsvRowWriter writer = new CsvRowWriter(output);
+
+        writer.writeHeader(List.of("id", "name", "startTime"));
+        writer.writeRow(List.of(1L, "Yoga", LocalDateTime.of(2025, 1, 1, 9, 0)));
+        writer.flush();
+
+        assertThat(output.toString()).isEqualTo("id,name,startTime\n1,Yoga,2025-01-01T09:00\n");
+    }
+
+    @Test
+    void writeRow_shouldQuoteValuesWithSpecialCharacters() throws IOException {
+        StringWriter output = new StringWriter();
+        CsvRowWriter writer = new CsvRowWriter(output);
+
+        writer.writeRow(List.of("Yoga, advanced", "Say \"hi\"", "line1\nline2"));
+
+        assertThat(output.toString()).isEqualTo("\"Yoga, advanced\",\"Say \"\"hi\"\"\",\"line1\nline2\"\n");
+    }
+
+    @Test
+    void writeRow_shouldWriteNullsAsEmptyValues() throws IOException {
+        StringWriter output = new StringWriter();
+        CsvRowWriter writer = new CsvRowWriter(output);
+
+        writer.writeRow(Arrays.asList(1L, null, "CONFIRMED"));
+
+        assertThat(output.toString()).isEqualTo("1,,CONFIRMED\n");
+    }
+
+    @Test
+    void writeRow_shouldNeutralizeFormulaLikeText() throws IOException {
+        StringWriter output = new StringWriter();
+        CsvRowWriter writer = new CsvRowWriter(output);
+
+        writer.writeRow(List.of("=HYPERLINK(\"http://x\")", "+1", "-cmd", "@SUM(A1)", "\tx", "\rx", "Yoga"));
+
+        assertThat(output.toString())
+                .isEqualTo("\"'=HYPERLINK(\"\"http://x\"\")\",'+1,'-cmd,'@SUM(A1),'\tx,\"'\rx\",Yoga\n");
+    }
+
+    @Test
+    void writeRow_shouldKeepNegativeNumbersAsNumbers() throws IOException {
+        StringWriter output = new StringWriter();
+        CsvRowWriter writer = new CsvRowWriter(output);
+
+        writer.writeRow(List.of(-5L, new BigDecimal("-12.50")));
+
+        assertThat(output.toString()).isEqualTo("-5,-12.50\n");
+    }
+}
@@ -0,0 +1,73 @@
+package com.naivez.fithub.unit.importing;
+
+import com.naivez.fithub.exception.InvalidRequestDataException;
+import com.naivez.fithub.exception.MalformedImportRowException;
+import com.naivez.fithub.importing.CsvRowReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRowReaderTest {
+
+    @Test
+    void nextRow_shouldMapValuesToHeaderColumns() throws IOException {
+        CsvRowReader reader = reader("email,firstName\nuser1@gmail.com,user1\n");
+
+        Map<String, String> row = reader.nextRow();
+
+        assertThat(row).containsEntry("email", "user1@gmail.com")
+                .containsEntry("firstName", "user1");
+        assertThat(reader.nextRow()).isNull();
+    }
+
+    @Test
+    void nextRow_shouldHandleQuotedValuesWithCommasQuotesAndNewlines() throws IOException {
+        CsvRowReader reader = reader("name,description\n\"Yoga, advanced\",\"Say \"\"hi\"\"\nsecond line\"\n");
+
+        Map<String, String> row = reader.nextRow();
+
+        assertThat(row).containsEntry("name", "Yoga, advanced")
+                .containsEntry("description", "Say \"hi\"\nsecond line");
+    }
+
+    @Test
+    void nextRow_shouldSkipBlankLines() throws IOException {
+        CsvRowReader reader = reader("email\n\nuser1@gmail.com\n\n");
+
+        assertThat(reader.nextRow()).containsEntry("email", "user1@gmail.com");
+        assertThat(reader.nextRow()).isNull();
+    }
+
+    @Test
+    void nextRow_withShortRow_shouldLeaveMissingColumnsAbsent() throws IOException {
+        CsvRowReader reader = reader("email,phone\nuser1@gmail.com\n");
+
+        assertThat(reader.nextRow()).containsOnlyKeys("email");
+    }
+
+    @Test
+    void nextRow_withUnterminatedQuote_shouldRejectRow() throws IOException {
+        CsvRowReader reader = reader("name\n\"Yoga\n");
+
+        assertThatThrownBy(reader::nextRow)
+                .isInstanceOf(MalformedImportRowException.class)
+                .hasMessage("CSV ends inside a quoted value");
+    }
+
+    @Test
+    void constructor_withEmptyInput_shouldThrowException() {
+        assertThatThrownBy(() -> reader(""))
+                .isInstanceOf(InvalidRequestDataException.class)
+                .hasMessage("CSV header row is missing");
+    }
+
+    private CsvRowReader reader(String content) throws IOException {
+        return new CsvRowReader(new BufferedReader(new StringReader(content)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.naivez.fithub.unit.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import com.naivez.fithub.logging.SamplingTurboFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SamplingTurboFilterTest {
+
+    private LoggerContext loggerContext;
+    private Logger serviceLogger;
+    private Logger otherLogger;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        serviceLogger = loggerContext.getLogger("com.naivez.fithub.service.ReservationService");
+        otherLogger = loggerContext.getLogger("com.naivez.fithub.controller.ClientController");
+    }
+
+    @Test
+    void decide_withZeroRate_shouldDenyInfoFromMatchingLoggers() {
+        SamplingTurboFilter filter = startedFilter(0.0);
+
+        assertThat(filter.decide(null, serviceLogger, Level.INFO, "Creating reservation", null, null))
+                .isEqualTo(FilterReply.DENY);
+        assertThat(filter.decide(null, serviceLogger, Level.DEBUG, "Creating reservation", null, null))
+                .isEqualTo(FilterReply.DENY);
+    }
+
+    @Test
+    void decide_shouldNeverSampleWarningsErrorsOrOtherLoggers() {
+        SamplingTurboFilter filter = startedFilter(0.0);
+
+        assertThat(filter.decide(null, serviceLogger, Level.WARN, "Reservation failed", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, serviceLogger, Level.ERROR, "Reservation failed", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, serviceLogger, Level.INFO, "Reservation failed", null, new IllegalStateException()))
+                .isEqualTo(FilterReply.NEUTRAL);
+        assertThat(filter.decide(null, otherLogger, Level.INFO, "Request received", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void decide_withLevelCheckOnly_shouldStayNeutral() {
+        SamplingTurboFilter filter = startedFilter(0.0);
+
+        assertThat(filter.decide(null, serviceLogger, Level.INFO, null, null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    @Test
+    void decide_withPartialRate_shouldKeepRoughlyThatShare() {
+        SamplingTurboFilter filter = startedFilter(0.25);
+
+        long kept = IntStream.range(0, 20_000)
+                .mapToObj(i -> filter.decide(null, serviceLogger, Level.INFO, "Creating reservation", null, null))
+                .filter(reply -> reply == FilterReply.NEUTRAL)
+                .count();
+
+        assertThat(kept).isBetween(4_000L, 6_000L);
+    }
+
+    @Test
+    void start_withoutLoggerPrefix_shouldNotStart() {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setContext(loggerContext);
+        filter.start();
+
+        assertThat(filter.isStarted()).isFalse();
+        assertThat(filter.decide(null, serviceLogger, Level.INFO, "Creating reservation", null, null))
+                .isEqualTo(FilterReply.NEUTRAL);
+    }
+
+    private SamplingTurboFilter startedFilter(double sampleRate) {
+        SamplingTurboFilter filter = new SamplingTurboFilter();
+        filter.setContext(loggerContext);
+        filter.setLoggerPrefix("com.naivez.fithub.service");
+        filter.setSampleRate(sampleRate);
+        filter.start();
+        return filter;
+    }
+}
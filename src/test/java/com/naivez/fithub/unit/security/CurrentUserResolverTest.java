@@ -0,0 +1,131 @@
+package com.naivez.fithub.unit.security;
+
+import com.naivez.fithub.entity.User;
+import com.naivez.fithub.exception.UserNotFoundException;
+import com.naivez.fithub.repository.UserRepository;
+import com.naivez.fithub.security.AuthenticatedUser;
+import com.naivez.fithub.security.CurrentUserResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentUserResolverTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private CurrentUserResolver currentUserResolver;
+
+    private User testUser;
+
+    @BeforeEach
+    void setUp() {
+        testUser = User.builder()
+                .id(1L)
+                .email("user1@gmail.com")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void resolveId_whenPrincipalCarriesUserId_shouldNotQueryDatabase() {
+        authenticate(new AuthenticatedUser(1L, "user1@gmail.com", "password", List.of()));
+
+        Long result = currentUserResolver.resolveId("user1@gmail.com");
+
+        assertThat(result).isEqualTo(1L);
+        verifyNoInteractions(userRepository);
+        assertThat(meterRegistry.counter("fithub.user.lookups", "source", "principal").count()).isEqualTo(1);
+    }
+
+    @Test
+    void resolve_whenPrincipalCarriesUserId_shouldLoadByPrimaryKey() {
+        authenticate(new AuthenticatedUser(1L, "user1@gmail.com", "password", List.of()));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+
+        User result = currentUserResolver.resolve("user1@gmail.com");
+
+        assertThat(result).isEqualTo(testUser);
+        verify(userRepository, never()).findByEmail(anyString());
+    }
+
+    @Test
+    void resolveId_whenPrincipalIsAnotherUser_shouldQueryByEmail() {
+        authenticate(new AuthenticatedUser(2L, "user2@gmail.com", "password", List.of()));
+        when(userRepository.findIdByEmail("user1@gmail.com")).thenReturn(Optional.of(1L));
+
+        Long result = currentUserResolver.resolveId("user1@gmail.com");
+
+        assertThat(result).isEqualTo(1L);
+    }
+
+    @Test
+    void resolveId_withinRequest_shouldQueryDatabaseOnce() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+
+        currentUserResolver.resolve("user1@gmail.com");
+        Long first = currentUserResolver.resolveId("user1@gmail.com");
+        Long second = currentUserResolver.resolveId("user1@gmail.com");
+
+        assertThat(first).isEqualTo(1L);
+        assertThat(second).isEqualTo(1L);
+        verify(userRepository, times(1)).findByEmail("user1@gmail.com");
+        verify(userRepository, never()).findIdByEmail(anyString());
+        assertThat(meterRegistry.counter("fithub.user.lookups", "source", "request").count()).isEqualTo(2);
+    }
+
+    @Test
+    void resolveId_outsideRequest_shouldQueryDatabaseEachTime() {
+        when(userRepository.findIdByEmail("user1@gmail.com")).thenReturn(Optional.of(1L));
+
+        currentUserResolver.resolveId("user1@gmail.com");
+        currentUserResolver.resolveId("user1@gmail.com");
+
+        verify(userRepository, times(2)).findIdByEmail("user1@gmail.com");
+    }
+
+    @Test
+    void resolve_whenUserNotFound_shouldThrowException() {
+        when(userRepository.findByEmail("none@gmail.com")).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> currentUserResolver.resolve("none@gmail.com"))
+                .isInstanceOf(UserNotFoundException.class)
+                .hasMessageContaining("User not found with email: none@gmail.com");
+    }
+
+    private void authenticate(AuthenticatedUser principal) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
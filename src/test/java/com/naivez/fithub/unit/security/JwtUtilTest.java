@@ -1,5 +1,6 @@
 package com.naivez.fithub.unit.security;
 
+import com.naivez.fithub.security.AuthenticatedUser;
 import com.naivez.fithub.security.JwtUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.Collections;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -53,6 +55,22 @@ class JwtUtilTest {
         assertEquals(USERNAME, extractedUsername);
     }
 
+    @Test
+    void extractUserId_WithAuthenticatedUser_ShouldReturnUserId() {
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser(42L, USERNAME, "password", Collections.emptyList());
+        String token = jwtUtil.generateToken(authenticatedUser);
+
+        assertEquals(Optional.of(42L), jwtUtil.extractUserId(token));
+        assertEquals(USERNAME, jwtUtil.extractUsername(token));
+    }
+
+    @Test
+    void extractUserId_WithoutUserIdClaim_ShouldReturnNull() {
+        String token = jwtUtil.generateToken(userDetails);
+
+        assertTrue(jwtUtil.extractUserId(token).isEmpty());
+    }
+
     @Test
     void validateToken_WithValidToken_ShouldReturnTrue() {
         String token = jwtUtil.generateToken(userDetails);
@@ -0,0 +1,108 @@
+package com.naivez.fithub.unit.service;
+
+import com.naivez.fithub.entity.TrainingClass;
+import com.naivez.fithub.entity.User;
+import com.naivez.fithub.exception.InvalidStatusException;
+import com.naivez.fithub.repository.ReservationRepository;
+import com.naivez.fithub.repository.TrainingClassRepository;
+import com.naivez.fithub.repository.WaitlistEntryRepository;
+import com.naivez.fithub.service.ClassCancellationService;
+import com.naivez.fithub.service.NotificationService;
+import com.naivez.fithub.service.OccupancyRollupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClassCancellationServiceTest {
+
+    @Mock
+    private TrainingClassRepository trainingClassRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private OccupancyRollupService occupancyRollupService;
+
+    @InjectMocks
+    private ClassCancellationService classCancellationService;
+
+    private User trainer;
+    private TrainingClass trainingClass;
+
+    @BeforeEach
+    void setUp() {
+        trainer = User.builder()
+                .id(10L)
+                .email("trainer1@gmail.com")
+                .roles(new HashSet<>())
+                .build();
+
+        trainingClass = TrainingClass.builder()
+                .id(1L)
+                .name("trainingClass1")
+                .trainer(trainer)
+                .startTime(LocalDateTime.now().plusDays(1))
+                .endTime(LocalDateTime.now().plusDays(1).plusHours(1))
+                .capacity(200)
+                .reservations(new HashSet<>())
+                .build();
+    }
+
+    @Test
+    void cancelClass_shouldFlipReservationsAndNotifyAffectedMembersInBulk() {
+        when(reservationRepository.findConfirmedUserIdsByClassId(1L)).thenReturn(List.of(2L, 3L, 4L));
+        when(waitlistEntryRepository.findUserIdsByClassId(1L)).thenReturn(List.of(5L, 3L));
+        when(reservationRepository.cancelConfirmedByClassId(1L)).thenReturn(3);
+
+        int cancelled = classCancellationService.cancelClass(trainingClass);
+
+        assertThat(cancelled).isEqualTo(3);
+        assertThat(trainingClass.getStatus()).isEqualTo("CANCELLED");
+        assertThat(trainingClass.getCancelledAt()).isNotNull();
+
+        InOrder inOrder = inOrder(occupancyRollupService, trainingClassRepository, reservationRepository);
+        inOrder.verify(occupancyRollupService).classRemoved(trainingClass);
+        inOrder.verify(trainingClassRepository).save(trainingClass);
+        inOrder.verify(reservationRepository).cancelConfirmedByClassId(1L);
+
+        verify(waitlistEntryRepository).deleteByClassId(1L);
+        verify(notificationService).createNotifications(eq(Set.of(2L, 3L, 4L, 5L)), contains("has been cancelled"));
+        verify(notificationService).createNotification(eq(trainer), contains("trainingClass1"));
+        verify(trainingClassRepository, never()).delete(any());
+    }
+
+    @Test
+    void cancelClass_whenAlreadyCancelled_shouldThrowException() {
+        trainingClass.setStatus("CANCELLED");
+
+        assertThatThrownBy(() -> classCancellationService.cancelClass(trainingClass))
+                .isInstanceOf(InvalidStatusException.class)
+                .hasMessageContaining("already cancelled");
+
+        verifyNoInteractions(reservationRepository, notificationService, occupancyRollupService);
+    }
+}
@@ -0,0 +1,88 @@
+package com.naivez.fithub.unit.service;
+
+import com.naivez.fithub.entity.IdempotencyRecord;
+import com.naivez.fithub.repository.IdempotencyRecordRepository;
+import com.naivez.fithub.service.IdempotencyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @InjectMocks
+    private IdempotencyService idempotencyService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(idempotencyService, "ttl", Duration.ofHours(24));
+        ReflectionTestUtils.setField(idempotencyService, "lease", Duration.ofSeconds(60));
+    }
+
+    @Test
+    void reserve_shouldDropExpiredKeyAndStoreLeasedPendingRecord() {
+        when(idempotencyRecordRepository.saveAndFlush(any(IdempotencyRecord.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        IdempotencyRecord reservation = idempotencyService.reserve("user1@gmail.com:key1", "hash1");
+
+        ArgumentCaptor<IdempotencyRecord> captor = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordRepository).deleteExpiredByKey(eq("user1@gmail.com:key1"), any(LocalDateTime.class));
+        verify(idempotencyRecordRepository).saveAndFlush(captor.capture());
+
+        IdempotencyRecord record = captor.getValue();
+        assertThat(record.getRequestHash()).isEqualTo("hash1");
+        assertThat(record.isCompleted()).isFalse();
+        assertThat(Duration.between(record.getCreatedAt(), record.getLockedUntil())).isEqualTo(Duration.ofSeconds(60));
+        assertThat(record.getExpiresAt()).isEqualTo(record.getLockedUntil());
+        assertThat(reservation).isSameAs(record);
+    }
+
+    @Test
+    void complete_shouldStoreResponseWithFullTtl() {
+        IdempotencyRecord reservation = IdempotencyRecord.builder().id(1L).idempotencyKey("user1@gmail.com:key1").build();
+        when(idempotencyRecordRepository.complete(eq(1L), eq(201), eq("application/json"), eq("{\"id\":1}"),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        LocalDateTime before = LocalDateTime.now();
+        idempotencyService.complete(reservation, 201, "application/json", "{\"id\":1}");
+
+        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(idempotencyRecordRepository).complete(eq(1L), eq(201), eq("application/json"), eq("{\"id\":1}"),
+                captor.capture());
+        assertThat(captor.getValue()).isAfterOrEqualTo(before.plusHours(24));
+    }
+
+    @Test
+    void release_shouldDeleteOnlyOwnPendingRecord() {
+        IdempotencyRecord reservation = IdempotencyRecord.builder().id(1L).idempotencyKey("user1@gmail.com:key1").build();
+
+        idempotencyService.release(reservation);
+
+        verify(idempotencyRecordRepository).deletePending(1L);
+    }
+
+    @Test
+    void purgeExpired_shouldDeleteExpiredRecords() {
+        idempotencyService.purgeExpired();
+
+        verify(idempotencyRecordRepository).deleteExpired(any(LocalDateTime.class));
+    }
+}
@@ -0,0 +1,349 @@
+package com.naivez.fithub.unit.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.naivez.fithub.dto.ImportReportDTO;
+import com.naivez.fithub.dto.ImportRowErrorDTO;
+import com.naivez.fithub.entity.*;
+import com.naivez.fithub.importing.ImportFormat;
+import com.naivez.fithub.importing.ImportWorkerPool;
+import com.naivez.fithub.repository.*;
+import com.naivez.fithub.service.ImportService;
+import com.naivez.fithub.service.MembershipService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private MembershipRepository membershipRepository;
+
+    @Mock
+    private TrainingClassRepository trainingClassRepository;
+
+    @Mock
+    private MembershipService membershipService;
+
+    @Mock
+    private PasswordEncoder passwordEncoder;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ImportWorkerPool importWorkerPool;
+    private ImportService importService;
+    private Role clientRole;
+
+    @BeforeEach
+    void setUp() {
+        importWorkerPool = new ImportWorkerPool(2, 16);
+        importService = new ImportService(
+                userRepository,
+                roleRepository,
+                roomRepository,
+                membershipRepository,
+                trainingClassRepository,
+                membershipService,
+                passwordEncoder,
+                new TransactionTemplate(transactionManager),
+                importWorkerPool,
+                new ObjectMapper()
+        );
+        ReflectionTestUtils.setField(importService, "chunkSize", 2);
+        ReflectionTestUtils.setField(importService, "maxReportedErrors", 10);
+
+        clientRole = Role.builder()
+                .id(3L)
+                .name("ROLE_CLIENT")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        importWorkerPool.shutdown();
+    }
+
+    @Test
+    void importMembers_withValidCsv_shouldSaveUsersInChunks() {
+        String csv = """
+                email,password,firstName,lastName,phone
+                user1@gmail.com,password1,user1,user1,1111111111
+                user2@gmail.com,password2,user2,user2,
+                user3@gmail.com,password3,user3,user3,3333333333
+                """;
+
+        when(roleRepository.findAll()).thenReturn(List.of(clientRole));
+        when(roleRepository.getReferenceById(3L)).thenReturn(clientRole);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+
+        ImportReportDTO report = importService.importMembers(stream(csv), ImportFormat.CSV);
+
+        assertThat(report.getTotalRows()).isEqualTo(3);
+        assertThat(report.getImportedRows()).isEqualTo(3);
+        assertThat(report.getFailedRows()).isZero();
+        assertThat(report.getErrors()).isEmpty();
+        verify(userRepository, times(2)).saveAll(anyList());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void importMembers_withInvalidRows_shouldReportErrorsAndImportTheRest() {
+        String csv = """
+                email,password,firstName,lastName
+                user1@gmail.com,password1,user1,user1
+                not-an-email,password2,user2,user2
+                user3@gmail.com,short,user3,user3
+                """;
+
+        when(roleRepository.findAll()).thenReturn(List.of(clientRole));
+        when(roleRepository.getReferenceById(3L)).thenReturn(clientRole);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+
+        ImportReportDTO report = importService.importMembers(stream(csv), ImportFormat.CSV);
+
+        assertThat(report.getTotalRows()).isEqualTo(3);
+        assertThat(report.getImportedRows()).isEqualTo(1);
+        assertThat(report.getFailedRows()).isEqualTo(2);
+        assertThat(report.getErrors())
+                .extracting(ImportRowErrorDTO::getRowNumber, ImportRowErrorDTO::getMessage)
+                .containsExactlyInAnyOrder(
+                        tuple(2L, "Email must be valid"),
+                        tuple(3L, "Password must be at least 6 characters"));
+    }
+
+    @Test
+    void importMembers_withExistingAndDuplicateEmails_shouldRejectThoseRows() {
+        String ndjson = """
+                {"email":"user1@gmail.com","password":"password1","firstName":"user1","lastName":"user1"}
+                {"email":"user1@gmail.com","password":"password1","firstName":"user1","lastName":"user1"}
+                {"email":"existing@gmail.com","password":"password2","firstName":"user2","lastName":"user2"}
+                """;
+        ReflectionTestUtils.setField(importService, "chunkSize", 10);
+
+        when(roleRepository.findAll()).thenReturn(List.of(clientRole));
+        when(roleRepository.getReferenceById(3L)).thenReturn(clientRole);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of("existing@gmail.com"));
+
+        ImportReportDTO report = importService.importMembers(stream(ndjson), ImportFormat.NDJSON);
+
+        assertThat(report.getImportedRows()).isEqualTo(1);
+        assertThat(report.getFailedRows()).isEqualTo(2);
+        assertThat(report.getErrors())
+                .extracting(ImportRowErrorDTO::getMessage)
+                .containsExactlyInAnyOrder("Duplicate email in import", "Email already exists");
+    }
+
+    @Test
+    void importMembers_withMembershipType_shouldCreateMemberships() {
+        String csv = """
+                email,password,firstName,lastName,membershipType,membershipStartDate
+                user1@gmail.com,password1,user1,user1,MONTHLY,2025-01-01
+                """;
+        Membership membership = Membership.builder()
+                .type("MONTHLY")
+                .build();
+
+        when(roleRepository.findAll()).thenReturn(List.of(clientRole));
+        when(roleRepository.getReferenceById(3L)).thenReturn(clientRole);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(membershipService.isValidType("MONTHLY")).thenReturn(true);
+        when(membershipService.buildMembership(any(User.class), eq("MONTHLY"), eq(LocalDate.of(2025, 1, 1))))
+                .thenReturn(membership);
+
+        ImportReportDTO report = importService.importMembers(stream(csv), ImportFormat.CSV);
+
+        assertThat(report.getImportedRows()).isEqualTo(1);
+        verify(membershipRepository).saveAll(List.of(membership));
+    }
+
+    @Test
+    void importMembers_whenChunkWriteFails_shouldRejectWholeChunk() {
+        String csv = """
+                email,password,firstName,lastName
+                user1@gmail.com,password1,user1,user1
+                user2@gmail.com,password2,user2,user2
+                """;
+
+        when(roleRepository.findAll()).thenReturn(List.of(clientRole));
+        when(roleRepository.getReferenceById(3L)).thenReturn(clientRole);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+        when(userRepository.saveAll(anyList())).thenThrow(new RuntimeException("constraint violation"));
+
+        ImportReportDTO report = importService.importMembers(stream(csv), ImportFormat.CSV);
+
+        assertThat(report.getImportedRows()).isZero();
+        assertThat(report.getFailedRows()).isEqualTo(2);
+        assertThat(report.getErrors())
+                .extracting(ImportRowErrorDTO::getMessage)
+                .containsOnly("Chunk write failed: constraint violation");
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void importMembers_whenErrorsExceedLimit_shouldTruncateErrorList() {
+        ReflectionTestUtils.setField(importService, "maxReportedErrors", 1);
+        String csv = """
+                email,password,firstName,lastName
+                bad1,password1,user1,user1
+                bad2,password2,user2,user2
+                bad3,password3,user3,user3
+                """;
+
+        when(roleRepository.findAll()).thenReturn(List.of(clientRole));
+
+        ImportReportDTO report = importService.importMembers(stream(csv), ImportFormat.CSV);
+
+        assertThat(report.getFailedRows()).isEqualTo(3);
+        assertThat(report.getErrors()).hasSize(1);
+        assertThat(report.isErrorsTruncated()).isTrue();
+        verify(userRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void importMembers_withMalformedNdjsonLine_shouldRejectLineAndContinue() {
+        String ndjson = """
+                {"email":"user1@gmail.com","password":"password1","firstName":"user1","lastName":"user1"}
+                {not json
+                """;
+
+        when(roleRepository.findAll()).thenReturn(List.of(clientRole));
+        when(roleRepository.getReferenceById(3L)).thenReturn(clientRole);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+
+        ImportReportDTO report = importService.importMembers(stream(ndjson), ImportFormat.NDJSON);
+
+        assertThat(report.getTotalRows()).isEqualTo(2);
+        assertThat(report.getImportedRows()).isEqualTo(1);
+        assertThat(report.getFailedRows()).isEqualTo(1);
+        assertThat(report.getErrors().get(0).getRowNumber()).isEqualTo(2L);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void importClasses_shouldResolveTrainersAndRoomsPerChunk() {
+        String csv = """
+                name,description,trainerEmail,roomId,startTime,endTime,capacity
+                Yoga,Morning yoga,trainer1@gmail.com,1,2030-01-01T09:00,2030-01-01T10:00,20
+                Boxing,,unknown@gmail.com,1,2030-01-01T11:00,2030-01-01T12:00,10
+                """;
+        User trainer = User.builder()
+                .id(1L)
+                .email("trainer1@gmail.com")
+                .build();
+        Room room = Room.builder()
+                .id(1L)
+                .name("room1")
+                .capacity(30)
+                .build();
+
+        when(userRepository.findTrainersByEmailIn(anyCollection())).thenReturn(List.of(trainer));
+        when(roomRepository.findAllById(anyIterable())).thenReturn(List.of(room));
+
+        ImportReportDTO report = importService.importClasses(stream(csv), ImportFormat.CSV);
+
+        assertThat(report.getImportedRows()).isEqualTo(1);
+        assertThat(report.getFailedRows()).isEqualTo(1);
+        assertThat(report.getErrors().get(0).getMessage()).isEqualTo("Trainer not found with email: unknown@gmail.com");
+
+        ArgumentCaptor<List<TrainingClass>> captor = ArgumentCaptor.forClass(List.class);
+        verify(trainingClassRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement()
+                .satisfies(trainingClass -> {
+                    assertThat(trainingClass.getName()).isEqualTo("Yoga");
+                    assertThat(trainingClass.getTrainer()).isEqualTo(trainer);
+                    assertThat(trainingClass.getRoom()).isEqualTo(room);
+                });
+    }
+
+    @Test
+    void importClasses_withEndBeforeStart_shouldRejectRow() {
+        String csv = """
+                name,trainerEmail,roomId,startTime,endTime,capacity
+                Yoga,trainer1@gmail.com,1,2030-01-01T10:00,2030-01-01T09:00,20
+                """;
+
+        ImportReportDTO report = importService.importClasses(stream(csv), ImportFormat.CSV);
+
+        assertThat(report.getImportedRows()).isZero();
+        assertThat(report.getErrors().get(0).getMessage()).isEqualTo("End time must be after start time");
+        verify(trainingClassRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void importClasses_withCapacityOutOfIntRange_shouldRejectRow() {
+        String csv = """
+                name,trainerEmail,roomId,startTime,endTime,capacity
+                Yoga,trainer1@gmail.com,1,2030-01-01T09:00,2030-01-01T10:00,4294967297
+                """;
+
+        ImportReportDTO report = importService.importClasses(stream(csv), ImportFormat.CSV);
+
+        assertThat(report.getImportedRows()).isZero();
+        assertThat(report.getErrors().get(0).getMessage()).isEqualTo("Invalid number for capacity: 4294967297");
+        verify(trainingClassRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void importMembers_withUnterminatedQuoteAtEnd_shouldReportTrailingRowAndKeepEarlierChunks() {
+        String csv = """
+                email,password,firstName,lastName
+                user1@gmail.com,password1,user1,user1
+                user2@gmail.com,password2,user2,user2
+                user3@gmail.com,password3,user3,user3
+                user4@gmail.com,password4,"user4,user4
+                """;
+
+        when(roleRepository.findAll()).thenReturn(List.of(clientRole));
+        when(roleRepository.getReferenceById(3L)).thenReturn(clientRole);
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(Set.of());
+
+        ImportReportDTO report = importService.importMembers(stream(csv), ImportFormat.CSV);
+
+        assertThat(report.getImportedRows()).isEqualTo(3);
+        assertThat(report.getFailedRows()).isEqualTo(1);
+        assertThat(report.getErrors())
+                .extracting(ImportRowErrorDTO::getRowNumber, ImportRowErrorDTO::getMessage)
+                .containsExactly(tuple(4L, "CSV ends inside a quoted value"));
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
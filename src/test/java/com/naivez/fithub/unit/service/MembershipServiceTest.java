@@ -4,15 +4,20 @@ import com.naivez.fithub.dto.MembershipDTO;
 import com.naivez.fithub.dto.PurchaseMembershipRequest;
 import com.naivez.fithub.entity.Membership;
 import com.naivez.fithub.entity.User;
+import com.naivez.fithub.exception.UserNotFoundException;
 import com.naivez.fithub.mapper.MembershipMapper;
 import com.naivez.fithub.repository.MembershipRepository;
-import com.naivez.fithub.repository.UserRepository;
+import com.naivez.fithub.security.CurrentUserResolver;
 import com.naivez.fithub.service.MembershipService;
+import com.naivez.fithub.service.RevenueRollupService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -32,11 +37,17 @@ class MembershipServiceTest {
     private MembershipRepository membershipRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private CurrentUserResolver currentUserResolver;
 
     @Mock
     private MembershipMapper membershipMapper;
 
+    @Mock
+    private RevenueRollupService revenueRollupService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private MembershipService membershipService;
 
@@ -101,7 +112,7 @@ class MembershipServiceTest {
                 .daysRemaining(0L)
                 .build();
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(membershipRepository.findByUserIdOrderByEndDateDesc(1L)).thenReturn(List.of(testMembership, membership2));
         when(membershipMapper.toDto(testMembership)).thenReturn(testMembershipDTO);
         when(membershipMapper.toDto(membership2)).thenReturn(membershipDTO2);
@@ -110,39 +121,40 @@ class MembershipServiceTest {
 
         assertThat(result).hasSize(2);
         assertThat(result).contains(testMembershipDTO, membershipDTO2);
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolveId("user1@gmail.com");
         verify(membershipRepository).findByUserIdOrderByEndDateDesc(1L);
         verify(membershipMapper, times(2)).toDto(any(Membership.class));
     }
 
     @Test
     void getUserMemberships_whenUserNotFound_shouldThrowException() {
-        when(userRepository.findByEmail("none@gmail.com")).thenReturn(Optional.empty());
+        when(currentUserResolver.resolveId("none@gmail.com"))
+                .thenThrow(new UserNotFoundException("User not found with email: " + "none@gmail.com"));
 
         assertThatThrownBy(() -> membershipService.getUserMemberships("none@gmail.com"))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("User not found");
 
-        verify(userRepository).findByEmail("none@gmail.com");
+        verify(currentUserResolver).resolveId("none@gmail.com");
         verify(membershipRepository, never()).findByUserIdOrderByEndDateDesc(anyLong());
     }
 
     @Test
     void getUserMemberships_whenUserHasNoMemberships_shouldReturnEmptyList() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(membershipRepository.findByUserIdOrderByEndDateDesc(1L)).thenReturn(List.of());
 
         List<MembershipDTO> result = membershipService.getUserMemberships("user1@gmail.com");
 
         assertThat(result).isEmpty();
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolveId("user1@gmail.com");
         verify(membershipRepository).findByUserIdOrderByEndDateDesc(1L);
         verify(membershipMapper, never()).toDto(any(Membership.class));
     }
 
     @Test
     void getActiveMemberships_whenUserHasActiveMembership_shouldReturnActiveMemberships() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(membershipRepository.findActiveByUserId(eq(1L), any(LocalDate.class))).thenReturn(List.of(testMembership));
         when(membershipMapper.toDto(testMembership)).thenReturn(testMembershipDTO);
 
@@ -151,60 +163,44 @@ class MembershipServiceTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0)).isEqualTo(testMembershipDTO);
         assertThat(result.get(0).isActive()).isTrue();
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolveId("user1@gmail.com");
         verify(membershipRepository).findActiveByUserId(eq(1L), any(LocalDate.class));
         verify(membershipMapper).toDto(testMembership);
     }
 
     @Test
     void getActiveMemberships_whenUserHasNoActiveMembership_shouldReturnEmptyList() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(membershipRepository.findActiveByUserId(eq(1L), any(LocalDate.class))).thenReturn(List.of());
 
         List<MembershipDTO> result = membershipService.getActiveMemberships("user1@gmail.com");
 
         assertThat(result).isEmpty();
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolveId("user1@gmail.com");
         verify(membershipRepository).findActiveByUserId(eq(1L), any(LocalDate.class));
         verify(membershipMapper, never()).toDto(any(Membership.class));
     }
 
     @Test
     void hasActiveMembership_whenUserHasActiveMembership_shouldReturnTrue() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
         when(membershipRepository.findActiveByUserId(eq(1L), any(LocalDate.class))).thenReturn(List.of(testMembership));
 
-        boolean result = membershipService.hasActiveMembership("user1@gmail.com");
+        boolean result = membershipService.hasActiveMembership(1L);
 
         assertThat(result).isTrue();
-        verify(userRepository).findByEmail("user1@gmail.com");
         verify(membershipRepository).findActiveByUserId(eq(1L), any(LocalDate.class));
     }
 
     @Test
     void hasActiveMembership_whenUserHasNoActiveMembership_shouldReturnFalse() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
         when(membershipRepository.findActiveByUserId(eq(1L), any(LocalDate.class))).thenReturn(List.of());
 
-        boolean result = membershipService.hasActiveMembership("user1@gmail.com");
+        boolean result = membershipService.hasActiveMembership(1L);
 
         assertThat(result).isFalse();
-        verify(userRepository).findByEmail("user1@gmail.com");
         verify(membershipRepository).findActiveByUserId(eq(1L), any(LocalDate.class));
     }
 
-    @Test
-    void hasActiveMembership_whenUserNotFound_shouldThrowException() {
-        when(userRepository.findByEmail("none@gmail.com")).thenReturn(Optional.empty());
-
-        assertThatThrownBy(() -> membershipService.hasActiveMembership("none@gmail.com"))
-                .isInstanceOf(RuntimeException.class)
-                .hasMessageContaining("User not found");
-
-        verify(userRepository).findByEmail("none@gmail.com");
-        verify(membershipRepository, never()).findActiveByUserId(anyLong(), any(LocalDate.class));
-    }
-
     @Test
     void purchaseMembership_withMonthlyType_shouldCreateMembershipWithCorrectDuration() {
         Membership savedMembership = Membership.builder()
@@ -227,7 +223,7 @@ class MembershipServiceTest {
                 .daysRemaining(30L)
                 .build();
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolve("user1@gmail.com")).thenReturn(testUser);
         when(membershipRepository.save(any(Membership.class))).thenReturn(savedMembership);
         when(membershipMapper.toDto(savedMembership)).thenReturn(savedDTO);
 
@@ -238,9 +234,12 @@ class MembershipServiceTest {
         assertThat(result.getPrice()).isEqualByComparingTo(new BigDecimal("99.99"));
         assertThat(result.isActive()).isTrue();
 
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolve("user1@gmail.com");
         verify(membershipRepository).save(any(Membership.class));
         verify(membershipMapper).toDto(savedMembership);
+        verify(revenueRollupService).membershipPurchased(savedMembership, new BigDecimal("99.99"));
+        assertThat(meterRegistry.counter("fithub.membership.purchases", "type", "MONTHLY", "kind", "purchase").count())
+                .isEqualTo(1);
     }
 
     @Test
@@ -267,7 +266,7 @@ class MembershipServiceTest {
                 .daysRemaining(90L)
                 .build();
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolve("user1@gmail.com")).thenReturn(testUser);
         when(membershipRepository.save(any(Membership.class))).thenReturn(quarterlySaved);
         when(membershipMapper.toDto(quarterlySaved)).thenReturn(quarterlyDTO);
 
@@ -285,25 +284,26 @@ class MembershipServiceTest {
                 .type("INVALID_TYPE")
                 .build();
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolve("user1@gmail.com")).thenReturn(testUser);
 
         assertThatThrownBy(() -> membershipService.purchaseMembership("user1@gmail.com", invalidRequest))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Invalid membership type");
 
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolve("user1@gmail.com");
         verify(membershipRepository, never()).save(any(Membership.class));
     }
 
     @Test
     void purchaseMembership_whenUserNotFound_shouldThrowException() {
-        when(userRepository.findByEmail("none@gmail.com")).thenReturn(Optional.empty());
+        when(currentUserResolver.resolve("none@gmail.com"))
+                .thenThrow(new UserNotFoundException("User not found with email: " + "none@gmail.com"));
 
         assertThatThrownBy(() -> membershipService.purchaseMembership("none@gmail.com", testPurchaseRequest))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("User not found");
 
-        verify(userRepository).findByEmail("none@gmail.com");
+        verify(currentUserResolver).resolve("none@gmail.com");
         verify(membershipRepository, never()).save(any(Membership.class));
     }
 
@@ -339,7 +339,7 @@ class MembershipServiceTest {
                 .daysRemaining(45L)
                 .build();
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolve("user1@gmail.com")).thenReturn(testUser);
         when(membershipRepository.findValidByUserId(eq(1L), any(LocalDate.class)))
                 .thenReturn(List.of(existingMembership));
         when(membershipRepository.save(any(Membership.class))).thenReturn(extendedMembership);
@@ -352,11 +352,13 @@ class MembershipServiceTest {
         verify(membershipRepository).findValidByUserId(eq(1L), any(LocalDate.class));
         verify(membershipRepository).save(existingMembership);
         verify(membershipMapper).toDto(extendedMembership);
+        verify(revenueRollupService).membershipRenewed("MONTHLY", new BigDecimal("99.99"));
+        verify(revenueRollupService, never()).membershipPurchased(any(), any());
     }
 
     @Test
     void topUpBalance_whenUserHasNoValidMembership_shouldCreateNewMembership() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolve("user1@gmail.com")).thenReturn(testUser);
         when(membershipRepository.findValidByUserId(eq(1L), any(LocalDate.class)))
                 .thenReturn(List.of());
         when(membershipRepository.save(any(Membership.class))).thenReturn(testMembership);
@@ -373,13 +375,14 @@ class MembershipServiceTest {
 
     @Test
     void topUpBalance_whenUserNotFound_shouldThrowException() {
-        when(userRepository.findByEmail("none@gmail.com")).thenReturn(Optional.empty());
+        when(currentUserResolver.resolve("none@gmail.com"))
+                .thenThrow(new UserNotFoundException("User not found with email: " + "none@gmail.com"));
 
         assertThatThrownBy(() -> membershipService.topUpBalance("none@gmail.com", testPurchaseRequest))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("User not found");
 
-        verify(userRepository).findByEmail("none@gmail.com");
+        verify(currentUserResolver).resolve("none@gmail.com");
         verify(membershipRepository, never()).findValidByUserId(anyLong(), any(LocalDate.class));
         verify(membershipRepository, never()).save(any(Membership.class));
     }
@@ -390,14 +393,26 @@ class MembershipServiceTest {
                 .type("INVALID_TYPE")
                 .build();
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolve("user1@gmail.com")).thenReturn(testUser);
 
         assertThatThrownBy(() -> membershipService.topUpBalance("user1@gmail.com", invalidRequest))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Invalid membership type");
 
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolve("user1@gmail.com");
         verify(membershipRepository, never()).findValidByUserId(anyLong(), any(LocalDate.class));
         verify(membershipRepository, never()).save(any(Membership.class));
     }
-}
\ No newline at end of file
+
+    @Test
+    void monthlyRecurringRevenue_shouldNormalizePriceToThirtyDays() {
+        assertThat(membershipService.monthlyRecurringRevenue("MONTHLY", new BigDecimal("99.99")))
+                .isEqualByComparingTo("99.99");
+        assertThat(membershipService.monthlyRecurringRevenue("QUARTERLY", new BigDecimal("249.99")))
+                .isEqualByComparingTo("83.33");
+        assertThat(membershipService.monthlyRecurringRevenue("ANNUAL", new BigDecimal("899.99")))
+                .isEqualByComparingTo("73.97");
+        assertThat(membershipService.monthlyRecurringRevenue("UNKNOWN", new BigDecimal("10.00")))
+                .isEqualByComparingTo("0");
+    }
+}
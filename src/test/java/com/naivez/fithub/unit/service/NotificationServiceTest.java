@@ -3,15 +3,20 @@ package com.naivez.fithub.unit.service;
 import com.naivez.fithub.dto.NotificationDTO;
 import com.naivez.fithub.entity.Notification;
 import com.naivez.fithub.entity.User;
+import com.naivez.fithub.exception.UserNotFoundException;
 import com.naivez.fithub.mapper.NotificationMapper;
 import com.naivez.fithub.repository.NotificationRepository;
 import com.naivez.fithub.repository.UserRepository;
+import com.naivez.fithub.security.CurrentUserResolver;
 import com.naivez.fithub.service.NotificationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
@@ -32,9 +37,15 @@ class NotificationServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private CurrentUserResolver currentUserResolver;
+
     @Mock
     private NotificationMapper notificationMapper;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private NotificationService notificationService;
 
@@ -87,7 +98,7 @@ class NotificationServiceTest {
                 .read(true)
                 .build();
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(notificationRepository.findByRecipientId(1L)).thenReturn(List.of(testNotification, notification2));
         when(notificationMapper.toDto(testNotification)).thenReturn(testNotificationDTO);
         when(notificationMapper.toDto(notification2)).thenReturn(notificationDTO2);
@@ -96,39 +107,40 @@ class NotificationServiceTest {
 
         assertThat(result).hasSize(2);
         assertThat(result).contains(testNotificationDTO, notificationDTO2);
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolveId("user1@gmail.com");
         verify(notificationRepository).findByRecipientId(1L);
         verify(notificationMapper, times(2)).toDto(any(Notification.class));
     }
 
     @Test
     void getUserNotifications_whenUserNotFound_shouldThrowException() {
-        when(userRepository.findByEmail("none@gmail.com")).thenReturn(Optional.empty());
+        when(currentUserResolver.resolveId("none@gmail.com"))
+                .thenThrow(new UserNotFoundException("User not found with email: " + "none@gmail.com"));
 
         assertThatThrownBy(() -> notificationService.getUserNotifications("none@gmail.com"))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("User not found");
 
-        verify(userRepository).findByEmail("none@gmail.com");
+        verify(currentUserResolver).resolveId("none@gmail.com");
         verify(notificationRepository, never()).findByRecipientId(anyLong());
     }
 
     @Test
     void getUserNotifications_whenUserHasNoNotifications_shouldReturnEmptyList() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(notificationRepository.findByRecipientId(1L)).thenReturn(List.of());
 
         List<NotificationDTO> result = notificationService.getUserNotifications("user1@gmail.com");
 
         assertThat(result).isEmpty();
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolveId("user1@gmail.com");
         verify(notificationRepository).findByRecipientId(1L);
         verify(notificationMapper, never()).toDto(any(Notification.class));
     }
 
     @Test
     void getUnreadNotifications_whenUserHasUnreadNotifications_shouldReturnOnlyUnread() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(notificationRepository.findUnreadByRecipientId(1L)).thenReturn(List.of(testNotification));
         when(notificationMapper.toDto(testNotification)).thenReturn(testNotificationDTO);
 
@@ -137,72 +149,74 @@ class NotificationServiceTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0)).isEqualTo(testNotificationDTO);
         assertThat(result.get(0).isRead()).isFalse();
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolveId("user1@gmail.com");
         verify(notificationRepository).findUnreadByRecipientId(1L);
         verify(notificationMapper).toDto(testNotification);
     }
 
     @Test
     void getUnreadNotifications_whenUserHasNoUnreadNotifications_shouldReturnEmptyList() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(notificationRepository.findUnreadByRecipientId(1L)).thenReturn(List.of());
 
         List<NotificationDTO> result = notificationService.getUnreadNotifications("user1@gmail.com");
 
         assertThat(result).isEmpty();
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolveId("user1@gmail.com");
         verify(notificationRepository).findUnreadByRecipientId(1L);
         verify(notificationMapper, never()).toDto(any(Notification.class));
     }
 
     @Test
     void getUnreadNotifications_whenUserNotFound_shouldThrowException() {
-        when(userRepository.findByEmail("none@gmail.com")).thenReturn(Optional.empty());
+        when(currentUserResolver.resolveId("none@gmail.com"))
+                .thenThrow(new UserNotFoundException("User not found with email: " + "none@gmail.com"));
 
         assertThatThrownBy(() -> notificationService.getUnreadNotifications("none@gmail.com"))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("User not found");
 
-        verify(userRepository).findByEmail("none@gmail.com");
+        verify(currentUserResolver).resolveId("none@gmail.com");
         verify(notificationRepository, never()).findUnreadByRecipientId(anyLong());
     }
 
     @Test
     void markAsRead_whenValidNotification_shouldMarkAsRead() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(notificationRepository.findById(1L)).thenReturn(Optional.of(testNotification));
         when(notificationRepository.save(any(Notification.class))).thenReturn(testNotification);
 
         notificationService.markAsRead("user1@gmail.com", 1L);
 
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolveId("user1@gmail.com");
         verify(notificationRepository).findById(1L);
         verify(notificationRepository).save(any(Notification.class));
     }
 
     @Test
     void markAsRead_whenUserNotFound_shouldThrowException() {
-        when(userRepository.findByEmail("none@gmail.com")).thenReturn(Optional.empty());
+        when(currentUserResolver.resolveId("none@gmail.com"))
+                .thenThrow(new UserNotFoundException("User not found with email: " + "none@gmail.com"));
 
         assertThatThrownBy(() -> notificationService.markAsRead("none@gmail.com", 1L))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("User not found");
 
-        verify(userRepository).findByEmail("none@gmail.com");
+        verify(currentUserResolver).resolveId("none@gmail.com");
         verify(notificationRepository, never()).findById(anyLong());
         verify(notificationRepository, never()).save(any(Notification.class));
     }
 
     @Test
     void markAsRead_whenNotificationNotFound_shouldThrowException() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(notificationRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> notificationService.markAsRead("user1@gmail.com", 999L))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Notification not found");
 
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolveId("user1@gmail.com");
         verify(notificationRepository).findById(999L);
         verify(notificationRepository, never()).save(any(Notification.class));
     }
@@ -222,14 +236,14 @@ class NotificationServiceTest {
                 .read(false)
                 .build();
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(notificationRepository.findById(2L)).thenReturn(Optional.of(otherNotification));
 
         assertThatThrownBy(() -> notificationService.markAsRead("user1@gmail.com", 2L))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("You can only mark your own notifications as read");
 
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolveId("user1@gmail.com");
         verify(notificationRepository).findById(2L);
         verify(notificationRepository, never()).save(any(Notification.class));
     }
@@ -246,39 +260,40 @@ class NotificationServiceTest {
 
         List<Notification> unreadNotifications = List.of(testNotification, unreadNotification2);
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(notificationRepository.findUnreadByRecipientId(1L)).thenReturn(unreadNotifications);
         when(notificationRepository.saveAll(unreadNotifications)).thenReturn(unreadNotifications);
 
         notificationService.markAllAsRead("user1@gmail.com");
 
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolveId("user1@gmail.com");
         verify(notificationRepository).findUnreadByRecipientId(1L);
         verify(notificationRepository).saveAll(unreadNotifications);
     }
 
     @Test
     void markAllAsRead_whenUserHasNoUnreadNotifications_shouldNotSaveAny() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(notificationRepository.findUnreadByRecipientId(1L)).thenReturn(List.of());
         when(notificationRepository.saveAll(List.of())).thenReturn(List.of());
 
         notificationService.markAllAsRead("user1@gmail.com");
 
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolveId("user1@gmail.com");
         verify(notificationRepository).findUnreadByRecipientId(1L);
         verify(notificationRepository).saveAll(List.of());
     }
 
     @Test
     void markAllAsRead_whenUserNotFound_shouldThrowException() {
-        when(userRepository.findByEmail("none@gmail.com")).thenReturn(Optional.empty());
+        when(currentUserResolver.resolveId("none@gmail.com"))
+                .thenThrow(new UserNotFoundException("User not found with email: " + "none@gmail.com"));
 
         assertThatThrownBy(() -> notificationService.markAllAsRead("none@gmail.com"))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("User not found");
 
-        verify(userRepository).findByEmail("none@gmail.com");
+        verify(currentUserResolver).resolveId("none@gmail.com");
         verify(notificationRepository, never()).findUnreadByRecipientId(anyLong());
         verify(notificationRepository, never()).saveAll(anyList());
     }
@@ -300,6 +315,7 @@ class NotificationServiceTest {
         notificationService.createNotification(testUser, message);
 
         verify(notificationRepository).save(any(Notification.class));
+        assertThat(meterRegistry.counter("fithub.notifications.created").count()).isEqualTo(1);
     }
 
     @Test
@@ -0,0 +1,159 @@
+package com.naivez.fithub.unit.service;
+
+import com.naivez.fithub.analytics.ClassOccupancy;
+import com.naivez.fithub.analytics.OccupancyBucketTotals;
+import com.naivez.fithub.analytics.OccupancyGrouping;
+import com.naivez.fithub.analytics.OccupancyTotals;
+import com.naivez.fithub.dto.OccupancyDailyDTO;
+import com.naivez.fithub.dto.OccupancyHeatmapCellDTO;
+import com.naivez.fithub.dto.OccupancyRebuildDTO;
+import com.naivez.fithub.dto.OccupancySummaryDTO;
+import com.naivez.fithub.entity.OccupancyFact;
+import com.naivez.fithub.entity.Room;
+import com.naivez.fithub.exception.InvalidTimeRangeException;
+import com.naivez.fithub.repository.OccupancyFactRepository;
+import com.naivez.fithub.repository.RoomRepository;
+import com.naivez.fithub.repository.TrainingClassRepository;
+import com.naivez.fithub.repository.UserRepository;
+import com.naivez.fithub.service.OccupancyAnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OccupancyAnalyticsServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 6);
+    private static final LocalDate TO = LocalDate.of(2025, 1, 12);
+
+    @Mock
+    private OccupancyFactRepository occupancyFactRepository;
+
+    @Mock
+    private TrainingClassRepository trainingClassRepository;
+
+    @Mock
+    private RoomRepository roomRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private OccupancyAnalyticsService occupancyAnalyticsService;
+
+    @Test
+    void getOccupancySummary_byRoom_shouldResolveRoomNamesAndFillRate() {
+        when(occupancyFactRepository.sumByRoom(FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay()))
+                .thenReturn(List.of(new OccupancyTotals("1", 4L, 80L, 60L), new OccupancyTotals("0", 1L, 10L, 0L)));
+        when(roomRepository.findAllById(any())).thenReturn(List.of(Room.builder().id(1L).name("room1").build()));
+
+        List<OccupancySummaryDTO> result = occupancyAnalyticsService.getOccupancySummary(FROM, TO, OccupancyGrouping.ROOM);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getLabel()).isEqualTo("room1");
+        assertThat(result.get(0).getFillRate()).isEqualTo(0.75);
+        assertThat(result.get(1).getLabel()).isEqualTo("0");
+        assertThat(result.get(1).getFillRate()).isZero();
+    }
+
+    @Test
+    void getOccupancySummary_byClassName_shouldNotLookUpLabels() {
+        when(occupancyFactRepository.sumByClassName(any(), any()))
+                .thenReturn(List.of(new OccupancyTotals("Yoga", 2L, 40L, 10L)));
+
+        List<OccupancySummaryDTO> result = occupancyAnalyticsService.getOccupancySummary(FROM, TO, OccupancyGrouping.CLASS_NAME);
+
+        assertThat(result.get(0).getLabel()).isEqualTo("Yoga");
+        assertThat(result.get(0).getFillRate()).isEqualTo(0.25);
+        verifyNoInteractions(roomRepository, userRepository);
+    }
+
+    @Test
+    void getDailyOccupancy_shouldFoldHourlyBucketsIntoDays() {
+        when(occupancyFactRepository.sumByBucket(FROM.atStartOfDay(), TO.plusDays(1).atStartOfDay(), 1L))
+                .thenReturn(List.of(
+                        new OccupancyBucketTotals(LocalDateTime.of(2025, 1, 6, 9, 0), 1L, 20L, 10L),
+                        new OccupancyBucketTotals(LocalDateTime.of(2025, 1, 6, 18, 0), 1L, 20L, 20L),
+                        new OccupancyBucketTotals(LocalDateTime.of(2025, 1, 7, 9, 0), 1L, 10L, 5L)));
+
+        List<OccupancyDailyDTO> result = occupancyAnalyticsService.getDailyOccupancy(FROM, TO, 1L);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getDate()).isEqualTo(LocalDate.of(2025, 1, 6));
+        assertThat(result.get(0).getClassCount()).isEqualTo(2);
+        assertThat(result.get(0).getCapacity()).isEqualTo(40);
+        assertThat(result.get(0).getFillRate()).isEqualTo(0.75);
+        assertThat(result.get(1).getFillRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void getHeatmap_shouldGroupBucketsByDayOfWeekAndHour() {
+        when(occupancyFactRepository.sumByBucket(any(), any(), any()))
+                .thenReturn(List.of(
+                        new OccupancyBucketTotals(LocalDateTime.of(2025, 1, 6, 9, 0), 1L, 20L, 10L),
+                        new OccupancyBucketTotals(LocalDateTime.of(2025, 1, 13, 9, 0), 1L, 20L, 20L),
+                        new OccupancyBucketTotals(LocalDateTime.of(2025, 1, 7, 18, 0), 1L, 10L, 1L)));
+
+        List<OccupancyHeatmapCellDTO> result = occupancyAnalyticsService.getHeatmap(FROM, LocalDate.of(2025, 1, 19), null);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getDayOfWeek()).isEqualTo(DayOfWeek.MONDAY);
+        assertThat(result.get(0).getHour()).isEqualTo(9);
+        assertThat(result.get(0).getClassCount()).isEqualTo(2);
+        assertThat(result.get(0).getFillRate()).isEqualTo(0.75);
+        assertThat(result.get(1).getDayOfWeek()).isEqualTo(DayOfWeek.TUESDAY);
+        assertThat(result.get(1).getHour()).isEqualTo(18);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void rebuild_shouldReplaceFactsWithAggregatedClasses() {
+        LocalDateTime start = FROM.atStartOfDay();
+        LocalDateTime end = TO.plusDays(1).atStartOfDay();
+        when(occupancyFactRepository.deleteByBucketRange(start, end)).thenReturn(3);
+        when(trainingClassRepository.findClassOccupancyBetween(start, end)).thenReturn(List.of(
+                new ClassOccupancy(LocalDateTime.of(2025, 1, 6, 9, 0), 1L, 2L, "Yoga", 20, 5L),
+                new ClassOccupancy(LocalDateTime.of(2025, 1, 6, 9, 30), 1L, 2L, "Yoga", 10, 3L),
+                new ClassOccupancy(LocalDateTime.of(2025, 1, 6, 10, 0), null, null, "Boxing", 10, 0L)));
+
+        OccupancyRebuildDTO result = occupancyAnalyticsService.rebuild(FROM, TO);
+
+        assertThat(result.getClassesScanned()).isEqualTo(3);
+        assertThat(result.getFactsWritten()).isEqualTo(2);
+
+        ArgumentCaptor<Iterable<OccupancyFact>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(occupancyFactRepository).saveAll(captor.capture());
+        List<OccupancyFact> facts = new ArrayList<>();
+        captor.getValue().forEach(facts::add);
+
+        assertThat(facts.get(0).getBucketStart()).isEqualTo(LocalDateTime.of(2025, 1, 6, 9, 0));
+        assertThat(facts.get(0).getClassCount()).isEqualTo(2);
+        assertThat(facts.get(0).getCapacity()).isEqualTo(30);
+        assertThat(facts.get(0).getConfirmedCount()).isEqualTo(8);
+        assertThat(facts.get(1).getRoomId()).isZero();
+        assertThat(facts.get(1).getTrainerId()).isZero();
+    }
+
+    @Test
+    void getHeatmap_withInvalidRange_shouldThrowException() {
+        assertThatThrownBy(() -> occupancyAnalyticsService.getHeatmap(TO, FROM, null))
+                .isInstanceOf(InvalidTimeRangeException.class)
+                .hasMessage("End date must be after start date");
+
+        verifyNoInteractions(occupancyFactRepository);
+    }
+}
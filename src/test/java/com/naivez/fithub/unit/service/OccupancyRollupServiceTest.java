@@ -0,0 +1,115 @@
+package com.naivez.fithub.unit.service;
+
+import com.naivez.fithub.analytics.OccupancyDeltaEvent;
+import com.naivez.fithub.analytics.OccupancyKey;
+import com.naivez.fithub.entity.Room;
+import com.naivez.fithub.entity.TrainingClass;
+import com.naivez.fithub.entity.User;
+import com.naivez.fithub.repository.OccupancyFactRepository;
+import com.naivez.fithub.repository.ReservationRepository;
+import com.naivez.fithub.service.OccupancyRollupService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OccupancyRollupServiceTest {
+
+    @Mock
+    private OccupancyFactRepository occupancyFactRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private OccupancyRollupService occupancyRollupService;
+
+    private TrainingClass testClass;
+    private OccupancyKey testKey;
+
+    @BeforeEach
+    void setUp() {
+        testClass = TrainingClass.builder()
+                .id(1L)
+                .name("Yoga")
+                .trainer(User.builder().id(2L).build())
+                .room(Room.builder().id(3L).build())
+                .startTime(LocalDateTime.of(2025, 1, 10, 9, 30))
+                .endTime(LocalDateTime.of(2025, 1, 10, 10, 30))
+                .capacity(20)
+                .build();
+
+        testKey = new OccupancyKey(LocalDateTime.of(2025, 1, 10, 9, 0), 3L, 2L, "Yoga");
+    }
+
+    @Test
+    void reservationConfirmed_shouldPublishConfirmedIncrement() {
+        occupancyRollupService.reservationConfirmed(testClass);
+
+        verify(eventPublisher).publishEvent(new OccupancyDeltaEvent(testKey, 0, 0, 1));
+    }
+
+    @Test
+    void reservationCancelled_shouldPublishConfirmedDecrement() {
+        occupancyRollupService.reservationCancelled(testClass);
+
+        verify(eventPublisher).publishEvent(new OccupancyDeltaEvent(testKey, 0, 0, -1));
+    }
+
+    @Test
+    void classScheduled_shouldPublishClassCapacityAndExistingReservations() {
+        when(reservationRepository.countConfirmedReservationsByClassId(1L)).thenReturn(4L);
+
+        occupancyRollupService.classScheduled(testClass);
+
+        verify(eventPublisher).publishEvent(new OccupancyDeltaEvent(testKey, 1, 20, 4));
+    }
+
+    @Test
+    void classRemoved_withoutTrainerAndRoom_shouldUseNoneKeys() {
+        testClass.setTrainer(null);
+        testClass.setRoom(null);
+        when(reservationRepository.countConfirmedReservationsByClassId(1L)).thenReturn(4L);
+
+        occupancyRollupService.classRemoved(testClass);
+
+        OccupancyKey key = new OccupancyKey(testKey.bucketStart(), OccupancyKey.NONE, OccupancyKey.NONE, "Yoga");
+        verify(eventPublisher).publishEvent(new OccupancyDeltaEvent(key, -1, -20, -4));
+    }
+
+    @Test
+    void applyDelta_shouldUpsertFactInNewTransaction() {
+        occupancyRollupService.applyDelta(new OccupancyDeltaEvent(testKey, 1, 20, 0));
+
+        verify(occupancyFactRepository).upsertDelta(testKey.bucketStart(), 3L, 2L, "Yoga", 1, 20, 0);
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void applyDelta_whenWriteFails_shouldNotPropagate() {
+        when(occupancyFactRepository.upsertDelta(any(), any(), any(), any(), anyInt(), anyInt(), anyInt()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        occupancyRollupService.applyDelta(new OccupancyDeltaEvent(testKey, 0, 0, 1));
+
+        verify(transactionManager).rollback(any());
+    }
+}
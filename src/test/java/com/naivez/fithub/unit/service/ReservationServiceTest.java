@@ -1,22 +1,39 @@
 package com.naivez.fithub.unit.service;
 
+import com.naivez.fithub.admission.ClassSpotReleasedEvent;
+import com.naivez.fithub.analytics.ClassConfirmedCount;
+import com.naivez.fithub.dto.BatchReservationRequest;
+import com.naivez.fithub.dto.BatchReservationResultDTO;
 import com.naivez.fithub.dto.RatingRequest;
 import com.naivez.fithub.dto.ReservationDTO;
+import com.naivez.fithub.dto.ReservationPageDTO;
 import com.naivez.fithub.dto.ReservationRequest;
 import com.naivez.fithub.dto.TrainingClassDTO;
 import com.naivez.fithub.entity.*;
+import com.naivez.fithub.exception.InvalidRequestDataException;
+import com.naivez.fithub.exception.NoActiveMembershipException;
+import com.naivez.fithub.exception.UserNotFoundException;
 import com.naivez.fithub.mapper.ReservationMapper;
 import com.naivez.fithub.mapper.TrainingClassMapper;
 import com.naivez.fithub.repository.ReservationRepository;
 import com.naivez.fithub.repository.TrainingClassRepository;
-import com.naivez.fithub.repository.UserRepository;
+import com.naivez.fithub.security.CurrentUserResolver;
+import com.naivez.fithub.service.MembershipService;
+import com.naivez.fithub.service.NotificationService;
+import com.naivez.fithub.service.OccupancyRollupService;
 import com.naivez.fithub.service.ReservationService;
+import com.naivez.fithub.service.WaitlistService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -24,8 +41,10 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,7 +57,7 @@ class ReservationServiceTest {
     private TrainingClassRepository trainingClassRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private CurrentUserResolver currentUserResolver;
 
     @Mock
     private ReservationMapper reservationMapper;
@@ -46,6 +65,24 @@ class ReservationServiceTest {
     @Mock
     private TrainingClassMapper trainingClassMapper;
 
+    @Mock
+    private MembershipService membershipService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private OccupancyRollupService occupancyRollupService;
+
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -139,8 +176,9 @@ class ReservationServiceTest {
 
     @Test
     void createReservation_withValidRequest_shouldReturnReservationDto() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
-        when(trainingClassRepository.findById(1L)).thenReturn(Optional.of(testClass));
+        when(currentUserResolver.resolve("user1@gmail.com")).thenReturn(testUser);
+        when(membershipService.hasActiveMembership(1L)).thenReturn(true);
+        when(trainingClassRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testClass));
         when(reservationRepository.existsByUserAndTrainingClassAndStatus(testUser, testClass, "CONFIRMED"))
                 .thenReturn(false);
         when(reservationRepository.countConfirmedReservationsByClassId(1L)).thenReturn(5L);
@@ -150,22 +188,94 @@ class ReservationServiceTest {
         ReservationDTO result = reservationService.createReservation("user1@gmail.com", testReservationRequest);
 
         assertThat(result).isEqualTo(testReservationDTO);
-        verify(userRepository).findByEmail("user1@gmail.com");
-        verify(trainingClassRepository).findById(1L);
+        verify(currentUserResolver).resolve("user1@gmail.com");
+        verify(trainingClassRepository).findByIdForUpdate(1L);
         verify(reservationRepository).existsByUserAndTrainingClassAndStatus(testUser, testClass, "CONFIRMED");
         verify(reservationRepository).countConfirmedReservationsByClassId(1L);
         verify(reservationRepository).save(any(Reservation.class));
+        verify(occupancyRollupService).reservationConfirmed(testClass);
+    }
+
+    @Test
+    void createReservations_bestEffort_shouldBookValidClassesAndReportFailures() {
+        TrainingClass fullClass = batchClass(2L, 1);
+        TrainingClass startedClass = batchClass(3L, 10);
+        startedClass.setStartTime(LocalDateTime.now().minusMinutes(5));
+        BatchReservationRequest request = BatchReservationRequest.builder()
+                .trainingClassIds(List.of(3L, 1L, 2L, 1L, 4L))
+                .build();
+
+        when(currentUserResolver.resolve("user1@gmail.com")).thenReturn(testUser);
+        when(membershipService.hasActiveMembership(1L)).thenReturn(true);
+        when(trainingClassRepository.findAllByIdInForUpdate(List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(List.of(testClass, fullClass, startedClass));
+        when(reservationRepository.countConfirmedByClassIds(List.of(1L, 2L, 3L, 4L)))
+                .thenReturn(List.of(new ClassConfirmedCount(1L, 5L), new ClassConfirmedCount(2L, 1L)));
+        when(reservationRepository.findConfirmedClassIdsByUserId(1L, List.of(1L, 2L, 3L, 4L))).thenReturn(List.of());
+        when(reservationRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(reservationMapper.toDto(any(Reservation.class))).thenReturn(testReservationDTO);
+
+        BatchReservationResultDTO result = reservationService.createReservations("user1@gmail.com", request);
+
+        assertThat(result.getConfirmed()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getItems()).extracting("trainingClassId", "status", "message").containsExactly(
+                tuple(1L, "CONFIRMED", null),
+                tuple(2L, "FAILED", "Class is fully booked"),
+                tuple(3L, "FAILED", "Cannot reserve a class that has already started"),
+                tuple(4L, "FAILED", "Training class not found"));
+        verify(currentUserResolver, times(1)).resolve("user1@gmail.com");
+        verify(membershipService, times(1)).hasActiveMembership(1L);
+        verify(reservationRepository).saveAll(argThat(reservations -> reservations.iterator().next().getTrainingClass() == testClass));
+        verify(occupancyRollupService).reservationConfirmed(testClass);
+    }
+
+    @Test
+    void createReservations_allOrNothing_withFailure_shouldBookNothing() {
+        TrainingClass secondClass = batchClass(2L, 10);
+        BatchReservationRequest request = BatchReservationRequest.builder()
+                .trainingClassIds(List.of(1L, 2L))
+                .allOrNothing(true)
+                .build();
+
+        when(currentUserResolver.resolve("user1@gmail.com")).thenReturn(testUser);
+        when(membershipService.hasActiveMembership(1L)).thenReturn(true);
+        when(trainingClassRepository.findAllByIdInForUpdate(List.of(1L, 2L))).thenReturn(List.of(testClass, secondClass));
+        when(reservationRepository.countConfirmedByClassIds(List.of(1L, 2L))).thenReturn(List.of());
+        when(reservationRepository.findConfirmedClassIdsByUserId(1L, List.of(1L, 2L))).thenReturn(List.of(2L));
+
+        BatchReservationResultDTO result = reservationService.createReservations("user1@gmail.com", request);
+
+        assertThat(result.getConfirmed()).isZero();
+        assertThat(result.getItems()).extracting("status").containsExactly("SKIPPED", "FAILED");
+        verify(reservationRepository, never()).saveAll(any());
+        verifyNoInteractions(occupancyRollupService, notificationService);
+    }
+
+    @Test
+    void createReservations_withoutActiveMembership_shouldThrowException() {
+        BatchReservationRequest request = BatchReservationRequest.builder()
+                .trainingClassIds(List.of(1L))
+                .build();
+        when(currentUserResolver.resolve("user1@gmail.com")).thenReturn(testUser);
+        when(membershipService.hasActiveMembership(1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> reservationService.createReservations("user1@gmail.com", request))
+                .isInstanceOf(NoActiveMembershipException.class);
+
+        verifyNoInteractions(trainingClassRepository);
     }
 
     @Test
     void createReservation_whenUserNotFound_shouldThrowException() {
-        when(userRepository.findByEmail("unknown@example.com")).thenReturn(Optional.empty());
+        when(currentUserResolver.resolve("unknown@example.com"))
+                .thenThrow(new UserNotFoundException("User not found with email: " + "unknown@example.com"));
 
         assertThatThrownBy(() -> reservationService.createReservation("unknown@example.com", testReservationRequest))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("User not found");
 
-        verify(userRepository).findByEmail("unknown@example.com");
+        verify(currentUserResolver).resolve("unknown@example.com");
         verify(reservationRepository, never()).save(any());
     }
 
@@ -175,21 +285,23 @@ class ReservationServiceTest {
                 .trainingClassId(999L)
                 .build();
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
-        when(trainingClassRepository.findById(999L)).thenReturn(Optional.empty());
+        when(currentUserResolver.resolve("user1@gmail.com")).thenReturn(testUser);
+        when(membershipService.hasActiveMembership(1L)).thenReturn(true);
+        when(trainingClassRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> reservationService.createReservation("user1@gmail.com", requestWithInvalidClass))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Training class not found");
 
-        verify(trainingClassRepository).findById(999L);
+        verify(trainingClassRepository).findByIdForUpdate(999L);
         verify(reservationRepository, never()).save(any());
     }
 
     @Test
     void createReservation_whenAlreadyReserved_shouldThrowException() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
-        when(trainingClassRepository.findById(1L)).thenReturn(Optional.of(testClass));
+        when(currentUserResolver.resolve("user1@gmail.com")).thenReturn(testUser);
+        when(membershipService.hasActiveMembership(1L)).thenReturn(true);
+        when(trainingClassRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testClass));
         when(reservationRepository.existsByUserAndTrainingClassAndStatus(testUser, testClass, "CONFIRMED"))
                 .thenReturn(true);
 
@@ -199,12 +311,14 @@ class ReservationServiceTest {
 
         verify(reservationRepository).existsByUserAndTrainingClassAndStatus(testUser, testClass, "CONFIRMED");
         verify(reservationRepository, never()).save(any());
+        assertThat(meterRegistry.counter("fithub.reservation.rejections", "reason", "duplicate").count()).isEqualTo(1);
     }
 
     @Test
     void createReservation_whenClassFullyBooked_shouldThrowException() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
-        when(trainingClassRepository.findById(1L)).thenReturn(Optional.of(testClass));
+        when(currentUserResolver.resolve("user1@gmail.com")).thenReturn(testUser);
+        when(membershipService.hasActiveMembership(1L)).thenReturn(true);
+        when(trainingClassRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testClass));
         when(reservationRepository.existsByUserAndTrainingClassAndStatus(testUser, testClass, "CONFIRMED"))
                 .thenReturn(false);
         when(reservationRepository.countConfirmedReservationsByClassId(1L)).thenReturn(10L);
@@ -215,6 +329,7 @@ class ReservationServiceTest {
 
         verify(reservationRepository).countConfirmedReservationsByClassId(1L);
         verify(reservationRepository, never()).save(any());
+        assertThat(meterRegistry.counter("fithub.reservation.rejections", "reason", "class_full").count()).isEqualTo(1);
     }
 
     @Test
@@ -222,19 +337,36 @@ class ReservationServiceTest {
         testClass.setStartTime(LocalDateTime.now().plusHours(5));
         testReservation.setTrainingClass(testClass);
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
 
         reservationService.cancelReservation("user1@gmail.com", 1L);
 
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolveId("user1@gmail.com");
         verify(reservationRepository).findById(1L);
         verify(reservationRepository).save(argThat(r -> "CANCELLED".equals(r.getStatus())));
+        verify(occupancyRollupService).reservationCancelled(testClass);
+        verify(waitlistService).promoteNext(1L);
+        verify(eventPublisher).publishEvent(new ClassSpotReleasedEvent(1L));
+    }
+
+    @Test
+    void cancelReservation_whenWaitlistPromoted_shouldKeepAdmissionClosed() {
+        testClass.setStartTime(LocalDateTime.now().plusHours(5));
+        testReservation.setTrainingClass(testClass);
+
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
+        when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
+        when(waitlistService.promoteNext(1L)).thenReturn(Optional.of(Reservation.builder().status("CONFIRMED").build()));
+
+        reservationService.cancelReservation("user1@gmail.com", 1L);
+
+        verify(eventPublisher, never()).publishEvent(any(ClassSpotReleasedEvent.class));
     }
 
     @Test
     void cancelReservation_whenReservationNotFound_shouldThrowException() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(reservationRepository.findById(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> reservationService.cancelReservation("user1@gmail.com", 999L))
@@ -253,7 +385,7 @@ class ReservationServiceTest {
                 .build();
         testReservation.setUser(otherUser);
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
 
         assertThatThrownBy(() -> reservationService.cancelReservation("user1@gmail.com", 1L))
@@ -268,7 +400,7 @@ class ReservationServiceTest {
         testClass.setStartTime(LocalDateTime.now().plusMinutes(90));
         testReservation.setTrainingClass(testClass);
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
 
         assertThatThrownBy(() -> reservationService.cancelReservation("user1@gmail.com", 1L))
@@ -284,7 +416,7 @@ class ReservationServiceTest {
         testReservation.setTrainingClass(testClass);
         testClass.getReservations().add(testReservation);
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
         when(trainingClassRepository.findById(1L)).thenReturn(Optional.of(testClass));
 
@@ -301,7 +433,7 @@ class ReservationServiceTest {
         testClass.setEndTime(LocalDateTime.now().plusHours(1));
         testReservation.setTrainingClass(testClass);
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
 
         assertThatThrownBy(() -> reservationService.rateClass("user1@gmail.com", 1L, testRatingRequest))
@@ -313,7 +445,7 @@ class ReservationServiceTest {
 
     @Test
     void getMyReservations_shouldReturnUserReservations() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(reservationRepository.findByUserWithTrainingClass(1L)).thenReturn(List.of(testReservation));
         when(reservationMapper.toDto(testReservation)).thenReturn(testReservationDTO);
 
@@ -321,14 +453,14 @@ class ReservationServiceTest {
 
         assertThat(result).hasSize(1);
         assertThat(result.get(0)).isEqualTo(testReservationDTO);
-        verify(userRepository).findByEmail("user1@gmail.com");
+        verify(currentUserResolver).resolveId("user1@gmail.com");
         verify(reservationRepository).findByUserWithTrainingClass(1L);
         verify(reservationMapper).toDto(testReservation);
     }
 
     @Test
     void getMyReservations_whenNoReservations_shouldReturnEmptyList() {
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(reservationRepository.findByUserWithTrainingClass(1L)).thenReturn(List.of());
 
         List<ReservationDTO> result = reservationService.getMyReservations("user1@gmail.com");
@@ -339,217 +471,100 @@ class ReservationServiceTest {
     }
 
     @Test
-    void getUpcomingReservations_shouldReturnOnlyUpcomingConfirmedReservations() {
-        LocalDateTime now = LocalDateTime.now();
-
-        Reservation upcomingReservation = Reservation.builder()
-                .id(2L)
-                .user(testUser)
-                .trainingClass(testClass)
-                .reservationDate(now.minusDays(1))
-                .status("CONFIRMED")
-                .build();
-
-        TrainingClass pastClass = TrainingClass.builder()
-                .id(2L)
-                .name("Past Class")
-                .startTime(now.minusHours(2))
-                .endTime(now.minusHours(1))
-                .capacity(10)
-                .build();
-
-        Reservation pastReservation = Reservation.builder()
+    void getUpcomingReservations_firstPage_shouldQueryFromNowAndReturnNextCursor() {
+        Reservation second = Reservation.builder()
                 .id(3L)
                 .user(testUser)
-                .trainingClass(pastClass)
-                .reservationDate(now.minusDays(1))
+                .trainingClass(testClass)
+                .classStartTime(testClass.getStartTime().plusDays(1))
                 .status("CONFIRMED")
                 .build();
-
-        Reservation cancelledReservation = Reservation.builder()
+        Reservation third = Reservation.builder()
                 .id(4L)
                 .user(testUser)
                 .trainingClass(testClass)
-                .reservationDate(now.minusDays(1))
-                .status("CANCELLED")
-                .build();
-
-        ReservationDTO upcomingDTO = ReservationDTO.builder()
-                .id(2L)
-                .trainingClassId(1L)
-                .className("trainingClass1")
-                .reservationDate(now.minusDays(1))
+                .classStartTime(testClass.getStartTime().plusDays(2))
                 .status("CONFIRMED")
-                .classStartTime(testClass.getStartTime())
-                .classEndTime(testClass.getEndTime())
-                .build();
-
-        ReservationDTO pastDTO = ReservationDTO.builder()
-                .id(3L)
-                .trainingClassId(2L)
-                .className("Past Class")
-                .reservationDate(now.minusDays(1))
-                .status("CONFIRMED")
-                .classStartTime(pastClass.getStartTime())
-                .classEndTime(pastClass.getEndTime())
-                .build();
-
-        ReservationDTO cancelledDTO = ReservationDTO.builder()
-                .id(4L)
-                .trainingClassId(1L)
-                .className("trainingClass1")
-                .reservationDate(now.minusDays(1))
-                .status("CANCELLED")
-                .classStartTime(testClass.getStartTime())
-                .classEndTime(testClass.getEndTime())
                 .build();
+        testReservation.setClassStartTime(testClass.getStartTime());
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
-        when(reservationRepository.findByUserWithTrainingClass(1L))
-                .thenReturn(List.of(upcomingReservation, pastReservation, cancelledReservation));
-        when(reservationMapper.toDto(upcomingReservation)).thenReturn(upcomingDTO);
-        when(reservationMapper.toDto(pastReservation)).thenReturn(pastDTO);
-        when(reservationMapper.toDto(cancelledReservation)).thenReturn(cancelledDTO);
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
+        when(reservationRepository.findUpcomingByUserId(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class),
+                eq(Long.MAX_VALUE), eq(Limit.of(3))))
+                .thenReturn(List.of(testReservation, second, third));
+        when(reservationMapper.toDto(testReservation)).thenReturn(testReservationDTO);
+        when(reservationMapper.toDto(second)).thenReturn(ReservationDTO.builder().id(3L).build());
 
-        List<ReservationDTO> result = reservationService.getUpcomingReservations("user1@gmail.com");
+        ReservationPageDTO result = reservationService.getUpcomingReservations("user1@gmail.com", null, 2);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getId()).isEqualTo(2L);
-        assertThat(result.get(0).getStatus()).isEqualTo("CONFIRMED");
-        assertThat(result.get(0).getClassStartTime()).isAfter(now);
+        assertThat(result.getReservations()).extracting(ReservationDTO::getId).containsExactly(1L, 3L);
+        assertThat(result.getNextCursor()).isNotNull();
+        verify(reservationMapper, never()).toDto(third);
+        verify(reservationRepository, never()).findByUserWithTrainingClass(any());
     }
 
     @Test
-    void getUpcomingReservations_whenNoUpcomingReservations_shouldReturnEmptyList() {
-        LocalDateTime now = LocalDateTime.now();
-
-        TrainingClass pastClass = TrainingClass.builder()
-                .id(2L)
-                .name("Past Class")
-                .startTime(now.minusHours(2))
-                .endTime(now.minusHours(1))
-                .capacity(10)
-                .build();
-
-        Reservation pastReservation = Reservation.builder()
+    void getUpcomingReservations_withCursor_shouldContinueAfterLastReturnedReservation() {
+        Reservation last = Reservation.builder()
                 .id(3L)
+                .classStartTime(LocalDateTime.of(2030, 1, 15, 18, 30))
+                .build();
+        Reservation next = Reservation.builder()
+                .id(5L)
                 .user(testUser)
-                .trainingClass(pastClass)
-                .reservationDate(now.minusDays(1))
+                .trainingClass(testClass)
+                .classStartTime(LocalDateTime.of(2030, 1, 16, 9, 0))
                 .status("CONFIRMED")
                 .build();
 
-        ReservationDTO pastDTO = ReservationDTO.builder()
-                .id(3L)
-                .trainingClassId(2L)
-                .className("Past Class")
-                .reservationDate(now.minusDays(1))
-                .status("CONFIRMED")
-                .classStartTime(pastClass.getStartTime())
-                .classEndTime(pastClass.getEndTime())
-                .build();
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
+        when(reservationRepository.findUpcomingByUserId(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class),
+                eq(Long.MAX_VALUE), eq(Limit.of(2))))
+                .thenReturn(List.of(last, next));
+        when(reservationMapper.toDto(last)).thenReturn(ReservationDTO.builder().id(3L).build());
+        String cursor = reservationService.getUpcomingReservations("user1@gmail.com", null, 1).getNextCursor();
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
-        when(reservationRepository.findByUserWithTrainingClass(1L))
-                .thenReturn(List.of(pastReservation));
-        when(reservationMapper.toDto(pastReservation)).thenReturn(pastDTO);
+        when(reservationRepository.findUpcomingByUserId(eq(1L), any(LocalDateTime.class),
+                eq(LocalDateTime.of(2030, 1, 15, 18, 30)), eq(3L), eq(Limit.of(2))))
+                .thenReturn(List.of(next));
+        when(reservationMapper.toDto(next)).thenReturn(ReservationDTO.builder().id(5L).build());
 
-        List<ReservationDTO> result = reservationService.getUpcomingReservations("user1@gmail.com");
+        ReservationPageDTO result = reservationService.getUpcomingReservations("user1@gmail.com", cursor, 1);
 
-        assertThat(result).isEmpty();
+        assertThat(result.getReservations()).extracting(ReservationDTO::getId).containsExactly(5L);
+        assertThat(result.getNextCursor()).isNull();
     }
 
     @Test
-    void getPastReservations_shouldReturnOnlyPastReservations() {
-        LocalDateTime now = LocalDateTime.now();
+    void getUpcomingReservations_withMalformedCursor_shouldThrowException() {
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
 
-        TrainingClass pastClass = TrainingClass.builder()
-                .id(2L)
-                .name("Past Class")
-                .startTime(now.minusHours(3))
-                .endTime(now.minusHours(2))
-                .capacity(10)
-                .build();
-
-        Reservation pastReservation = Reservation.builder()
-                .id(3L)
-                .user(testUser)
-                .trainingClass(pastClass)
-                .reservationDate(now.minusDays(1))
-                .status("CONFIRMED")
-                .build();
-
-        Reservation upcomingReservation = Reservation.builder()
-                .id(2L)
-                .user(testUser)
-                .trainingClass(testClass)
-                .reservationDate(now.minusDays(1))
-                .status("CONFIRMED")
-                .build();
-
-        ReservationDTO pastDTO = ReservationDTO.builder()
-                .id(3L)
-                .trainingClassId(2L)
-                .className("Past Class")
-                .reservationDate(now.minusDays(1))
-                .status("CONFIRMED")
-                .classStartTime(pastClass.getStartTime())
-                .classEndTime(pastClass.getEndTime())
-                .build();
-
-        ReservationDTO upcomingDTO = ReservationDTO.builder()
-                .id(2L)
-                .trainingClassId(1L)
-                .className("trainingClass1")
-                .reservationDate(now.minusDays(1))
-                .status("CONFIRMED")
-                .classStartTime(testClass.getStartTime())
-                .classEndTime(testClass.getEndTime())
-                .build();
-
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
-        when(reservationRepository.findByUserWithTrainingClass(1L))
-                .thenReturn(List.of(pastReservation, upcomingReservation));
-        when(reservationMapper.toDto(pastReservation)).thenReturn(pastDTO);
-        when(reservationMapper.toDto(upcomingReservation)).thenReturn(upcomingDTO);
-
-        List<ReservationDTO> result = reservationService.getPastReservations("user1@gmail.com");
-
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getId()).isEqualTo(3L);
-        assertThat(result.get(0).getClassEndTime()).isBefore(now);
+        assertThatThrownBy(() -> reservationService.getUpcomingReservations("user1@gmail.com", "not-a-cursor", 20))
+                .isInstanceOf(InvalidRequestDataException.class);
+        verify(reservationRepository, never()).findUpcomingByUserId(any(), any(), any(), any(), any());
     }
 
     @Test
-    void getPastReservations_whenNoPastReservations_shouldReturnEmptyList() {
-        LocalDateTime now = LocalDateTime.now();
-
-        Reservation upcomingReservation = Reservation.builder()
-                .id(2L)
-                .user(testUser)
-                .trainingClass(testClass)
-                .reservationDate(now.minusDays(1))
-                .status("CONFIRMED")
-                .build();
+    void getPastReservations_shouldReturnPageWithoutNextCursorWhenExhausted() {
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
+        when(reservationRepository.findPastByUserId(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class),
+                eq(Long.MAX_VALUE), eq(Limit.of(21))))
+                .thenReturn(List.of(testReservation));
+        when(reservationMapper.toDto(testReservation)).thenReturn(testReservationDTO);
 
-        ReservationDTO upcomingDTO = ReservationDTO.builder()
-                .id(2L)
-                .trainingClassId(1L)
-                .className("trainingClass1")
-                .reservationDate(now.minusDays(1))
-                .status("CONFIRMED")
-                .classStartTime(testClass.getStartTime())
-                .classEndTime(testClass.getEndTime())
-                .build();
+        ReservationPageDTO result = reservationService.getPastReservations("user1@gmail.com", null, 20);
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
-        when(reservationRepository.findByUserWithTrainingClass(1L))
-                .thenReturn(List.of(upcomingReservation));
-        when(reservationMapper.toDto(upcomingReservation)).thenReturn(upcomingDTO);
+        assertThat(result.getReservations()).containsExactly(testReservationDTO);
+        assertThat(result.getNextCursor()).isNull();
+    }
 
-        List<ReservationDTO> result = reservationService.getPastReservations("user1@gmail.com");
+    @Test
+    void getPastReservations_withInvalidPageSize_shouldThrowException() {
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
 
-        assertThat(result).isEmpty();
+        assertThatThrownBy(() -> reservationService.getPastReservations("user1@gmail.com", null, 101))
+                .isInstanceOf(InvalidRequestDataException.class)
+                .hasMessageContaining("between 1 and 100");
     }
 
     @Test
@@ -558,7 +573,7 @@ class ReservationServiceTest {
         testReservation.setTrainingClass(testClass);
         testReservation.setStatus("CANCELLED");
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
 
         assertThatThrownBy(() -> reservationService.cancelReservation("user1@gmail.com", 1L))
@@ -573,7 +588,7 @@ class ReservationServiceTest {
         testClass.setStartTime(LocalDateTime.now().minusHours(1));
         testReservation.setTrainingClass(testClass);
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
 
         assertThatThrownBy(() -> reservationService.cancelReservation("user1@gmail.com", 1L))
@@ -589,7 +604,7 @@ class ReservationServiceTest {
         testReservation.setTrainingClass(testClass);
         testReservation.setStatus("CANCELLED");
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
         when(reservationRepository.findById(1L)).thenReturn(Optional.of(testReservation));
 
         assertThatThrownBy(() -> reservationService.rateClass("user1@gmail.com", 1L, testRatingRequest))
@@ -603,8 +618,9 @@ class ReservationServiceTest {
     void createReservation_whenClassAlreadyStarted_shouldThrowException() {
         testClass.setStartTime(LocalDateTime.now().minusHours(1));
 
-        when(userRepository.findByEmail("user1@gmail.com")).thenReturn(Optional.of(testUser));
-        when(trainingClassRepository.findById(1L)).thenReturn(Optional.of(testClass));
+        when(currentUserResolver.resolve("user1@gmail.com")).thenReturn(testUser);
+        when(membershipService.hasActiveMembership(1L)).thenReturn(true);
+        when(trainingClassRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testClass));
 
         assertThatThrownBy(() -> reservationService.createReservation("user1@gmail.com", testReservationRequest))
                 .isInstanceOf(RuntimeException.class)
@@ -612,4 +628,15 @@ class ReservationServiceTest {
 
         verify(reservationRepository, never()).save(any());
     }
-}
\ No newline at end of file
+
+    private TrainingClass batchClass(Long id, int capacity) {
+        return TrainingClass.builder()
+                .id(id)
+                .name("trainingClass" + id)
+                .startTime(LocalDateTime.now().plusDays(id))
+                .endTime(LocalDateTime.now().plusDays(id).plusHours(1))
+                .capacity(capacity)
+                .reservations(new HashSet<>())
+                .build();
+    }
+}
@@ -0,0 +1,168 @@
+package com.naivez.fithub.unit.service;
+
+import com.naivez.fithub.analytics.MembershipActiveTotals;
+import com.naivez.fithub.analytics.MembershipPurchaseTotals;
+import com.naivez.fithub.dto.RevenueDailyDTO;
+import com.naivez.fithub.dto.RevenueRebuildDTO;
+import com.naivez.fithub.dto.RevenueSummaryDTO;
+import com.naivez.fithub.entity.MembershipDailyFact;
+import com.naivez.fithub.exception.InvalidTimeRangeException;
+import com.naivez.fithub.repository.MembershipDailyFactRepository;
+import com.naivez.fithub.repository.MembershipRepository;
+import com.naivez.fithub.service.MembershipService;
+import com.naivez.fithub.service.RevenueAnalyticsService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevenueAnalyticsServiceTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 1, 31);
+
+    @Mock
+    private MembershipDailyFactRepository membershipDailyFactRepository;
+
+    @Mock
+    private MembershipRepository membershipRepository;
+
+    @Mock
+    private MembershipService membershipService;
+
+    @InjectMocks
+    private RevenueAnalyticsService revenueAnalyticsService;
+
+    @Test
+    void getDailyRevenue_shouldSumTypesPerDay() {
+        when(membershipDailyFactRepository.findByFactDateBetweenOrderByFactDateAsc(FROM, TO)).thenReturn(List.of(
+                fact(LocalDate.of(2025, 1, 2), "MONTHLY", 2, "199.98", 1, "99.99", 10, "999.90"),
+                fact(LocalDate.of(2025, 1, 2), "ANNUAL", 1, "899.99", 0, "0", 5, "369.85"),
+                fact(LocalDate.of(2025, 1, 3), "MONTHLY", 1, "99.99", 0, "0", 11, "1099.89")));
+
+        List<RevenueDailyDTO> result = revenueAnalyticsService.getDailyRevenue(FROM, TO);
+
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).getPurchaseCount()).isEqualTo(3);
+        assertThat(result.get(0).getRenewalCount()).isEqualTo(1);
+        assertThat(result.get(0).getRevenue()).isEqualByComparingTo("1199.96");
+        assertThat(result.get(0).getActiveMembers()).isEqualTo(15);
+        assertThat(result.get(0).getMrr()).isEqualByComparingTo("1369.75");
+        assertThat(result.get(1).getRevenue()).isEqualByComparingTo("99.99");
+    }
+
+    @Test
+    void getRevenueSummary_shouldReturnTotalsTypeMixAndLatestMrr() {
+        LocalDate snapshotDate = LocalDate.of(2025, 1, 30);
+        when(membershipDailyFactRepository.findByFactDateBetweenOrderByFactDateAsc(FROM, TO)).thenReturn(List.of(
+                fact(LocalDate.of(2025, 1, 2), "MONTHLY", 3, "300.00", 1, "100.00", 0, "0"),
+                fact(LocalDate.of(2025, 1, 5), "ANNUAL", 1, "600.00", 0, "0", 0, "0")));
+        when(membershipDailyFactRepository.findLatestSnapshotDate(TO)).thenReturn(Optional.of(snapshotDate));
+        when(membershipDailyFactRepository.findByFactDate(snapshotDate)).thenReturn(List.of(
+                fact(snapshotDate, "MONTHLY", 0, "0", 0, "0", 10, "1000.00"),
+                fact(snapshotDate, "ANNUAL", 0, "0", 0, "0", 4, "200.00")));
+
+        RevenueSummaryDTO result = revenueAnalyticsService.getRevenueSummary(FROM, TO);
+
+        assertThat(result.getTotalRevenue()).isEqualByComparingTo("1000.00");
+        assertThat(result.getPurchaseCount()).isEqualTo(4);
+        assertThat(result.getRenewalCount()).isEqualTo(1);
+        assertThat(result.getRenewalRate()).isEqualTo(0.2);
+        assertThat(result.getSnapshotDate()).isEqualTo(snapshotDate);
+        assertThat(result.getActiveMembers()).isEqualTo(14);
+        assertThat(result.getMrr()).isEqualByComparingTo("1200.00");
+        assertThat(result.getTypeMix()).hasSize(2);
+        assertThat(result.getTypeMix().get(0).getType()).isEqualTo("ANNUAL");
+        assertThat(result.getTypeMix().get(0).getRevenueShare()).isEqualTo(0.6);
+        assertThat(result.getTypeMix().get(1).getRevenueShare()).isEqualTo(0.4);
+    }
+
+    @Test
+    void getRevenueSummary_withoutSnapshot_shouldReturnZeroMrr() {
+        when(membershipDailyFactRepository.findByFactDateBetweenOrderByFactDateAsc(FROM, TO)).thenReturn(List.of());
+        when(membershipDailyFactRepository.findLatestSnapshotDate(TO)).thenReturn(Optional.empty());
+
+        RevenueSummaryDTO result = revenueAnalyticsService.getRevenueSummary(FROM, TO);
+
+        assertThat(result.getTotalRevenue()).isEqualByComparingTo("0");
+        assertThat(result.getMrr()).isEqualByComparingTo("0");
+        assertThat(result.getRenewalRate()).isZero();
+        verify(membershipDailyFactRepository, never()).findByFactDate(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void rebuild_shouldRecomputePurchasesAndSnapshotsButKeepRenewals() {
+        LocalDate day = LocalDate.of(2025, 1, 2);
+        MembershipDailyFact existing = fact(day, "MONTHLY", 7, "700.00", 2, "199.98", 50, "5000.00");
+        when(membershipDailyFactRepository.findByFactDateBetweenOrderByFactDateAsc(day, day))
+                .thenReturn(new ArrayList<>(List.of(existing)));
+        when(membershipRepository.sumPurchasesByDateAndType(day, day)).thenReturn(List.of(
+                new MembershipPurchaseTotals(day, "MONTHLY", 3L, new BigDecimal("299.97")),
+                new MembershipPurchaseTotals(day, "ANNUAL", 1L, new BigDecimal("899.99"))));
+        when(membershipRepository.sumActiveByType(day)).thenReturn(List.of(
+                new MembershipActiveTotals("MONTHLY", 12L, new BigDecimal("1199.88"))));
+        when(membershipService.monthlyRecurringRevenue("MONTHLY", new BigDecimal("1199.88")))
+                .thenReturn(new BigDecimal("1199.88"));
+
+        RevenueRebuildDTO result = revenueAnalyticsService.rebuild(day, day);
+
+        assertThat(result.getFactsWritten()).isEqualTo(2);
+        assertThat(result.getSnapshotDays()).isEqualTo(1);
+        assertThat(existing.getPurchaseCount()).isEqualTo(3);
+        assertThat(existing.getPurchaseRevenue()).isEqualByComparingTo("299.97");
+        assertThat(existing.getRenewalCount()).isEqualTo(2);
+        assertThat(existing.getRenewalRevenue()).isEqualByComparingTo("199.98");
+        assertThat(existing.getActiveMembers()).isEqualTo(12);
+        assertThat(existing.getMrr()).isEqualByComparingTo("1199.88");
+        assertThat(existing.isSnapshot()).isTrue();
+
+        ArgumentCaptor<Iterable<MembershipDailyFact>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(membershipDailyFactRepository).saveAll(captor.capture());
+        List<MembershipDailyFact> saved = new ArrayList<>();
+        captor.getValue().forEach(saved::add);
+        assertThat(saved).extracting(MembershipDailyFact::getMembershipType).containsExactlyInAnyOrder("MONTHLY", "ANNUAL");
+        assertThat(saved).filteredOn(fact -> "ANNUAL".equals(fact.getMembershipType()))
+                .singleElement()
+                .satisfies(fact -> {
+                    assertThat(fact.getActiveMembers()).isZero();
+                    assertThat(fact.isSnapshot()).isTrue();
+                });
+    }
+
+    @Test
+    void getDailyRevenue_withInvalidRange_shouldThrowException() {
+        assertThatThrownBy(() -> revenueAnalyticsService.getDailyRevenue(TO, FROM))
+                .isInstanceOf(InvalidTimeRangeException.class);
+
+        verifyNoInteractions(membershipDailyFactRepository);
+    }
+
+    private MembershipDailyFact fact(LocalDate date, String type, int purchases, String purchaseRevenue,
+                                     int renewals, String renewalRevenue, int activeMembers, String mrr) {
+        return MembershipDailyFact.builder()
+                .factDate(date)
+                .membershipType(type)
+                .purchaseCount(purchases)
+                .purchaseRevenue(new BigDecimal(purchaseRevenue))
+                .renewalCount(renewals)
+                .renewalRevenue(new BigDecimal(renewalRevenue))
+                .activeMembers(activeMembers)
+                .mrr(new BigDecimal(mrr))
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.naivez.fithub.unit.service;
+
+import com.naivez.fithub.analytics.RevenueDeltaEvent;
+import com.naivez.fithub.entity.Membership;
+import com.naivez.fithub.repository.MembershipDailyFactRepository;
+import com.naivez.fithub.service.RevenueRollupService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevenueRollupServiceTest {
+
+    @Mock
+    private MembershipDailyFactRepository membershipDailyFactRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private RevenueRollupService revenueRollupService;
+
+    @Test
+    void membershipPurchased_startingToday_shouldCountPurchaseAndActiveMember() {
+        Membership membership = Membership.builder()
+                .type("MONTHLY")
+                .startDate(LocalDate.now())
+                .price(new BigDecimal("99.99"))
+                .build();
+
+        revenueRollupService.membershipPurchased(membership, new BigDecimal("99.99"));
+
+        verify(eventPublisher).publishEvent(new RevenueDeltaEvent(
+                LocalDate.now(), "MONTHLY", 1, new BigDecimal("99.99"), 0, BigDecimal.ZERO, 1, new BigDecimal("99.99")));
+    }
+
+    @Test
+    void membershipPurchased_startingInFuture_shouldNotCountActiveMember() {
+        LocalDate startDate = LocalDate.now().plusDays(3);
+        Membership membership = Membership.builder()
+                .type("ANNUAL")
+                .startDate(startDate)
+                .price(new BigDecimal("899.99"))
+                .build();
+
+        revenueRollupService.membershipPurchased(membership, new BigDecimal("73.97"));
+
+        verify(eventPublisher).publishEvent(new RevenueDeltaEvent(
+                startDate, "ANNUAL", 1, new BigDecimal("899.99"), 0, BigDecimal.ZERO, 0, BigDecimal.ZERO));
+    }
+
+    @Test
+    void membershipRenewed_shouldCountRenewalRevenueToday() {
+        revenueRollupService.membershipRenewed("QUARTERLY", new BigDecimal("249.99"));
+
+        verify(eventPublisher).publishEvent(new RevenueDeltaEvent(
+                LocalDate.now(), "QUARTERLY", 0, BigDecimal.ZERO, 1, new BigDecimal("249.99"), 0, BigDecimal.ZERO));
+    }
+
+    @Test
+    void applyDelta_shouldUpsertFactInNewTransaction() {
+        RevenueDeltaEvent event = new RevenueDeltaEvent(
+                LocalDate.of(2025, 1, 6), "MONTHLY", 1, new BigDecimal("99.99"), 0, BigDecimal.ZERO, 1, new BigDecimal("99.99"));
+
+        revenueRollupService.applyDelta(event);
+
+        verify(membershipDailyFactRepository).upsertDelta(LocalDate.of(2025, 1, 6), "MONTHLY", 1, new BigDecimal("99.99"),
+                0, BigDecimal.ZERO, 1, new BigDecimal("99.99"));
+        verify(transactionManager).commit(any());
+    }
+}
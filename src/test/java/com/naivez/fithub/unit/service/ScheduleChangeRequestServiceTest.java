@@ -3,10 +3,15 @@ package com.naivez.fithub.unit.service;
 import com.naivez.fithub.dto.ReviewScheduleChangeRequest;
 import com.naivez.fithub.dto.ScheduleChangeRequestDTO;
 import com.naivez.fithub.entity.*;
+import com.naivez.fithub.exception.InvalidStatusException;
 import com.naivez.fithub.mapper.ScheduleChangeRequestMapper;
+import com.naivez.fithub.repository.ReservationRepository;
 import com.naivez.fithub.repository.ScheduleChangeRequestRepository;
 import com.naivez.fithub.repository.TrainingClassRepository;
 import com.naivez.fithub.repository.UserRepository;
+import com.naivez.fithub.service.ClassCancellationService;
+import com.naivez.fithub.service.NotificationService;
+import com.naivez.fithub.service.OccupancyRollupService;
 import com.naivez.fithub.service.ScheduleChangeRequestService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,12 +40,24 @@ class ScheduleChangeRequestServiceTest {
     @Mock
     private TrainingClassRepository trainingClassRepository;
 
+    @Mock
+    private ReservationRepository reservationRepository;
+
     @Mock
     private UserRepository userRepository;
 
     @Mock
     private ScheduleChangeRequestMapper scheduleChangeRequestMapper;
 
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private OccupancyRollupService occupancyRollupService;
+
+    @Mock
+    private ClassCancellationService classCancellationService;
+
     @InjectMocks
     private ScheduleChangeRequestService scheduleChangeRequestService;
 
@@ -199,6 +216,7 @@ class ScheduleChangeRequestServiceTest {
         when(scheduleChangeRequestRepository.findById(1L)).thenReturn(Optional.of(scheduleChangeRequest));
         when(userRepository.findByEmail("admin@gmail.com")).thenReturn(Optional.of(admin));
         when(scheduleChangeRequestRepository.save(any(ScheduleChangeRequest.class))).thenReturn(scheduleChangeRequest);
+        when(trainingClassRepository.findByIdForUpdate(trainingClass.getId())).thenReturn(Optional.of(trainingClass));
         when(trainingClassRepository.save(any(TrainingClass.class))).thenReturn(trainingClass);
         when(scheduleChangeRequestMapper.toDto(scheduleChangeRequest)).thenReturn(scheduleChangeRequestDTO);
 
@@ -216,6 +234,22 @@ class ScheduleChangeRequestServiceTest {
         verify(trainingClassRepository).save(any(TrainingClass.class));
     }
 
+    @Test
+    void reviewScheduleChangeRequest_forModifyOfCancelledClass_shouldThrowException() {
+        trainingClass.setStatus("CANCELLED");
+        when(scheduleChangeRequestRepository.findById(1L)).thenReturn(Optional.of(scheduleChangeRequest));
+        when(userRepository.findByEmail("admin@gmail.com")).thenReturn(Optional.of(admin));
+        when(trainingClassRepository.findByIdForUpdate(trainingClass.getId())).thenReturn(Optional.of(trainingClass));
+
+        assertThatThrownBy(() -> scheduleChangeRequestService.reviewScheduleChangeRequest(1L, "admin@gmail.com", reviewRequest))
+                .isInstanceOf(InvalidStatusException.class)
+                .hasMessage("Training class is already cancelled");
+
+        verify(occupancyRollupService, never()).classRemoved(any());
+        verify(reservationRepository, never()).updateClassStartTime(any(), any());
+        verify(trainingClassRepository, never()).save(any());
+    }
+
     @Test
     void reviewScheduleChangeRequest_withRejection_shouldRejectWithoutUpdatingClass() {
         ReviewScheduleChangeRequest rejectRequest = ReviewScheduleChangeRequest.builder()
@@ -288,7 +322,7 @@ class ScheduleChangeRequestServiceTest {
     }
 
     @Test
-    void reviewScheduleChangeRequest_forCancelRequest_shouldDeleteClass() {
+    void reviewScheduleChangeRequest_forCancelRequest_shouldCancelClass() {
         ScheduleChangeRequest cancelRequest = ScheduleChangeRequest.builder()
                 .id(1L)
                 .trainer(trainer)
@@ -301,13 +335,16 @@ class ScheduleChangeRequestServiceTest {
 
         when(scheduleChangeRequestRepository.findById(1L)).thenReturn(Optional.of(cancelRequest));
         when(userRepository.findByEmail("admin@gmail.com")).thenReturn(Optional.of(admin));
+        when(trainingClassRepository.findByIdForUpdate(trainingClass.getId())).thenReturn(Optional.of(trainingClass));
         when(scheduleChangeRequestRepository.save(any(ScheduleChangeRequest.class))).thenReturn(cancelRequest);
         when(scheduleChangeRequestMapper.toDto(cancelRequest)).thenReturn(scheduleChangeRequestDTO);
 
         ScheduleChangeRequestDTO result = scheduleChangeRequestService.reviewScheduleChangeRequest(1L, "admin@gmail.com", reviewRequest);
 
         assertThat(result).isEqualTo(scheduleChangeRequestDTO);
-        verify(trainingClassRepository).deleteById(1L);
+        verify(trainingClassRepository).findByIdForUpdate(trainingClass.getId());
+        verify(classCancellationService).cancelClass(trainingClass);
+        verify(trainingClassRepository, never()).deleteById(any());
     }
 
     @Test
@@ -0,0 +1,210 @@
+package com.naivez.fithub.unit.service;
+
+import com.naivez.fithub.dashboard.*;
+import com.naivez.fithub.dbtiming.DbTimingContext;
+import com.naivez.fithub.dbtiming.RequestDbTiming;
+import com.naivez.fithub.dto.TrainerDashboardDTO;
+import com.naivez.fithub.repository.*;
+import com.naivez.fithub.security.CurrentUserResolver;
+import com.naivez.fithub.service.TrainerDashboardService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrainerDashboardServiceTest {
+
+    private static final String TRAINER_EMAIL = "trainer1@gmail.com";
+    private static final Long TRAINER_ID = 1L;
+
+    @Mock
+    private TrainingClassRepository trainingClassRepository;
+
+    @Mock
+    private PersonalTrainingSessionRepository personalTrainingSessionRepository;
+
+    @Mock
+    private ScheduleChangeRequestRepository scheduleChangeRequestRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private CurrentUserResolver currentUserResolver;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DashboardWorkerPool workerPool;
+    private TrainerDashboardService trainerDashboardService;
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        workerPool = new DashboardWorkerPool(6, 12);
+        trainerDashboardService = new TrainerDashboardService(trainingClassRepository,
+                personalTrainingSessionRepository, scheduleChangeRequestRepository, reservationRepository,
+                notificationRepository, currentUserResolver, workerPool, meterRegistry, entityManager, transactionManager, 200);
+        date = LocalDate.of(2025, 3, 10);
+
+        when(currentUserResolver.resolveId(TRAINER_EMAIL)).thenReturn(TRAINER_ID);
+    }
+
+    @AfterEach
+    void tearDown() {
+        workerPool.shutdown();
+        DbTimingContext.end();
+    }
+
+    @Test
+    void getDashboard_shouldAssembleAllSections() {
+        stubAllSections();
+
+        TrainerDashboardDTO result = trainerDashboardService.getDashboard(TRAINER_EMAIL, date);
+
+        assertThat(result.getDate()).isEqualTo(date);
+        assertThat(result.getWeeklySchedule()).hasSize(2);
+        assertThat(result.getDailySchedule()).singleElement()
+                .satisfies(trainingClass -> {
+                    assertThat(trainingClass.getName()).isEqualTo("trainingClass1");
+                    assertThat(trainingClass.getTrainerName()).isEqualTo("trainer1 trainer1");
+                    assertThat(trainingClass.getAvailableSpots()).isEqualTo(12);
+                });
+        assertThat(result.getPersonalSessions()).singleElement()
+                .satisfies(session -> assertThat(session.getClientName()).isEqualTo("user1 user1"));
+        assertThat(result.getPendingChangeRequests()).singleElement()
+                .satisfies(request -> assertThat(request.getRequestedRoomName()).isEqualTo("room1"));
+        assertThat(result.getClients()).singleElement()
+                .satisfies(client -> assertThat(client.getEmail()).isEqualTo("user1@gmail.com"));
+        assertThat(result.getUnreadNotifications()).singleElement()
+                .satisfies(notification -> assertThat(notification.isRead()).isFalse());
+        assertThat(result.getUnavailableSections()).isEmpty();
+        verify(currentUserResolver, times(1)).resolveId(TRAINER_EMAIL);
+        verify(entityManager, times(5)).setProperty("jakarta.persistence.query.timeout", 200);
+    }
+
+    @Test
+    void getDashboard_shouldRecordSectionQueriesInRequestDbTiming() {
+        stubAllSections();
+        when(notificationRepository.findUnreadDashboardRowsByRecipientId(TRAINER_ID)).thenAnswer(invocation -> {
+            DbTimingContext.current().record("select notifications", 1_000_000);
+            return List.of();
+        });
+        when(reservationRepository.findDashboardClientRowsByTrainerId(eq(TRAINER_ID), any(), any())).thenAnswer(invocation -> {
+            DbTimingContext.current().record("select clients", 2_000_000);
+            return List.of();
+        });
+        RequestDbTiming timing = DbTimingContext.begin();
+
+        trainerDashboardService.getDashboard(TRAINER_EMAIL, date);
+
+        assertThat(timing.getStatementCount()).isEqualTo(2);
+        assertThat(timing.getTotalNanos()).isEqualTo(3_000_000);
+        assertThat(timing.getSlowestSql()).isEqualTo("select clients");
+    }
+
+    @Test
+    void getDashboard_whenSectionFails_shouldReportItUnavailable() {
+        stubAllSections();
+        when(reservationRepository.findDashboardClientRowsByTrainerId(eq(TRAINER_ID), any(), any()))
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        TrainerDashboardDTO result = trainerDashboardService.getDashboard(TRAINER_EMAIL, date);
+
+        assertThat(result.getClients()).isNull();
+        assertThat(result.getWeeklySchedule()).hasSize(2);
+        assertThat(result.getUnreadNotifications()).hasSize(1);
+        assertThat(result.getUnavailableSections()).containsExactly("clients");
+        assertThat(meterRegistry.get("fithub.trainer.dashboard.section")
+                .tags("section", "clients", "outcome", "error").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void getDashboard_whenSectionExceedsBudget_shouldReturnWithoutIt() throws InterruptedException {
+        stubAllSections();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        when(notificationRepository.findUnreadDashboardRowsByRecipientId(TRAINER_ID)).thenAnswer(invocation -> {
+            try {
+                Thread.sleep(2000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+            return List.of();
+        });
+
+        long started = System.nanoTime();
+        TrainerDashboardDTO result = trainerDashboardService.getDashboard(TRAINER_EMAIL, date);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertThat(elapsedMillis).isLessThan(1500);
+        assertThat(result.getUnreadNotifications()).isNull();
+        assertThat(result.getPersonalSessions()).hasSize(1);
+        assertThat(result.getUnavailableSections()).containsExactly("unreadNotifications");
+        assertThat(meterRegistry.get("fithub.trainer.dashboard.section")
+                .tags("section", "unreadNotifications", "outcome", "timeout").timer().count()).isEqualTo(1);
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void getDashboard_whenScheduleFails_shouldReportDailyAndWeeklyUnavailable() {
+        stubAllSections();
+        when(trainingClassRepository.findDashboardRowsByTrainerIdAndDateRange(eq(TRAINER_ID), any(), any()))
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        TrainerDashboardDTO result = trainerDashboardService.getDashboard(TRAINER_EMAIL, date);
+
+        assertThat(result.getDailySchedule()).isNull();
+        assertThat(result.getWeeklySchedule()).isNull();
+        assertThat(result.getUnavailableSections()).containsExactly("dailySchedule", "weeklySchedule");
+    }
+
+    private void stubAllSections() {
+        LocalDateTime today = date.atTime(9, 0);
+        lenient().when(trainingClassRepository.findDashboardRowsByTrainerIdAndDateRange(
+                        TRAINER_ID, date.atStartOfDay(), date.plusDays(6).atTime(LocalTime.MAX)))
+                .thenReturn(List.of(
+                        new DashboardClassRow(1L, "trainingClass1", "description1", "trainer1", "trainer1",
+                                "room1", today, today.plusHours(1), 15, 3L, 4.5, "SCHEDULED"),
+                        new DashboardClassRow(2L, "trainingClass2", "description2", "trainer1", "trainer1",
+                                "room1", today.plusDays(2), today.plusDays(2).plusHours(1), 10, 0L, null, "SCHEDULED")));
+        lenient().when(personalTrainingSessionRepository.findDashboardRowsByTrainerIdAndDateRange(eq(TRAINER_ID), any(), any()))
+                .thenReturn(List.of(new DashboardSessionRow(1L, 2L, "user1", "user1", today.plusHours(3),
+                        today.plusHours(4), "goal1", null, "SCHEDULED", today.minusDays(1), null)));
+        lenient().when(scheduleChangeRequestRepository.findDashboardRowsByTrainerIdAndStatus(TRAINER_ID, "PENDING"))
+                .thenReturn(List.of(new DashboardChangeRequestRow(1L, 1L, "MODIFY", "reason1", "trainingClass1",
+                        "description1", today.plusDays(1), today.plusDays(1).plusHours(1), 15, 1L, "room1",
+                        "PENDING", today.minusDays(1))));
+        lenient().when(reservationRepository.findDashboardClientRowsByTrainerId(eq(TRAINER_ID), any(), any()))
+                .thenReturn(List.of(new DashboardClientRow(2L, "user1@gmail.com", "user1", "user1", "1111111111")));
+        lenient().when(notificationRepository.findUnreadDashboardRowsByRecipientId(TRAINER_ID))
+                .thenReturn(List.of(new DashboardNotificationRow(1L, "message1", today.minusHours(1), false,
+                        TRAINER_EMAIL)));
+    }
+}
@@ -510,39 +510,53 @@ class TrainerServiceTest {
     @Test
     void getClassRegistrations_withValidClass_shouldReturnRegistrations() {
         when(userRepository.findByEmail("trainer1@gmail.com")).thenReturn(Optional.of(trainer));
-        when(trainingClassRepository.findById(1L)).thenReturn(Optional.of(trainingClass));
-        when(userMapper.toDto(client)).thenReturn(userProfileDTO);
+        when(reservationRepository.findConfirmedRosterByClassIdAndTrainerId(1L, trainer.getId()))
+                .thenReturn(List.of(userProfileDTO));
 
         List<UserProfileDTO> result = trainerService.getClassRegistrations("trainer1@gmail.com", 1L);
 
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0)).isEqualTo(userProfileDTO);
-        verify(trainingClassRepository).findById(1L);
-        verify(userMapper).toDto(client);
+        assertThat(result).containsExactly(userProfileDTO);
+        verify(trainingClassRepository, never()).findById(anyLong());
+        verify(trainingClassRepository, never()).existsByIdAndTrainerId(anyLong(), anyLong());
+        verify(userMapper, never()).toDto(any());
     }
 
     @Test
-    void getClassRegistrations_withNotOwnClass_shouldThrowException() {
-        User otherTrainer = User.builder()
-                .id(4L)
-                .email("other@gmail.com")
-                .roles(new HashSet<>(Set.of(trainerRole)))
-                .build();
+    void getClassRegistrations_withOwnClassWithoutRegistrations_shouldReturnEmptyList() {
+        when(userRepository.findByEmail("trainer1@gmail.com")).thenReturn(Optional.of(trainer));
+        when(reservationRepository.findConfirmedRosterByClassIdAndTrainerId(1L, trainer.getId()))
+                .thenReturn(List.of());
+        when(trainingClassRepository.existsByIdAndTrainerId(1L, trainer.getId())).thenReturn(true);
 
-        TrainingClass otherTrainerClass = TrainingClass.builder()
-                .id(1L)
-                .name("trainingClass1")
-                .trainer(otherTrainer)
-                .reservations(new HashSet<>())
-                .build();
+        List<UserProfileDTO> result = trainerService.getClassRegistrations("trainer1@gmail.com", 1L);
+
+        assertThat(result).isEmpty();
+        verify(trainingClassRepository, never()).existsById(anyLong());
+    }
 
+    @Test
+    void getClassRegistrations_withNotOwnClass_shouldThrowException() {
         when(userRepository.findByEmail("trainer1@gmail.com")).thenReturn(Optional.of(trainer));
-        when(trainingClassRepository.findById(1L)).thenReturn(Optional.of(otherTrainerClass));
+        when(reservationRepository.findConfirmedRosterByClassIdAndTrainerId(1L, trainer.getId()))
+                .thenReturn(List.of());
+        when(trainingClassRepository.existsByIdAndTrainerId(1L, trainer.getId())).thenReturn(false);
+        when(trainingClassRepository.existsById(1L)).thenReturn(true);
 
         assertThatThrownBy(() -> trainerService.getClassRegistrations("trainer1@gmail.com", 1L))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("You can only view registrations for your own classes");
+    }
 
-        verify(userMapper, never()).toDto(any());
+    @Test
+    void getClassRegistrations_withNonExistentClass_shouldThrowException() {
+        when(userRepository.findByEmail("trainer1@gmail.com")).thenReturn(Optional.of(trainer));
+        when(reservationRepository.findConfirmedRosterByClassIdAndTrainerId(999L, trainer.getId()))
+                .thenReturn(List.of());
+        when(trainingClassRepository.existsByIdAndTrainerId(999L, trainer.getId())).thenReturn(false);
+        when(trainingClassRepository.existsById(999L)).thenReturn(false);
+
+        assertThatThrownBy(() -> trainerService.getClassRegistrations("trainer1@gmail.com", 999L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessageContaining("Training class not found");
     }
 }
\ No newline at end of file
@@ -6,10 +6,14 @@ import com.naivez.fithub.entity.Role;
 import com.naivez.fithub.entity.Room;
 import com.naivez.fithub.entity.TrainingClass;
 import com.naivez.fithub.entity.User;
+import com.naivez.fithub.exception.InvalidStatusException;
 import com.naivez.fithub.mapper.TrainingClassMapper;
+import com.naivez.fithub.repository.ReservationRepository;
 import com.naivez.fithub.repository.RoomRepository;
 import com.naivez.fithub.repository.TrainingClassRepository;
 import com.naivez.fithub.repository.UserRepository;
+import com.naivez.fithub.service.ClassCancellationService;
+import com.naivez.fithub.service.OccupancyRollupService;
 import com.naivez.fithub.service.TrainingClassService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -38,6 +42,9 @@ class TrainingClassServiceTest {
     @Mock
     private TrainingClassRepository trainingClassRepository;
 
+    @Mock
+    private ReservationRepository reservationRepository;
+
     @Mock
     private UserRepository userRepository;
 
@@ -47,6 +54,12 @@ class TrainingClassServiceTest {
     @Mock
     private TrainingClassMapper trainingClassMapper;
 
+    @Mock
+    private OccupancyRollupService occupancyRollupService;
+
+    @Mock
+    private ClassCancellationService classCancellationService;
+
     @InjectMocks
     private TrainingClassService trainingClassService;
 
@@ -307,6 +320,7 @@ class TrainingClassServiceTest {
         verify(trainingClassMapper).toEntity(testTrainingClassRequest);
         verify(trainingClassRepository).save(testTrainingClass);
         verify(trainingClassMapper).toDto(testTrainingClass);
+        verify(occupancyRollupService).classScheduled(testTrainingClass);
     }
 
     @Test
@@ -368,7 +382,7 @@ class TrainingClassServiceTest {
                 .availableSpots(20)
                 .build();
 
-        when(trainingClassRepository.findById(1L)).thenReturn(Optional.of(testTrainingClass));
+        when(trainingClassRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testTrainingClass));
         when(userRepository.findById(1L)).thenReturn(Optional.of(testTrainer));
         when(roomRepository.findById(1L)).thenReturn(Optional.of(testRoom));
         when(trainingClassRepository.save(testTrainingClass)).thenReturn(updatedClass);
@@ -377,7 +391,7 @@ class TrainingClassServiceTest {
         TrainingClassDTO result = trainingClassService.updateTrainingClass(1L, updateRequest);
 
         assertThat(result).isEqualTo(updatedDTO);
-        verify(trainingClassRepository).findById(1L);
+        verify(trainingClassRepository).findByIdForUpdate(1L);
         verify(userRepository).findById(1L);
         verify(roomRepository).findById(1L);
         verify(trainingClassMapper).updateFromRequest(updateRequest, testTrainingClass);
@@ -387,36 +401,50 @@ class TrainingClassServiceTest {
 
     @Test
     void updateTrainingClass_whenClassNotFound_shouldThrowException() {
-        when(trainingClassRepository.findById(999L)).thenReturn(Optional.empty());
+        when(trainingClassRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> trainingClassService.updateTrainingClass(999L, testTrainingClassRequest))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Training class not found");
 
-        verify(trainingClassRepository).findById(999L);
+        verify(trainingClassRepository).findByIdForUpdate(999L);
         verify(userRepository, never()).findById(anyLong());
         verify(trainingClassRepository, never()).save(any());
     }
 
     @Test
-    void deleteTrainingClass_withExistingId_shouldDeleteClass() {
-        when(trainingClassRepository.existsById(1L)).thenReturn(true);
+    void updateTrainingClass_whenClassCancelled_shouldThrowException() {
+        testTrainingClass.setStatus("CANCELLED");
+        when(trainingClassRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testTrainingClass));
+
+        assertThatThrownBy(() -> trainingClassService.updateTrainingClass(1L, testTrainingClassRequest))
+                .isInstanceOf(InvalidStatusException.class)
+                .hasMessage("Training class is already cancelled");
+
+        verify(occupancyRollupService, never()).classRemoved(any());
+        verify(reservationRepository, never()).updateClassStartTime(any(), any());
+        verify(trainingClassRepository, never()).save(any());
+    }
+
+    @Test
+    void cancelTrainingClass_withExistingId_shouldCancelClass() {
+        when(trainingClassRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testTrainingClass));
 
-        trainingClassService.deleteTrainingClass(1L);
+        trainingClassService.cancelTrainingClass(1L);
 
-        verify(trainingClassRepository).existsById(1L);
-        verify(trainingClassRepository).deleteById(1L);
+        verify(classCancellationService).cancelClass(testTrainingClass);
+        verify(trainingClassRepository, never()).delete(any());
     }
 
     @Test
-    void deleteTrainingClass_whenClassNotFound_shouldThrowException() {
-        when(trainingClassRepository.existsById(999L)).thenReturn(false);
+    void cancelTrainingClass_whenClassNotFound_shouldThrowException() {
+        when(trainingClassRepository.findByIdForUpdate(999L)).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> trainingClassService.deleteTrainingClass(999L))
+        assertThatThrownBy(() -> trainingClassService.cancelTrainingClass(999L))
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Training class not found");
 
-        verify(trainingClassRepository).existsById(999L);
-        verify(trainingClassRepository, never()).deleteById(anyLong());
+        verify(trainingClassRepository).findByIdForUpdate(999L);
+        verifyNoInteractions(classCancellationService);
     }
 }
\ No newline at end of file
@@ -0,0 +1,217 @@
+package com.naivez.fithub.unit.service;
+
+import com.naivez.fithub.dto.WaitlistEntryDTO;
+import com.naivez.fithub.entity.Reservation;
+import com.naivez.fithub.entity.TrainingClass;
+import com.naivez.fithub.entity.User;
+import com.naivez.fithub.entity.WaitlistEntry;
+import com.naivez.fithub.exception.AlreadyOnWaitlistException;
+import com.naivez.fithub.exception.InvalidRequestDataException;
+import com.naivez.fithub.exception.WaitlistFullException;
+import com.naivez.fithub.repository.ReservationRepository;
+import com.naivez.fithub.repository.TrainingClassRepository;
+import com.naivez.fithub.repository.WaitlistEntryRepository;
+import com.naivez.fithub.security.CurrentUserResolver;
+import com.naivez.fithub.service.MembershipService;
+import com.naivez.fithub.service.NotificationService;
+import com.naivez.fithub.service.OccupancyRollupService;
+import com.naivez.fithub.service.WaitlistService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistServiceTest {
+
+    @Mock
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Mock
+    private TrainingClassRepository trainingClassRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private CurrentUserResolver currentUserResolver;
+
+    @Mock
+    private MembershipService membershipService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private OccupancyRollupService occupancyRollupService;
+
+    @InjectMocks
+    private WaitlistService waitlistService;
+
+    private User testUser;
+    private TrainingClass testClass;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(waitlistService, "maxWaitlistSize", 2);
+
+        testUser = User.builder()
+                .id(1L)
+                .email("user1@gmail.com")
+                .roles(new HashSet<>())
+                .build();
+
+        testClass = TrainingClass.builder()
+                .id(1L)
+                .name("trainingClass1")
+                .startTime(LocalDateTime.now().plusDays(1))
+                .endTime(LocalDateTime.now().plusDays(1).plusHours(1))
+                .capacity(10)
+                .reservations(new HashSet<>())
+                .build();
+    }
+
+    @Test
+    void joinWaitlist_whenClassFull_shouldAppendToTail() {
+        stubJoinPreconditions();
+        when(reservationRepository.countConfirmedReservationsByClassId(1L)).thenReturn(10L);
+        when(waitlistEntryRepository.countByTrainingClassId(1L)).thenReturn(1L);
+        when(waitlistEntryRepository.findMaxPosition(1L)).thenReturn(7L);
+        when(waitlistEntryRepository.save(any(WaitlistEntry.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        WaitlistEntryDTO result = waitlistService.joinWaitlist("user1@gmail.com", 1L);
+
+        assertThat(result.getPosition()).isEqualTo(2);
+        assertThat(result.getWaitlistSize()).isEqualTo(2);
+        verify(waitlistEntryRepository).save(argThat(entry -> entry.getPosition() == 8L && entry.getUser() == testUser));
+    }
+
+    @Test
+    void joinWaitlist_whenClassHasFreeSpots_shouldThrowException() {
+        stubJoinPreconditions();
+        when(reservationRepository.countConfirmedReservationsByClassId(1L)).thenReturn(9L);
+
+        assertThatThrownBy(() -> waitlistService.joinWaitlist("user1@gmail.com", 1L))
+                .isInstanceOf(InvalidRequestDataException.class);
+
+        verify(waitlistEntryRepository, never()).save(any());
+    }
+
+    @Test
+    void joinWaitlist_whenWaitlistFull_shouldThrowException() {
+        stubJoinPreconditions();
+        when(reservationRepository.countConfirmedReservationsByClassId(1L)).thenReturn(10L);
+        when(waitlistEntryRepository.countByTrainingClassId(1L)).thenReturn(2L);
+
+        assertThatThrownBy(() -> waitlistService.joinWaitlist("user1@gmail.com", 1L))
+                .isInstanceOf(WaitlistFullException.class);
+
+        verify(waitlistEntryRepository, never()).save(any());
+    }
+
+    @Test
+    void joinWaitlist_whenAlreadyWaiting_shouldThrowException() {
+        stubJoinPreconditions();
+        when(waitlistEntryRepository.existsByTrainingClassIdAndUserId(1L, 1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> waitlistService.joinWaitlist("user1@gmail.com", 1L))
+                .isInstanceOf(AlreadyOnWaitlistException.class);
+    }
+
+    @Test
+    void getWaitlistPosition_shouldCountEntriesAhead() {
+        WaitlistEntry entry = entry(testUser, 12L);
+        when(currentUserResolver.resolveId("user1@gmail.com")).thenReturn(testUser.getId());
+        when(waitlistEntryRepository.findByTrainingClassIdAndUserId(1L, 1L)).thenReturn(Optional.of(entry));
+        when(waitlistEntryRepository.countAhead(1L, 12L)).thenReturn(3L);
+        when(waitlistEntryRepository.countByTrainingClassId(1L)).thenReturn(6L);
+
+        WaitlistEntryDTO result = waitlistService.getWaitlistPosition("user1@gmail.com", 1L);
+
+        assertThat(result.getPosition()).isEqualTo(4);
+        assertThat(result.getWaitlistSize()).isEqualTo(6);
+    }
+
+    @Test
+    void promoteNext_shouldBookHeadAndNotifyUser() {
+        User other = User.builder().id(2L).email("user2@gmail.com").build();
+        WaitlistEntry head = entry(testUser, 1L);
+        WaitlistEntry next = entry(other, 2L);
+        when(trainingClassRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testClass));
+        when(reservationRepository.countConfirmedReservationsByClassId(1L)).thenReturn(9L);
+        when(waitlistEntryRepository.findQueue(1L)).thenReturn(List.of(head, next));
+        when(membershipService.hasActiveMembership(1L)).thenReturn(true);
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Optional<Reservation> result = waitlistService.promoteNext(1L);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getUser()).isEqualTo(testUser);
+        assertThat(result.get().getStatus()).isEqualTo("CONFIRMED");
+        verify(waitlistEntryRepository).delete(head);
+        verify(waitlistEntryRepository, never()).delete(next);
+        verify(occupancyRollupService).reservationConfirmed(testClass);
+        verify(notificationService).createNotification(eq(testUser), contains("trainingClass1"));
+    }
+
+    @Test
+    void promoteNext_shouldSkipUsersWithoutActiveMembership() {
+        User other = User.builder().id(2L).email("user2@gmail.com").build();
+        WaitlistEntry head = entry(testUser, 1L);
+        WaitlistEntry next = entry(other, 2L);
+        when(trainingClassRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testClass));
+        when(reservationRepository.countConfirmedReservationsByClassId(1L)).thenReturn(9L);
+        when(waitlistEntryRepository.findQueue(1L)).thenReturn(List.of(head, next));
+        when(membershipService.hasActiveMembership(1L)).thenReturn(false);
+        when(membershipService.hasActiveMembership(2L)).thenReturn(true);
+        when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Optional<Reservation> result = waitlistService.promoteNext(1L);
+
+        assertThat(result).isPresent();
+        assertThat(result.get().getUser()).isEqualTo(other);
+        verify(waitlistEntryRepository).delete(head);
+        verify(waitlistEntryRepository).delete(next);
+    }
+
+    @Test
+    void promoteNext_whenClassStillFull_shouldDoNothing() {
+        when(trainingClassRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testClass));
+        when(reservationRepository.countConfirmedReservationsByClassId(1L)).thenReturn(10L);
+
+        Optional<Reservation> result = waitlistService.promoteNext(1L);
+
+        assertThat(result).isEmpty();
+        verify(waitlistEntryRepository, never()).findQueue(any());
+        verify(reservationRepository, never()).save(any());
+    }
+
+    private void stubJoinPreconditions() {
+        when(currentUserResolver.resolve("user1@gmail.com")).thenReturn(testUser);
+        when(membershipService.hasActiveMembership(1L)).thenReturn(true);
+        when(trainingClassRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testClass));
+    }
+
+    private WaitlistEntry entry(User user, long position) {
+        return WaitlistEntry.builder()
+                .trainingClass(testClass)
+                .user(user)
+                .position(position)
+                .joinedAt(LocalDateTime.now())
+                .build();
+    }
+}